@@ -0,0 +1,84 @@
+package com.sparta.areadevelopment.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.areadevelopment.entity.Board;
+import com.sparta.areadevelopment.entity.Comment;
+import com.sparta.areadevelopment.entity.User;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 게시글/댓글 응답 DTO 변환과 JSON 직렬화 벤치마크
+ * <p>
+ * 직렬화는 기본 페이지 크기(20)의 커서 페이지 응답 하나를 기준으로 하며, ObjectMapper 는 Spring Boot 와 같은 설정(Jackson2ObjectMapperBuilder)을
+ * 사용합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResponseDtoBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    private ObjectMapper objectMapper;
+    private Board board;
+    private Comment comment;
+    private CursorPageResponseDto<BoardResponseDto> boardPage;
+    private CursorPageResponseDto<CommentResponseDto> commentPage;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        LocalDateTime now = LocalDateTime.now();
+
+        User user = new User("TestUser1234", "TestUser", "aBcde123!56", "test@email.com", "info");
+        board = new Board(user, new BoardRequestDto("Test Title", "Test Content ".repeat(20)));
+        ReflectionTestUtils.setField(board, "id", 1L);
+        ReflectionTestUtils.setField(board, "createdAt", now);
+        comment = new Comment("Test Comment", board, user);
+        ReflectionTestUtils.setField(comment, "id", 1L);
+        ReflectionTestUtils.setField(comment, "createdAt", now);
+        ReflectionTestUtils.setField(comment, "modifiedAt", now);
+
+        List<BoardResponseDto> boards = new ArrayList<>(PAGE_SIZE);
+        List<CommentResponseDto> comments = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            boards.add(new BoardResponseDto(board));
+            comments.add(new CommentResponseDto(comment));
+        }
+        boardPage = new CursorPageResponseDto<>(boards, "MTcxOTg5NjQwMDAwMF8x", true);
+        commentPage = new CursorPageResponseDto<>(comments, "MTcxOTg5NjQwMDAwMF8x", true);
+    }
+
+    @Benchmark
+    public BoardResponseDto boardMapping() {
+        return new BoardResponseDto(board);
+    }
+
+    @Benchmark
+    public CommentResponseDto commentMapping() {
+        return new CommentResponseDto(comment);
+    }
+
+    @Benchmark
+    public byte[] serializeBoardPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(boardPage);
+    }
+
+    @Benchmark
+    public byte[] serializeCommentPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(commentPage);
+    }
+}
@@ -0,0 +1,27 @@
+package com.sparta.areadevelopment.enums;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 좋아요 요청마다 PathVariable 을 변환하는 LikeTypeEnum.fromContentType 벤치마크
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LikeTypeEnumBenchmark {
+
+    @Param({"board", "COMMENT"})
+    private String contentType;
+
+    @Benchmark
+    public LikeTypeEnum fromContentType() {
+        return LikeTypeEnum.fromContentType(contentType);
+    }
+}
@@ -0,0 +1,94 @@
+package com.sparta.areadevelopment.filter;
+
+import com.sparta.areadevelopment.enums.AuthEnum;
+import com.sparta.areadevelopment.jwt.AuthenticationCache;
+import com.sparta.areadevelopment.jwt.ParsedToken;
+import com.sparta.areadevelopment.jwt.TokenProvider;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * JwtAuthenticationFilter.doFilter 벤치마크
+ * <p>
+ * cachedToken 은 이미 검증한 토큰(AuthenticationCache 적중)으로 요청하는 대부분의 경우이고, firstSeenToken 은 처음 보는 토큰을 파싱하고
+ * 캐시하는 경우입니다. 사용자 조회(DB)는 빼고 필터 자체의 비용만 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET_KEY = Base64.getEncoder().encodeToString(
+            "benchmark-secret-key-benchmark-secret-key-0123456789".getBytes(StandardCharsets.UTF_8));
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    private JwtAuthenticationFilter cachedFilter;
+    private JwtAuthenticationFilter firstSeenFilter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        Authentication authentication = new UsernamePasswordAuthenticationToken("TestUser1234",
+                "", List.of());
+        // 사용자 조회 없이 토큰의 subject 로 바로 Authentication 을 만듭니다.
+        TokenProvider tokenProvider = new TokenProvider(SECRET_KEY, null) {
+            @Override
+            public Authentication getAuthentication(ParsedToken parsedToken) {
+                return authentication;
+            }
+        };
+        String accessToken = tokenProvider.generateToken(authentication).getAccessToken();
+
+        cachedFilter = new JwtAuthenticationFilter(tokenProvider, new AuthenticationCache(100));
+        // 항상 캐시에 없는 것처럼 동작해 매번 파싱합니다.
+        firstSeenFilter = new JwtAuthenticationFilter(tokenProvider, new AuthenticationCache(100) {
+            @Override
+            public Authentication get(String token) {
+                return null;
+            }
+        });
+
+        request = new MockHttpServletRequest("GET", "/api/boards");
+        request.addHeader(AuthEnum.ACCESS_TOKEN.getValue(), accessToken);
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public void cachedToken(Blackhole blackhole) throws ServletException, IOException {
+        filter(cachedFilter, blackhole);
+    }
+
+    @Benchmark
+    public void firstSeenToken(Blackhole blackhole) throws ServletException, IOException {
+        filter(firstSeenFilter, blackhole);
+    }
+
+    // 요청이 끝날 때처럼 SecurityContext 를 비웁니다. (Level.Invocation 정리는 마이크로초 단위 측정을 왜곡합니다)
+    private void filter(JwtAuthenticationFilter filter, Blackhole blackhole)
+            throws ServletException, IOException {
+        filter.doFilter(request, response, NO_OP_CHAIN);
+        blackhole.consume(SecurityContextHolder.getContext().getAuthentication());
+        SecurityContextHolder.clearContext();
+    }
+}
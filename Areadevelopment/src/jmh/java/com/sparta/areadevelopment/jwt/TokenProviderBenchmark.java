@@ -0,0 +1,83 @@
+package com.sparta.areadevelopment.jwt;
+
+import com.sparta.areadevelopment.dto.TokenDto;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+/**
+ * JwtAuthenticationFilter 의 토큰 검증 경로 벤치마크
+ * <p>
+ * legacyFilterPath 는 요청마다 parser 를 새로 만들어 validateToken, getAuthentication, getExpiration 에서 같은 토큰을 세 번
+ * 파싱하던 기존 방식이고, parseOnce 는 미리 만들어 둔 parser 로 한 번만 파싱하는 현재 방식입니다. generateToken 은 로그인/재발급시
+ * 엑세스/리프레시 토큰 발급, validateToken 은 재발급시 토큰 검증 비용입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TokenProviderBenchmark {
+
+    private static final String SECRET_KEY = Base64.getEncoder().encodeToString(
+            "benchmark-secret-key-benchmark-secret-key-0123456789".getBytes(StandardCharsets.UTF_8));
+
+    private Key key;
+    private TokenProvider tokenProvider;
+    private Authentication authentication;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET_KEY));
+        tokenProvider = new TokenProvider(SECRET_KEY, null);
+        authentication = new UsernamePasswordAuthenticationToken("TestUser1234", "", List.of());
+        String accessToken = tokenProvider.generateToken(authentication).getAccessToken();
+        token = accessToken.substring(7);
+    }
+
+    @Benchmark
+    public void legacyFilterPath(Blackhole blackhole) {
+        // validateToken
+        Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+        // getAuthentication -> parseClaims
+        Claims subjectClaims = Jwts.parserBuilder().setSigningKey(key).build()
+                .parseClaimsJws(token).getBody();
+        blackhole.consume(subjectClaims.getSubject());
+        // getExpiration -> parseClaims
+        Claims expirationClaims = Jwts.parserBuilder().setSigningKey(key).build()
+                .parseClaimsJws(token).getBody();
+        blackhole.consume(expirationClaims.getExpiration());
+    }
+
+    @Benchmark
+    public void parseOnce(Blackhole blackhole) {
+        ParsedToken parsedToken = tokenProvider.parse(token);
+        blackhole.consume(parsedToken.getSubject());
+        blackhole.consume(parsedToken.getExpiration());
+    }
+
+    @Benchmark
+    public TokenDto generateToken() {
+        return tokenProvider.generateToken(authentication);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return tokenProvider.validateToken(token);
+    }
+}
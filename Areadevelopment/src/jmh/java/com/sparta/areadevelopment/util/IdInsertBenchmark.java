@@ -0,0 +1,244 @@
+package com.sparta.areadevelopment.util;
+
+import com.sparta.areadevelopment.entity.TimeSortedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.Table;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+/**
+ * 댓글 INSERT 처리량 벤치마크 (H2 메모리 DB, MySQL 모드)
+ * <p>
+ * identityPerRow 는 기존 IDENTITY 방식처럼 행마다 INSERT 를 실행하고 생성된 고유번호를 받아오고, timeSortedBatch 는
+ * {@link TimeSortedIdGenerator} 로 고유번호를 미리 만들어 hibernate.jdbc.batch_size(50) 만큼 모아 실행하는 현재 방식을 JDBC 로만
+ * 흉내냅니다. identitySaveAll, timeSortedSaveAll 은 같은 비교를 애플리케이션과 같은 설정(batch_size 50, order_inserts)의
+ * EntityManager 로 saveAll 후 flush 해서 측정하므로, Hibernate 가 IDENTITY 에서 배치를 끄고 {@link TimeSortedId} 에서 배치로
+ * 보내는 차이까지 포함됩니다. 메모리 DB 라 네트워크 왕복 비용이 빠져 있으므로 실제 MySQL 에서는 차이가 더 커집니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class IdInsertBenchmark {
+
+    private static final int ROWS = 1000;
+    private static final int BATCH_SIZE = 50;
+
+    private static final String URL =
+            "jdbc:h2:mem:id_insert_benchmark;MODE=MySQL;DATABASE_TO_LOWER=TRUE";
+
+    private Connection connection;
+    private EntityManagerFactory entityManagerFactory;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(URL, "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE identity_comments (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                    + "board_id BIGINT NOT NULL, content VARCHAR(255) NOT NULL, "
+                    + "created_at TIMESTAMP NOT NULL)");
+            statement.execute("CREATE TABLE time_sorted_comments (id BIGINT PRIMARY KEY, "
+                    + "board_id BIGINT NOT NULL, content VARCHAR(255) NOT NULL, "
+                    + "created_at TIMESTAMP NOT NULL)");
+        }
+
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(new DriverManagerDataSource(URL, "sa", ""));
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setManagedTypes(PersistenceManagedTypes.of(IdentityComment.class.getName(),
+                TimeSortedComment.class.getName()));
+        factory.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "create",
+                "hibernate.jdbc.batch_size", BATCH_SIZE,
+                "hibernate.order_inserts", true));
+        factory.afterPropertiesSet();
+        entityManagerFactory = factory.getObject();
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("TRUNCATE TABLE identity_comments");
+            statement.execute("TRUNCATE TABLE time_sorted_comments");
+            statement.execute("TRUNCATE TABLE jpa_identity_comments");
+            statement.execute("TRUNCATE TABLE jpa_time_sorted_comments");
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        entityManagerFactory.close();
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void identityPerRow(Blackhole blackhole) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO identity_comments (board_id, content, created_at) VALUES (?, ?, ?)",
+                Statement.RETURN_GENERATED_KEYS)) {
+            Timestamp now = new Timestamp(System.currentTimeMillis());
+            for (int i = 0; i < ROWS; i++) {
+                insert.setLong(1, i % 10);
+                insert.setString(2, "Test Comment");
+                insert.setTimestamp(3, now);
+                insert.executeUpdate();
+                try (ResultSet keys = insert.getGeneratedKeys()) {
+                    keys.next();
+                    blackhole.consume(keys.getLong(1));
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void timeSortedBatch(Blackhole blackhole) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO time_sorted_comments (id, board_id, content, created_at) "
+                        + "VALUES (?, ?, ?, ?)")) {
+            Timestamp now = new Timestamp(System.currentTimeMillis());
+            for (int i = 0; i < ROWS; i++) {
+                long id = TimeSortedIdGenerator.nextId();
+                insert.setLong(1, id);
+                insert.setLong(2, i % 10);
+                insert.setString(3, "Test Comment");
+                insert.setTimestamp(4, now);
+                insert.addBatch();
+                blackhole.consume(id);
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void identitySaveAll(Blackhole blackhole) {
+        saveAll(IdentityComment.class, IdentityComment::new, blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void timeSortedSaveAll(Blackhole blackhole) {
+        saveAll(TimeSortedComment.class, TimeSortedComment::new, blackhole);
+    }
+
+    // 서비스 트랜잭션처럼 EntityManager 하나에서 saveAll 후 flush, 커밋합니다.
+    private <T extends BenchmarkComment> void saveAll(Class<T> type,
+            BiFunction<Long, LocalDateTime, T> constructor, Blackhole blackhole) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            LocalDateTime now = LocalDateTime.now();
+            List<T> comments = new ArrayList<>(ROWS);
+            for (int i = 0; i < ROWS; i++) {
+                comments.add(constructor.apply((long) (i % 10), now));
+            }
+            new SimpleJpaRepository<>(type, entityManager).saveAll(comments);
+            entityManager.flush();
+            entityManager.getTransaction().commit();
+            comments.forEach(comment -> blackhole.consume(comment.getId()));
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    /**
+     * 벤치마크용 댓글 엔티티의 공통 컬럼
+     */
+    @MappedSuperclass
+    public abstract static class BenchmarkComment {
+
+        private Long boardId;
+        private String content;
+        private LocalDateTime createdAt;
+
+        protected BenchmarkComment() {
+        }
+
+        protected BenchmarkComment(Long boardId, LocalDateTime createdAt) {
+            this.boardId = boardId;
+            this.content = "Test Comment";
+            this.createdAt = createdAt;
+        }
+
+        public abstract Long getId();
+    }
+
+    @Entity
+    @Table(name = "jpa_identity_comments")
+    public static class IdentityComment extends BenchmarkComment {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+
+        protected IdentityComment() {
+        }
+
+        IdentityComment(Long boardId, LocalDateTime createdAt) {
+            super(boardId, createdAt);
+        }
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+    }
+
+    @Entity
+    @Table(name = "jpa_time_sorted_comments")
+    public static class TimeSortedComment extends BenchmarkComment {
+
+        @Id
+        @TimeSortedId
+        private Long id;
+
+        protected TimeSortedComment() {
+        }
+
+        TimeSortedComment(Long boardId, LocalDateTime createdAt) {
+            super(boardId, createdAt);
+        }
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.sparta.areadevelopment.util;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 이메일 인증 코드 암호화(SHA256Util.getEncrypt) 벤치마크
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SHA256UtilBenchmark {
+
+    private final String source = "123456";
+    private final String salt = SHA256Util.createSalt();
+
+    @Benchmark
+    public String getEncrypt() {
+        return SHA256Util.getEncrypt(source, salt);
+    }
+}
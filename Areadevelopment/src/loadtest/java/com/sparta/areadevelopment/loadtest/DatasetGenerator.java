@@ -0,0 +1,172 @@
+package com.sparta.areadevelopment.loadtest;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 부하 테스트용 사용자/게시글/댓글/좋아요 데이터를 JdbcTemplate 배치 INSERT 로 만드는 클래스
+ * <p>
+ * 게시글 작성자와, 댓글/좋아요가 달리는 게시글은 Zipf 분포로 뽑아 소수의 사용자와 게시글에 몰리게 합니다. 게시글은 최근 72 시간 안에 고르게
+ * 작성되고 댓글은 게시글 작성 이후에 작성됩니다. comment_count, like_count 는 마지막에 만든 댓글/좋아요 수로 맞춥니다. 같은 시드면 같은 데이터가
+ * 만들어집니다.
+ */
+@Slf4j
+public class DatasetGenerator {
+
+    public static final String USERNAME_PREFIX = "loaduser";
+    public static final String PASSWORD = "Abcdef12345!";
+
+    private static final int BATCH_SIZE = 1000;
+    private static final long WINDOW_SECONDS = 72 * 60 * 60;
+    private static final long SEED = 20240612L;
+
+    private static final String USER_SQL = "INSERT INTO users (id, username, nickname, password, "
+            + "email, info, status, expired, created_at, modified_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, 'ACTIVE', FALSE, ?, ?)";
+    private static final String BOARD_SQL = "INSERT INTO boards (id, user_id, title, content, "
+            + "hits, like_count, comment_count, created_at, modified_at) "
+            + "VALUES (?, ?, ?, ?, 0, 0, 0, ?, ?)";
+    private static final String BOARD_COUNT_SQL =
+            "UPDATE boards SET comment_count = ?, like_count = ? WHERE id = ?";
+    private static final String COMMENT_SQL = "INSERT INTO comments (id, board_id, user_id, "
+            + "content, like_count, created_at, modified_at) VALUES (?, ?, ?, ?, 0, ?, ?)";
+    private static final String LIKE_SQL = "INSERT INTO likes (id, user_id, content_id, "
+            + "content_type, created_at) VALUES (?, ?, ?, 'BOARD', ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LoadTestConfig config;
+    private final Random random = new Random(SEED);
+
+    public DatasetGenerator(JdbcTemplate jdbcTemplate, LoadTestConfig config) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.config = config;
+    }
+
+    /**
+     * 데이터를 만듭니다.
+     *
+     * @param encodedPassword 모든 사용자가 사용할 암호화된 비밀번호 ({@link #PASSWORD})
+     * @return 부하 테스트에서 게시글을 고를때 사용할 인기도 분포
+     */
+    public ZipfSampler generate(String encodedPassword) {
+        int users = config.getUsers();
+        int boards = config.getBoards();
+        LocalDateTime now = LocalDateTime.now();
+        ZipfSampler authors = new ZipfSampler(users, config.getZipf(), SEED);
+        ZipfSampler popularity = new ZipfSampler(boards, config.getZipf(), SEED + 1);
+
+        long[] boardAuthors = new long[boards + 1];
+        LocalDateTime[] boardCreatedAt = new LocalDateTime[boards + 1];
+        for (int boardId = 1; boardId <= boards; boardId++) {
+            boardAuthors[boardId] = authors.next(random);
+            boardCreatedAt[boardId] = now.minusSeconds(
+                    (long) (random.nextDouble() * WINDOW_SECONDS));
+        }
+
+        insertUsers(users, encodedPassword, now);
+        insertBoards(boardAuthors, boardCreatedAt);
+        long[] commentCounts = insertComments(popularity, boardCreatedAt, now);
+        long[] likeCounts = insertLikes(popularity, boardAuthors, now);
+        updateBoardCounts(commentCounts, likeCounts);
+        log.warn("부하 테스트 데이터 생성 완료 {}", config);
+        return popularity;
+    }
+
+    private void insertUsers(int users, String encodedPassword, LocalDateTime now) {
+        Timestamp createdAt = Timestamp.valueOf(now.minusDays(30));
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (long userId = 1; userId <= users; userId++) {
+            rows.add(new Object[]{userId, USERNAME_PREFIX + userId, "loadnick" + userId,
+                    encodedPassword, USERNAME_PREFIX + userId + "@loadtest.local", "부하 테스트",
+                    createdAt, createdAt});
+            flushIfFull(USER_SQL, rows);
+        }
+        flush(USER_SQL, rows);
+    }
+
+    private long[] insertComments(ZipfSampler popularity, LocalDateTime[] boardCreatedAt,
+            LocalDateTime now) {
+        long[] counts = new long[boardCreatedAt.length];
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (long commentId = 1; commentId <= config.getComments(); commentId++) {
+            int boardId = (int) popularity.next(random);
+            counts[boardId]++;
+            Timestamp createdAt = Timestamp.valueOf(between(boardCreatedAt[boardId], now));
+            rows.add(new Object[]{commentId, boardId, 1L + random.nextInt(config.getUsers()),
+                    "댓글 내용 " + commentId, createdAt, createdAt});
+            flushIfFull(COMMENT_SQL, rows);
+        }
+        flush(COMMENT_SQL, rows);
+        return counts;
+    }
+
+    // (사용자, 게시글) 당 좋아요는 하나이고 본인 게시글에는 누르지 않으므로, 인기 게시글에서 겹치면 다시 뽑습니다.
+    private long[] insertLikes(ZipfSampler popularity, long[] boardAuthors, LocalDateTime now) {
+        long[] counts = new long[boardAuthors.length];
+        Set<Long> liked = new HashSet<>();
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        long likeId = 1;
+        long maxAttempts = config.getLikes() * 3L;
+        for (long attempt = 0; likeId <= config.getLikes() && attempt < maxAttempts; attempt++) {
+            int boardId = (int) popularity.next(random);
+            long userId = 1L + random.nextInt(config.getUsers());
+            if (userId == boardAuthors[boardId]
+                    || !liked.add(boardId * (config.getUsers() + 1L) + userId)) {
+                continue;
+            }
+            counts[boardId]++;
+            rows.add(new Object[]{likeId++, userId, boardId, Timestamp.valueOf(now)});
+            flushIfFull(LIKE_SQL, rows);
+        }
+        flush(LIKE_SQL, rows);
+        return counts;
+    }
+
+    private void insertBoards(long[] boardAuthors, LocalDateTime[] boardCreatedAt) {
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (int boardId = 1; boardId < boardAuthors.length; boardId++) {
+            Timestamp createdAt = Timestamp.valueOf(boardCreatedAt[boardId]);
+            rows.add(new Object[]{boardId, boardAuthors[boardId], "게시글제목" + boardId,
+                    "게시글내용" + boardId, createdAt, createdAt});
+            flushIfFull(BOARD_SQL, rows);
+        }
+        flush(BOARD_SQL, rows);
+    }
+
+    private void updateBoardCounts(long[] commentCounts, long[] likeCounts) {
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (int boardId = 1; boardId < commentCounts.length; boardId++) {
+            if (commentCounts[boardId] > 0 || likeCounts[boardId] > 0) {
+                rows.add(new Object[]{commentCounts[boardId], likeCounts[boardId], boardId});
+                flushIfFull(BOARD_COUNT_SQL, rows);
+            }
+        }
+        flush(BOARD_COUNT_SQL, rows);
+    }
+
+    private LocalDateTime between(LocalDateTime from, LocalDateTime to) {
+        long seconds = Duration.between(from, to).toSeconds();
+        return from.plusSeconds((long) (random.nextDouble() * seconds));
+    }
+
+    private void flushIfFull(String sql, List<Object[]> rows) {
+        if (rows.size() >= BATCH_SIZE) {
+            flush(sql, rows);
+        }
+    }
+
+    private void flush(String sql, List<Object[]> rows) {
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, rows);
+            rows.clear();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.sparta.areadevelopment.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.time.Duration;
+
+/**
+ * 부하 테스트에서 보내는 요청, 요청 형태는 api-test/user1.http 의 같은 이름 요청과 같습니다.
+ */
+public enum Endpoint {
+
+    /**
+     * 게시글 커서 페이지네이션 (최신순) 첫 페이지
+     */
+    FEED("feed") {
+        @Override
+        HttpRequest.Builder request(URI baseUri, long boardId) {
+            return HttpRequest.newBuilder(baseUri.resolve("/api/boards/feed/recently")).GET();
+        }
+    },
+
+    /**
+     * 게시글 단일조회
+     */
+    VIEW("view") {
+        @Override
+        HttpRequest.Builder request(URI baseUri, long boardId) {
+            return HttpRequest.newBuilder(baseUri.resolve("/api/boards/" + boardId)).GET();
+        }
+    },
+
+    /**
+     * 게시글 좋아요 등록 삭제
+     */
+    LIKE("like") {
+        @Override
+        HttpRequest.Builder request(URI baseUri, long boardId) {
+            return HttpRequest.newBuilder(baseUri.resolve("/api/likes"))
+                    .header("Content-Type", "application/json")
+                    .POST(BodyPublishers.ofString(
+                            "{\"contentId\": " + boardId + ", \"contentType\": \"board\"}"));
+        }
+    },
+
+    /**
+     * 댓글 등록
+     */
+    COMMENT("comment") {
+        @Override
+        HttpRequest.Builder request(URI baseUri, long boardId) {
+            return HttpRequest.newBuilder(baseUri.resolve("/api/boards/" + boardId + "/comments"))
+                    .header("Content-Type", "application/json")
+                    .POST(BodyPublishers.ofString("{\"content\": \"댓글 내용\"}"));
+        }
+    };
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final String name;
+
+    Endpoint(String name) {
+        this.name = name;
+    }
+
+    abstract HttpRequest.Builder request(URI baseUri, long boardId);
+
+    /**
+     * 요청을 만듭니다. 모든 요청에 로그인한 사용자의 토큰을 넣습니다.
+     *
+     * @param baseUri     애플리케이션 주소
+     * @param accessToken 엑세스 토큰 (Bearer 포함)
+     * @param boardId     대상 게시글 고유번호
+     * @return 요청
+     */
+    public HttpRequest build(URI baseUri, String accessToken, long boardId) {
+        return request(baseUri, boardId)
+                .header("Authorization", accessToken)
+                .timeout(TIMEOUT)
+                .build();
+    }
+
+    public static Endpoint fromName(String name) {
+        for (Endpoint endpoint : values()) {
+            if (endpoint.name.equalsIgnoreCase(name)) {
+                return endpoint;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 요청입니다. " + name);
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
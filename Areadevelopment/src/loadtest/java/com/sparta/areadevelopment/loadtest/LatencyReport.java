@@ -0,0 +1,76 @@
+package com.sparta.areadevelopment.loadtest;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청별 처리량과 응답시간 분위수를 모으는 클래스
+ * <p>
+ * 응답시간은 Micrometer Timer 로 기록하고, 측정 시간 동안의 분위수가 사라지지 않도록 분포 통계 유지 시간을 길게 잡습니다.
+ */
+public class LatencyReport {
+
+    private static final double[] PERCENTILES = {0.5, 0.9, 0.99, 0.999};
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final Map<Endpoint, Timer> timers = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, Counter> errors = new EnumMap<>(Endpoint.class);
+
+    public LatencyReport() {
+        for (Endpoint endpoint : Endpoint.values()) {
+            timers.put(endpoint, Timer.builder("loadtest.request")
+                    .tag("endpoint", endpoint.toString())
+                    .publishPercentiles(PERCENTILES)
+                    .distributionStatisticExpiry(Duration.ofDays(1))
+                    .register(registry));
+            errors.put(endpoint, Counter.builder("loadtest.request.errors")
+                    .tag("endpoint", endpoint.toString())
+                    .register(registry));
+        }
+    }
+
+    public void record(Endpoint endpoint, long elapsedNanos, boolean success) {
+        timers.get(endpoint).record(elapsedNanos, TimeUnit.NANOSECONDS);
+        if (!success) {
+            errors.get(endpoint).increment();
+        }
+    }
+
+    /**
+     * 요청별 결과를 표로 만듭니다. 응답시간 단위는 ms 입니다.
+     *
+     * @param elapsed 측정 시간
+     * @return 결과 표
+     */
+    public String format(Duration elapsed) {
+        double seconds = elapsed.toNanos() / 1_000_000_000.0;
+        StringBuilder builder = new StringBuilder(String.format(
+                "%-8s %10s %10s %8s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "req/s", "errors", "p50", "p90", "p99", "p99.9", "max"));
+        long totalCount = 0;
+        for (Endpoint endpoint : Endpoint.values()) {
+            Timer timer = timers.get(endpoint);
+            if (timer.count() == 0) {
+                continue;
+            }
+            totalCount += timer.count();
+            HistogramSnapshot snapshot = timer.takeSnapshot();
+            builder.append(String.format("%-8s %10d %10.1f %8d", endpoint, timer.count(),
+                    timer.count() / seconds, (long) errors.get(endpoint).count()));
+            for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+                builder.append(String.format(" %9.2f", percentile.value(TimeUnit.MILLISECONDS)));
+            }
+            builder.append(String.format(" %9.2f%n", snapshot.max(TimeUnit.MILLISECONDS)));
+        }
+        builder.append(String.format("%-8s %10d %10.1f%n", "total", totalCount,
+                totalCount / seconds));
+        return builder.toString();
+    }
+}
@@ -0,0 +1,125 @@
+package com.sparta.areadevelopment.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 설정한 비율로 요청을 섞어 보내는 부하 테스트 클라이언트
+ * <p>
+ * 동시 클라이언트 하나당 스레드 하나가 응답을 받을 때까지 기다린 뒤 다음 요청을 보냅니다(closed loop). Java 21 이상에서 실행하면 가상
+ * 스레드를 사용하고, 그보다 낮은 버전에서는 같은 수의 플랫폼 스레드를 사용합니다.
+ */
+@Slf4j
+public class LoadTestClient {
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    private final URI baseUri;
+    private final List<String> accessTokens;
+    private final ZipfSampler popularity;
+    private final Endpoint[] endpoints;
+    private final int[] cumulativeWeights;
+
+    public LoadTestClient(URI baseUri, List<String> accessTokens, ZipfSampler popularity,
+            Map<Endpoint, Integer> mix) {
+        this.baseUri = baseUri;
+        this.accessTokens = accessTokens;
+        this.popularity = popularity;
+        this.endpoints = mix.keySet().toArray(new Endpoint[0]);
+        this.cumulativeWeights = new int[endpoints.length];
+        int sum = 0;
+        for (int i = 0; i < endpoints.length; i++) {
+            sum += mix.get(endpoints[i]);
+            cumulativeWeights[i] = sum;
+        }
+    }
+
+    /**
+     * 정해진 시간 동안 요청을 보내고 결과를 모읍니다.
+     *
+     * @param concurrency 동시 클라이언트 수
+     * @param duration    실행 시간
+     * @return 요청별 결과
+     */
+    public LatencyReport run(int concurrency, Duration duration) throws InterruptedException {
+        LatencyReport report = new LatencyReport();
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService executor = newExecutor(concurrency);
+        try {
+            List<Future<?>> workers = new ArrayList<>(concurrency);
+            for (int i = 0; i < concurrency; i++) {
+                workers.add(executor.submit(() -> loop(report, deadline)));
+            }
+            for (Future<?> worker : workers) {
+                try {
+                    worker.get();
+                } catch (ExecutionException e) {
+                    log.warn("부하 테스트 클라이언트가 비정상 종료되었습니다.", e.getCause());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return report;
+    }
+
+    private void loop(LatencyReport report, long deadline) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+            Endpoint endpoint = pick(random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]));
+            String accessToken = accessTokens.get(random.nextInt(accessTokens.size()));
+            HttpRequest request = endpoint.build(baseUri, accessToken, popularity.next(random));
+
+            long start = System.nanoTime();
+            boolean success;
+            try {
+                HttpResponse<Void> response = httpClient.send(request, BodyHandlers.discarding());
+                success = response.statusCode() / 100 == 2;
+            } catch (IOException e) {
+                success = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            report.record(endpoint, System.nanoTime() - start, success);
+        }
+    }
+
+    private Endpoint pick(int value) {
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return endpoints[i];
+            }
+        }
+        return endpoints[endpoints.length - 1];
+    }
+
+    // Java 17 로도 빌드되도록 가상 스레드 Executor 는 리플렉션으로 만듭니다.
+    private static ExecutorService newExecutor(int concurrency) {
+        try {
+            ExecutorService executor = (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            log.warn("가상 스레드로 부하 테스트를 실행합니다.");
+            return executor;
+        } catch (ReflectiveOperationException e) {
+            log.warn("가상 스레드를 지원하지 않는 JVM 입니다. 플랫폼 스레드 {} 개로 실행합니다.", concurrency);
+            return Executors.newFixedThreadPool(concurrency);
+        }
+    }
+}
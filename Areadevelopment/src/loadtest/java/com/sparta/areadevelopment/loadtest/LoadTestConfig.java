@@ -0,0 +1,89 @@
+package com.sparta.areadevelopment.loadtest;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.Getter;
+
+/**
+ * 부하 테스트 설정, 시스템 프로퍼티(loadtest.*)로 바꿀 수 있습니다.
+ * <p>
+ * loadtest.users / boards / comments / likes : 미리 만들 사용자, 게시글, 댓글, 좋아요 수
+ * <p>
+ * loadtest.zipf : 게시글 인기도 편중 정도, 클수록 소수 게시글에 조회/댓글/좋아요가 몰립니다. (1.0 ~ 1.2 가 일반적인 SNS 분포)
+ * <p>
+ * loadtest.concurrency : 동시에 요청하는 클라이언트 수, loadtest.logins : 로그인해서 토큰을 나눠 쓸 사용자 수
+ * <p>
+ * loadtest.warmup-seconds / duration-seconds : 측정 전 예열 시간과 측정 시간
+ * <p>
+ * loadtest.mix : 요청 비율, "feed:50,view:30,like:10,comment:10"
+ * <p>
+ * loadtest.virtual-threads : 애플리케이션의 요청 처리(Tomcat)와 @Async 를 가상 스레드로 실행할지 여부 (Java 21 이상)
+ */
+@Getter
+public class LoadTestConfig {
+
+    private final int users;
+    private final int boards;
+    private final int comments;
+    private final int likes;
+    private final double zipf;
+    private final int concurrency;
+    private final int logins;
+    private final Duration warmup;
+    private final Duration duration;
+    private final Map<Endpoint, Integer> mix;
+    private final boolean virtualThreads;
+
+    private LoadTestConfig() {
+        this.users = intProperty("users", 1_000);
+        this.boards = intProperty("boards", 10_000);
+        this.comments = intProperty("comments", 50_000);
+        this.likes = intProperty("likes", 100_000);
+        this.zipf = Double.parseDouble(property("zipf", "1.1"));
+        this.concurrency = intProperty("concurrency", 200);
+        this.logins = Math.min(users, intProperty("logins", 100));
+        this.warmup = Duration.ofSeconds(intProperty("warmup-seconds", 5));
+        this.duration = Duration.ofSeconds(intProperty("duration-seconds", 30));
+        this.mix = parseMix(property("mix", "feed:50,view:30,like:10,comment:10"));
+        this.virtualThreads = Boolean.parseBoolean(property("virtual-threads", "false"));
+    }
+
+    public static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig();
+    }
+
+    @Override
+    public String toString() {
+        return "users=" + users + ", boards=" + boards + ", comments=" + comments + ", likes="
+                + likes + ", zipf=" + zipf + ", concurrency=" + concurrency + ", logins=" + logins
+                + ", warmup=" + warmup.toSeconds() + "s, duration=" + duration.toSeconds()
+                + "s, mix=" + mix + ", virtualThreads=" + virtualThreads;
+    }
+
+    private static Map<Endpoint, Integer> parseMix(String value) {
+        Map<Endpoint, Integer> mix = new EnumMap<>(Endpoint.class);
+        for (String entry : value.split(",")) {
+            String[] pair = entry.trim().split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("loadtest.mix 형식이 올바르지 않습니다. " + value);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0) {
+                mix.put(Endpoint.fromName(pair[0].trim()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix 에 실행할 요청이 없습니다.");
+        }
+        return mix;
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        return Integer.parseInt(property(name, String.valueOf(defaultValue)));
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("loadtest." + name, defaultValue);
+    }
+}
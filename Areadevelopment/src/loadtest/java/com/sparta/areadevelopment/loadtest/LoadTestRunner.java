@@ -0,0 +1,107 @@
+package com.sparta.areadevelopment.loadtest;
+
+import com.sparta.areadevelopment.AreadevelopmentApplication;
+import com.sparta.areadevelopment.enums.AuthEnum;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 부하 테스트 실행 클래스 (./gradlew loadTest)
+ * <p>
+ * 임의 포트로 애플리케이션을 H2 인메모리 DB 로 띄우고, 데이터를 만들고, 사용자들로 로그인한 뒤, 예열 후 측정한 결과를 출력합니다. 운영 설정
+ * (application.yml)의 환경변수는 모두 부하 테스트용 값으로 넘겨줍니다.
+ */
+@Slf4j
+public class LoadTestRunner {
+
+    private static final String[] APPLICATION_ARGS = {
+            "--server.port=0",
+            "--DB_URL=jdbc:h2:mem:loadtest;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+            "--DB_USERNAME=sa",
+            "--DB_PASSWORD=",
+            "--MAIL_USERNAME=loadtest",
+            "--MAIL_PASSWORD=loadtest",
+            "--spring.datasource.driver-class-name=org.h2.Driver",
+            "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+            "--spring.jpa.properties.hibernate.show_sql=false",
+            "--JWT_SECRET_KEY=" + Base64.getEncoder().encodeToString(
+                    "area-development-load-test-secret-key-0123456789abcdef".getBytes()),
+            "--logging.level.root=WARN",
+            // 느린 요청 로그가 결과 표를 덮지 않도록 끕니다. 응답시간은 결과 표로 확인합니다.
+            "--logging.level.LoggingAop=ERROR"
+    };
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(
+                AreadevelopmentApplication.class).run(applicationArgs(config));
+        try {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            URI baseUri = URI.create("http://localhost:" + port);
+
+            ZipfSampler popularity = new DatasetGenerator(context.getBean(JdbcTemplate.class),
+                    config).generate(context.getBean(PasswordEncoder.class)
+                    .encode(DatasetGenerator.PASSWORD));
+            List<String> accessTokens = login(baseUri, config.getLogins());
+
+            LoadTestClient client = new LoadTestClient(baseUri, accessTokens, popularity,
+                    config.getMix());
+            client.run(config.getConcurrency(), config.getWarmup());
+            long start = System.nanoTime();
+            LatencyReport report = client.run(config.getConcurrency(), config.getDuration());
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+            System.out.println();
+            System.out.println("부하 테스트 결과 (Java " + Runtime.version().feature() + ", " + config
+                    + ")");
+            System.out.print(report.format(elapsed));
+        } finally {
+            context.close();
+        }
+    }
+
+    private static String[] applicationArgs(LoadTestConfig config) {
+        String[] args = Arrays.copyOf(APPLICATION_ARGS, APPLICATION_ARGS.length + 1);
+        args[APPLICATION_ARGS.length] =
+                "--spring.threads.virtual.enabled=" + config.isVirtualThreads();
+        return args;
+    }
+
+    // 1 ~ logins 번 사용자로 로그인합니다. 요청 형태는 api-test/user1.http 의 로그인 요청과 같습니다.
+    private static List<String> login(URI baseUri, int logins)
+            throws IOException, InterruptedException {
+        HttpClient httpClient = HttpClient.newHttpClient();
+        List<String> accessTokens = new ArrayList<>(logins);
+        for (int userId = 1; userId <= logins; userId++) {
+            HttpRequest request = HttpRequest.newBuilder(baseUri.resolve("/api/auth/login"))
+                    .header("Content-Type", "application/json")
+                    .POST(BodyPublishers.ofString("{\"username\": \""
+                            + DatasetGenerator.USERNAME_PREFIX + userId + "\", \"password\": \""
+                            + DatasetGenerator.PASSWORD + "\"}"))
+                    .build();
+            HttpResponse<Void> response = httpClient.send(request, BodyHandlers.discarding());
+            String accessToken = response.headers()
+                    .firstValue(AuthEnum.ACCESS_TOKEN.getValue())
+                    .orElseThrow(() -> new IllegalStateException(
+                            "로그인에 실패했습니다. status=" + response.statusCode()));
+            accessTokens.add(accessToken);
+        }
+        return accessTokens;
+    }
+}
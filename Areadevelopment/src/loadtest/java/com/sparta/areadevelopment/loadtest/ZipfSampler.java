@@ -0,0 +1,59 @@
+package com.sparta.areadevelopment.loadtest;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 1 ~ n 중 하나를 Zipf 분포로 뽑습니다. k 번째로 인기있는 값이 뽑힐 확률은 1 / k^s 에 비례합니다.
+ * <p>
+ * 인기 순위와 값이 같으면 최근(또는 오래된) 게시글만 인기있게 되므로 순위를 섞어서 값에 대응시킵니다. 누적 확률을 미리 계산해 두고 이진 탐색으로
+ * 뽑으므로 한 번에 O(log n) 입니다.
+ */
+public class ZipfSampler {
+
+    private final double[] cumulative;
+    private final long[] valueByRank;
+
+    /**
+     * @param n    값의 개수
+     * @param s    편중 정도 (0 이면 균등 분포)
+     * @param seed 순위를 섞을 시드, 같은 시드면 같은 값이 인기있습니다.
+     */
+    public ZipfSampler(int n, double s, long seed) {
+        cumulative = new double[n];
+        double sum = 0.0;
+        for (int rank = 1; rank <= n; rank++) {
+            sum += 1.0 / Math.pow(rank, s);
+            cumulative[rank - 1] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cumulative[i] /= sum;
+        }
+
+        valueByRank = new long[n];
+        for (int i = 0; i < n; i++) {
+            valueByRank[i] = i + 1;
+        }
+        Random random = new Random(seed);
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            long tmp = valueByRank[i];
+            valueByRank[i] = valueByRank[j];
+            valueByRank[j] = tmp;
+        }
+    }
+
+    /**
+     * @return 1 ~ n 중 하나
+     */
+    public long next() {
+        return next(ThreadLocalRandom.current());
+    }
+
+    public long next(Random random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        int rank = index >= 0 ? index : Math.min(-index - 1, cumulative.length - 1);
+        return valueByRank[rank];
+    }
+}
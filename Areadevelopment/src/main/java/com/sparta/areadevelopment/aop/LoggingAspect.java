@@ -1,31 +1,187 @@
 package com.sparta.areadevelopment.aop;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.http.HttpServletRequest;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import lombok.extern.slf4j.Slf4j;
-import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
-import org.aspectj.lang.annotation.Before;
 import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+/**
+ * 컨트롤러 메서드(핸들러)별 처리시간, 예외 수, 처리중인 요청 수를 메트릭으로 기록하는 Aspect
+ * <p>
+ * 요청마다 로그를 남기지 않고 log-sample-rate 비율만큼만 남기며, slow-threshold-ms 보다 오래 걸린 요청은 항상 남깁니다.
+ * StreamingResponseBody 를 반환하는 핸들러는 본문을 다 쓸때까지를 처리시간으로 기록하고, 본문을 쓰다 발생한 예외도 예외 수에 포함합니다.
+ * <p>
+ * 메트릭 : http.handler(처리시간, p50/p99/p999 와 히스토그램), http.handler.errors(예외 수),
+ * http.handler.active(처리중인 요청 수). handler 태그는 "컨트롤러.메서드" 입니다. /actuator/prometheus 에서 조회할 수 있습니다.
+ */
 @Component
 @Slf4j(topic = "LoggingAop")
 @Aspect
 public class LoggingAspect {
 
+    private final MeterRegistry meterRegistry;
+    private final double logSampleRate;
+    private final long slowThresholdNanos;
+
+    // 핸들러마다 한 번만 메트릭을 만들고 재사용합니다.
+    private final Map<Method, HandlerMeters> meters = new ConcurrentHashMap<>();
+
+    public LoggingAspect(MeterRegistry meterRegistry,
+            @Value("${handler-metrics.log-sample-rate:0.01}") double logSampleRate,
+            @Value("${handler-metrics.slow-threshold-ms:1000}") long slowThresholdMs) {
+        this.meterRegistry = meterRegistry;
+        this.logSampleRate = logSampleRate;
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMs);
+    }
+
     @Pointcut("execution(* com.sparta.areadevelopment.controller..*(..))")
     private void controller() {
     }
 
-    @Before("controller()")
-    public void logBefore(JoinPoint joinPoint) {
-        ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
-        HttpServletRequest request = attributes.getRequest();
+    @Around("controller()")
+    public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+        HandlerMeters handler = meters.computeIfAbsent(
+                ((MethodSignature) joinPoint.getSignature()).getMethod(), this::register);
+        handler.active.incrementAndGet();
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            handler.errors(meterRegistry, e).increment();
+            finish(handler, start, e, RequestContextHolder.getRequestAttributes());
+            throw e;
+        }
+        Object streaming = measureUntilWritten(result, handler, start);
+        if (streaming != null) {
+            return streaming;
+        }
+        finish(handler, start, null, RequestContextHolder.getRequestAttributes());
+        return result;
+    }
+
+    // 응답 본문을 핸들러가 반환된 뒤 다른 스레드에서 쓰는 StreamingResponseBody 는 본문을 다 쓸때까지 처리시간과 예외를 기록합니다.
+    private Object measureUntilWritten(Object result, HandlerMeters handler, long start) {
+        if (result instanceof StreamingResponseBody body) {
+            return measured(body, handler, start);
+        }
+        if (result instanceof ResponseEntity<?> entity
+                && entity.getBody() instanceof StreamingResponseBody body) {
+            return ResponseEntity.status(entity.getStatusCode())
+                    .headers(entity.getHeaders())
+                    .body(measured(body, handler, start));
+        }
+        return null;
+    }
 
-        log.info("Request URL: {}", request.getRequestURL().toString());
-        log.info("HTTP Method: {}", request.getMethod());
+    private StreamingResponseBody measured(StreamingResponseBody body, HandlerMeters handler,
+            long start) {
+        // 본문을 쓰는 스레드에는 요청 정보가 없으므로 핸들러 스레드에서 가져둡니다.
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return out -> {
+            Throwable error = null;
+            try {
+                body.writeTo(out);
+            } catch (Throwable e) {
+                error = e;
+                handler.errors(meterRegistry, e).increment();
+                throw e;
+            } finally {
+                finish(handler, start, error, attributes);
+            }
+        };
     }
 
+    private void finish(HandlerMeters handler, long start, Throwable error,
+            RequestAttributes attributes) {
+        long elapsed = System.nanoTime() - start;
+        handler.active.decrementAndGet();
+        handler.timer.record(elapsed, TimeUnit.NANOSECONDS);
+        log(handler.name, elapsed, error, attributes);
+    }
+
+    private void log(String handler, long elapsedNanos, Throwable error,
+            RequestAttributes attributes) {
+        boolean slow = elapsedNanos >= slowThresholdNanos;
+        if (!slow && ThreadLocalRandom.current().nextDouble() >= logSampleRate) {
+            return;
+        }
+        String request = describeRequest(attributes);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        String outcome = error == null ? "OK" : error.getClass().getSimpleName();
+        if (slow) {
+            log.warn("Slow request {} handler={}, {}ms, outcome={}", request, handler, elapsedMs,
+                    outcome);
+        } else {
+            log.info("Request {} handler={}, {}ms, outcome={}", request, handler, elapsedMs,
+                    outcome);
+        }
+    }
+
+    private String describeRequest(RequestAttributes attributes) {
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return "-";
+        }
+        HttpServletRequest request = servletAttributes.getRequest();
+        return request.getMethod() + " " + request.getRequestURI();
+    }
+
+    private HandlerMeters register(Method method) {
+        String name = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+        return new HandlerMeters(name, meterRegistry);
+    }
+
+    /**
+     * 핸들러 하나의 메트릭
+     */
+    private static class HandlerMeters {
+
+        private final String name;
+        private final Timer timer;
+        private final AtomicInteger active = new AtomicInteger();
+        private final Map<Class<?>, Counter> errors = new ConcurrentHashMap<>();
+
+        private HandlerMeters(String name, MeterRegistry meterRegistry) {
+            this.name = name;
+            this.timer = Timer.builder("http.handler")
+                    .description("컨트롤러 메서드 처리시간")
+                    .tag("handler", name)
+                    .publishPercentiles(0.5, 0.99, 0.999)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+            Gauge.builder("http.handler.active", active, AtomicInteger::get)
+                    .description("처리중인 요청 수")
+                    .tag("handler", name)
+                    .register(meterRegistry);
+        }
+
+        private Counter errors(MeterRegistry meterRegistry, Throwable error) {
+            return errors.computeIfAbsent(error.getClass(),
+                    type -> Counter.builder("http.handler.errors")
+                            .description("컨트롤러 메서드에서 발생한 예외 수")
+                            .tag("handler", name)
+                            .tag("exception", type.getSimpleName())
+                            .register(meterRegistry));
+        }
+    }
 }
@@ -0,0 +1,22 @@
+package com.sparta.areadevelopment.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.boot.task.ThreadPoolTaskExecutorCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * @Async 작업을 실행하는 스레드 풀 설정
+ * <p>
+ * 스레드 수와 대기열 크기는 spring.task.execution.pool 로 제한하고, 대기열이 가득 차면 작업을 버리지 않고 요청한 스레드에서 실행합니다. 게시글
+ * 작성이 몰리면 fan-out 이 요청 스레드로 넘어와 응답이 느려지는 대신 타임라인 누락이 생기지 않습니다.
+ */
+@Configuration
+public class AsyncConfig {
+
+    @Bean
+    public ThreadPoolTaskExecutorCustomizer callerRunsWhenSaturated() {
+        return executor -> executor.setRejectedExecutionHandler(
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+}
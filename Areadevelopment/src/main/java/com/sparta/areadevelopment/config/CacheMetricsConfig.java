@@ -0,0 +1,29 @@
+package com.sparta.areadevelopment.config;
+
+import com.sparta.areadevelopment.jwt.AuthenticationCache;
+import com.sparta.areadevelopment.service.CustomUserDetailsService;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 애플리케이션에서 직접 만든 Caffeine 캐시의 적중/실패, 제거 횟수를 cache.* 메트릭으로 등록합니다.
+ * <p>
+ * /actuator/metrics/cache.gets?tag=cache:userDetails&tag=result:hit 처럼 조회할 수 있습니다.
+ */
+@Configuration
+public class CacheMetricsConfig {
+
+    @Bean
+    public MeterBinder userDetailsCacheMetrics(CustomUserDetailsService userDetailsService) {
+        return registry -> CaffeineCacheMetrics.monitor(registry, userDetailsService.getCache(),
+                "userDetails");
+    }
+
+    @Bean
+    public MeterBinder authenticationCacheMetrics(AuthenticationCache authenticationCache) {
+        return registry -> CaffeineCacheMetrics.monitor(registry, authenticationCache.getCache(),
+                "authentication");
+    }
+}
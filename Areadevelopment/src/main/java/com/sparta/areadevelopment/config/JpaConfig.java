@@ -1,5 +1,7 @@
 package com.sparta.areadevelopment.config;
 
+import com.sparta.areadevelopment.util.TimeSortedIdGenerator;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
@@ -7,4 +9,8 @@ import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 @EnableJpaAuditing
 public class JpaConfig {
 
+    // 서버마다 다른 노드 번호를 사용해야 고유번호가 겹치지 않습니다.
+    public JpaConfig(@Value("${id.node-id:0}") long nodeId) {
+        TimeSortedIdGenerator.setNodeId(nodeId);
+    }
 }
@@ -4,8 +4,13 @@ import jakarta.mail.MessagingException;
 import jakarta.mail.internet.InternetAddress;
 import jakarta.mail.internet.MimeMessage;
 import java.io.UnsupportedEncodingException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Component;
@@ -29,23 +34,57 @@ public class MailManager {
     private JavaMailSender mailSender;
 
     /**
-     * 메일 보내는 메서드
+     * 보낼 메일을 만드는 메서드
      *
      * @String value 보낼 제목과 내용을 매개변수로 받음
+     * @throws MessagingException 받는 사람 주소가 잘못된 경우처럼 보낼 수 없는 메일
      */
-    public void send(String toMail, String title, String content) {
+    public MimeMessage createMessage(String toMail, String title, String content)
+            throws MessagingException {
         MimeMessage mimeMessage = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "utf-8");
         try {
-            MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "utf-8");
             helper.setFrom(new InternetAddress(sender, "하지만없죠"));
-            helper.setTo(toMail);
-            helper.setSubject(title);
-            helper.setText(content);
-            mailSender.send(mimeMessage);
-        } catch (MessagingException e) {
-            e.printStackTrace();
         } catch (UnsupportedEncodingException e) {
             throw new RuntimeException(e);
         }
+        helper.setTo(toMail);
+        helper.setSubject(title);
+        helper.setText(content);
+        return mimeMessage;
+    }
+
+    /**
+     * 여러 메일을 SMTP 연결 하나로 보내는 메서드
+     * <p>
+     * 메일마다 연결/인증을 반복하지 않습니다. 일부만 실패하면 나머지는 그대로 보내집니다.
+     *
+     * @param messages 보낼 메일
+     * @return 보내지 못한 메일과 실패 원인, 모두 보냈으면 빈 Map
+     */
+    public Map<MimeMessage, Exception> sendAll(List<MimeMessage> messages) {
+        if (messages.isEmpty()) {
+            return Map.of();
+        }
+        try {
+            mailSender.send(messages.toArray(new MimeMessage[0]));
+            return Map.of();
+        } catch (MailSendException e) {
+            Map<MimeMessage, Exception> failures = new HashMap<>();
+            e.getFailedMessages().forEach((message, cause) -> {
+                if (message instanceof MimeMessage mimeMessage) {
+                    failures.put(mimeMessage, cause);
+                }
+            });
+            return failures.isEmpty() ? failAll(messages, e) : failures;
+        } catch (MailException e) {
+            return failAll(messages, e);
+        }
+    }
+
+    private Map<MimeMessage, Exception> failAll(List<MimeMessage> messages, Exception cause) {
+        Map<MimeMessage, Exception> failures = new HashMap<>();
+        messages.forEach(message -> failures.put(message, cause));
+        return failures;
     }
 }
@@ -0,0 +1,79 @@
+package com.sparta.areadevelopment.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate 2차 캐시(JCache) 설정
+ * <p>
+ * 외부 캐시 서버 없이 서버 메모리의 Caffeine JCache 구현체를 사용합니다. 자주 조회되는 게시글(board)과 사용자(user) 엔티티, 쿼리 캐시의
+ * 영역 크기와 보관 시간을 여기서 정하고, 정해지지 않은 영역은 만들지 않습니다(missing_cache_strategy: fail). 서버마다 따로 캐시하므로
+ * 다른 서버에서 수정한 값은 ttl-seconds 동안 보일 수 있습니다.
+ * <p>
+ * 적중/실패 횟수는 /actuator/metrics/hibernate.second.level.cache.requests?tag=region:board 처럼 조회할 수 있습니다.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    public static final String BOARD_REGION = "board";
+    public static final String USER_REGION = "user";
+
+    private static final String QUERY_RESULTS_REGION = "default-query-results-region";
+    private static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    @Value("${second-level-cache.board.max-size:10000}")
+    private long boardMaxSize;
+
+    @Value("${second-level-cache.user.max-size:10000}")
+    private long userMaxSize;
+
+    @Value("${second-level-cache.query.max-size:10000}")
+    private long queryMaxSize;
+
+    @Value("${second-level-cache.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    /**
+     * Hibernate 는 종료시 넘겨받은 CacheManager 를 닫으므로, 같은 JVM 에 ApplicationContext 가 여러 개 있어도(테스트) 서로 닫지 않게
+     * 고유한 URI 로 만듭니다.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer() {
+        CachingProvider provider = Caching.getCachingProvider(
+                CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("urn:hibernate-second-level-cache:" + UUID.randomUUID()),
+                provider.getDefaultClassLoader());
+
+        cacheManager.createCache(BOARD_REGION, configuration(boardMaxSize, true));
+        cacheManager.createCache(USER_REGION, configuration(userMaxSize, true));
+        cacheManager.createCache(QUERY_RESULTS_REGION, configuration(queryMaxSize, true));
+        // 테이블별 마지막 수정시간은 쿼리 캐시의 유효성 판단에 쓰이므로 만료시키지 않습니다. (테이블 수만큼만 저장됩니다)
+        cacheManager.createCache(UPDATE_TIMESTAMPS_REGION, configuration(1000, false));
+
+        return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER,
+                cacheManager);
+    }
+
+    private CaffeineConfiguration<Object, Object> configuration(long maxSize, boolean expire) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxSize));
+        if (expire) {
+            configuration.setExpireAfterWrite(
+                    OptionalLong.of(TimeUnit.SECONDS.toNanos(ttlSeconds)));
+        }
+        return configuration;
+    }
+}
@@ -1,6 +1,7 @@
 package com.sparta.areadevelopment.config;
 
 import com.sparta.areadevelopment.filter.JwtAuthenticationFilter;
+import com.sparta.areadevelopment.jwt.AuthenticationCache;
 import com.sparta.areadevelopment.jwt.TokenProvider;
 import com.sparta.areadevelopment.service.AuthService;
 import lombok.RequiredArgsConstructor;
@@ -33,6 +34,11 @@ public class SecurityConfig {
      */
     private final TokenProvider tokenProvider;
 
+    /**
+     * 검증된 토큰 캐시
+     */
+    private final AuthenticationCache authenticationCache;
+
     /**
      * 암호화 매서드 빈 주입
      */
@@ -90,7 +96,7 @@ public class SecurityConfig {
         /**
          *  시큐리티 필터보다 먼저 커스텀한 필터를 적용시킴
          */
-        http.addFilterBefore(new JwtAuthenticationFilter(tokenProvider),
+        http.addFilterBefore(new JwtAuthenticationFilter(tokenProvider, authenticationCache),
                 UsernamePasswordAuthenticationFilter.class);
 
         /**
@@ -1,24 +1,36 @@
 package com.sparta.areadevelopment.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sparta.areadevelopment.dto.BoardRequestDto;
 import com.sparta.areadevelopment.dto.BoardResponseDto;
+import com.sparta.areadevelopment.dto.CursorPageResponseDto;
 import com.sparta.areadevelopment.entity.CustomUserDetails;
+import com.sparta.areadevelopment.enums.ContentModeEnum;
 import com.sparta.areadevelopment.service.BoardService;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * 뉴스피드 컨트롤러 조회를 제외하고는 모두 User의 정보가 필요하다.
@@ -33,6 +45,7 @@ public class BoardController {
      * 보드 서비스
      */
     private final BoardService boardService;
+    private final ObjectMapper objectMapper;
 
     /**
      * 보드 생성 controller
@@ -50,14 +63,43 @@ public class BoardController {
 
     /**
      * 뉴스피드 내용 불러오기
+     * <p>
+     * 전체 게시글을 List 로 모으지 않고 조회하는 대로 응답에 씁니다. 기본은 JSON 배열이고, Accept 에 application/x-ndjson 이 있으면
+     * 게시글 하나를 한 줄로 씁니다. 게시글이 없으면 빈 배열(또는 빈 본문)입니다.
+     *
+     * @param accept Accept 헤더
+     * @return 게시글 스트리밍 응답
      */
     @GetMapping("/boards")
-    public ResponseEntity<?> findAllBoard() {
-        List<BoardResponseDto> list = boardService.findAllBoard();
-        if (list.isEmpty()) {
-            return ResponseEntity.ok().body("먼저 작성하여 소식을 알려보세요!");
-        } else {
-            return ResponseEntity.ok().body(list);
+    public ResponseEntity<StreamingResponseBody> findAllBoard(
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        boolean ndjson = StringUtils.hasText(accept) && MediaType.parseMediaTypes(accept).stream()
+                .anyMatch(MediaType.APPLICATION_NDJSON::equalsTypeAndSubtype);
+        return ResponseEntity.ok()
+                .contentType(ndjson ? MediaType.APPLICATION_NDJSON : MediaType.APPLICATION_JSON)
+                .body(out -> writeBoards(out, ndjson));
+    }
+
+    private void writeBoards(OutputStream out, boolean ndjson) throws IOException {
+        try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            if (!ndjson) {
+                generator.writeStartArray();
+            }
+            boardService.streamAllBoard(board -> {
+                try {
+                    generator.writeObject(board);
+                    if (ndjson) {
+                        generator.writeRaw('\n');
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            if (!ndjson) {
+                generator.writeEndArray();
+            }
         }
     }
 
@@ -103,6 +145,57 @@ public class BoardController {
         }
     }
 
+    /**
+     * 최신순 커서 페이지네이션, 응답의 nextCursor 를 다음 요청의 cursor 로 넘겨줍니다.
+     *
+     * @param cursor  이전 응답의 nextCursor, 첫 페이지는 생략
+     * @param content SUMMARY 면 내용을 앞부분만 미리보기로 내려줍니다. 기본은 FULL
+     * @return 게시글 10개와 다음 커서
+     */
+    @GetMapping("/boards/feed/recently")
+    public ResponseEntity<CursorPageResponseDto<BoardResponseDto>> findRecentlyFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "FULL") ContentModeEnum content) {
+        return ResponseEntity.ok().body(boardService.findRecentlyFeed(cursor, content));
+    }
+
+    /**
+     * 좋아요순 커서 페이지네이션
+     */
+    @GetMapping("/boards/feed/like")
+    public ResponseEntity<CursorPageResponseDto<BoardResponseDto>> findLikesFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "FULL") ContentModeEnum content) {
+        return ResponseEntity.ok().body(boardService.findLikesFeed(cursor, content));
+    }
+
+    /**
+     * 기간별 커서 페이지네이션 ex ) startTime = 2024-05-07
+     */
+    @GetMapping("/boards/feed/date")
+    public ResponseEntity<CursorPageResponseDto<BoardResponseDto>> findDateFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam String startTime,
+            @RequestParam String endTime,
+            @RequestParam(defaultValue = "FULL") ContentModeEnum content) {
+        return ResponseEntity.ok()
+                .body(boardService.findDateFeed(cursor, startTime, endTime, content));
+    }
+
+    /**
+     * 인기순 커서 페이지네이션, 좋아요/댓글/조회수와 작성 후 지난 시간으로 계산한 점수순입니다.
+     *
+     * @param cursor  이전 응답의 nextCursor, 첫 페이지는 생략
+     * @param content SUMMARY 면 내용 미리보기, 기본은 FULL
+     * @return 게시글 10개와 다음 커서
+     */
+    @GetMapping("/boards/hot")
+    public ResponseEntity<CursorPageResponseDto<BoardResponseDto>> findHotFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "FULL") ContentModeEnum content) {
+        return ResponseEntity.ok().body(boardService.findHotFeed(cursor, content));
+    }
+
     @GetMapping("/boards/{boardId}")
     public BoardResponseDto findBoard(@PathVariable Long boardId) {
         return boardService.findBoard(boardId);
@@ -3,10 +3,10 @@ package com.sparta.areadevelopment.controller;
 
 import com.sparta.areadevelopment.dto.CommentRequestDto;
 import com.sparta.areadevelopment.dto.CommentResponseDto;
+import com.sparta.areadevelopment.dto.CursorPageResponseDto;
 import com.sparta.areadevelopment.entity.CustomUserDetails;
 import com.sparta.areadevelopment.service.CommentService;
 import jakarta.validation.Valid;
-import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -17,6 +17,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
@@ -49,19 +50,18 @@ public class CommentController {
     }
 
     /**
-     * 게시글 하나에 종속된 모든 댓글을 조회하고 댓글이 없다면 댓글 작성 문구를 보여줍니다.
+     * 게시글 하나에 종속된 댓글을 최신순 커서 페이지네이션으로 조회합니다. 응답의 nextCursor 를 다음 요청의 cursor 로 넘겨줍니다.
      *
      * @param boardId 게시글 고유번호
-     * @return 댓글의 작성 문구를 보여주거나 댓글의 내용을 보여줍니다.
+     * @param cursor  이전 응답의 nextCursor, 첫 페이지는 생략
+     * @param size    페이지 크기, 기본 20 최대 100
+     * @return 댓글 목록과 다음 커서
      */
     @GetMapping("/{boardId}/comments")
-    public ResponseEntity<?> getAllComments(@PathVariable Long boardId) {
-        List<CommentResponseDto> comments = commentService.getAllComments(boardId);
-        if (comments.isEmpty()) {
-            return ResponseEntity.ok("먼저 작성하여 댓글을 남겨보세요!");
-        } else {
-            return ResponseEntity.ok(comments);
-        }
+    public ResponseEntity<CursorPageResponseDto<CommentResponseDto>> getComments(
+            @PathVariable Long boardId, @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(commentService.getComments(boardId, cursor, size));
     }
 
     /**
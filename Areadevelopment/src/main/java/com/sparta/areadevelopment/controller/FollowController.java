@@ -0,0 +1,49 @@
+package com.sparta.areadevelopment.controller;
+
+import com.sparta.areadevelopment.entity.CustomUserDetails;
+import com.sparta.areadevelopment.service.FollowService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 이 Controller 는 사용자 간 팔로우 요청을 받고 결과를 반환합니다.
+ */
+@RestController
+@RequestMapping("/api/follows")
+public class FollowController {
+
+    private final FollowService followService;
+
+    /**
+     * 지정된 서비스로 FollowController 를 생성합니다.
+     *
+     * @param followService 팔로우 기능의 비지니스 로직 구현 계층
+     */
+    public FollowController(FollowService followService) {
+        this.followService = followService;
+    }
+
+    /**
+     * 팔로우 중이 아니면 팔로우하고, 팔로우 중이라면 취소합니다.
+     *
+     * @param userDetails 시큐리티 인증을 통과한 유저의 정보
+     * @param userId      팔로우 할 사용자의 고유번호
+     * @return 상태코드 200과 결과 메시지
+     */
+    @PostMapping("/{userId}")
+    public ResponseEntity<String> follow(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable Long userId) {
+
+        boolean isFollowed = followService.toggleFollow(userDetails.getUser(), userId);
+        if (isFollowed) {
+            return ResponseEntity.ok("팔로우 성공");
+        } else {
+            return ResponseEntity.ok("팔로우 취소 성공");
+        }
+    }
+}
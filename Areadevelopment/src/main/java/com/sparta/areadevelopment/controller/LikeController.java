@@ -1,9 +1,13 @@
 package com.sparta.areadevelopment.controller;
 
 import com.sparta.areadevelopment.dto.LikeDto;
+import com.sparta.areadevelopment.dto.LikeResponseDto;
+import com.sparta.areadevelopment.dto.LikeStatusRequestDto;
+import com.sparta.areadevelopment.dto.LikeStatusResponseDto;
 import com.sparta.areadevelopment.entity.CustomUserDetails;
 import com.sparta.areadevelopment.service.LikeService;
 import jakarta.validation.Valid;
+import java.util.List;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -34,20 +38,28 @@ public class LikeController {
      *
      * @param userDetails 시큐리티 인증을 통과한 유저의 정보
      * @param likeDto     좋아요가 적용 되야할 타입과 고유번호
-     * @return 상태코드 200과 새로운 좋아요가 추가되면 true, 기존 좋아요가 제거되면 false
+     * @return 상태코드 200과 토글 후 좋아요 상태(등록 true, 취소 false), 좋아요 수
      */
     @PostMapping
-    public ResponseEntity<String> likeContent(
+    public ResponseEntity<LikeResponseDto> likeContent(
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @Valid @RequestBody LikeDto likeDto) {
+        return ResponseEntity.ok(likeService.toggleLike(userDetails.getUser(),
+                likeDto.getContentType().toLowerCase(), likeDto.getContentId()));
+    }
 
-        boolean isLiked = likeService.toggleLike(userDetails.getUser(),
-                likeDto.getContentType().toLowerCase(), likeDto.getContentId());
-        if (isLiked) {
-            return ResponseEntity.ok("좋아요 등록 성공");
-        } else {
-            return ResponseEntity.ok("좋아요 취소 성공");
-        }
+    /**
+     * 여러 컨텐츠에 대해 사용자가 좋아요를 눌렀는지 한 번에 확인합니다.
+     *
+     * @param userDetails 시큐리티 인증을 통과한 유저의 정보
+     * @param requestDto  좋아요 여부를 확인할 컨텐츠 타입과 고유번호 목록
+     * @return 상태코드 200과 요청 순서대로 컨텐츠별 좋아요 여부
+     */
+    @PostMapping("/status")
+    public ResponseEntity<List<LikeStatusResponseDto>> findLikeStatuses(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @Valid @RequestBody LikeStatusRequestDto requestDto) {
+        return ResponseEntity.ok(
+                likeService.findLikeStatuses(userDetails.getUser(), requestDto.getContents()));
     }
 }
-
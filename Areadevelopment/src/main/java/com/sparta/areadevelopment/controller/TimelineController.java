@@ -0,0 +1,42 @@
+package com.sparta.areadevelopment.controller;
+
+import com.sparta.areadevelopment.dto.BoardResponseDto;
+import com.sparta.areadevelopment.dto.CursorPageResponseDto;
+import com.sparta.areadevelopment.entity.CustomUserDetails;
+import com.sparta.areadevelopment.enums.ContentModeEnum;
+import com.sparta.areadevelopment.service.TimelineService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 팔로우한 사용자와 본인의 게시글을 보여주는 홈 타임라인 컨트롤러
+ */
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/timeline")
+public class TimelineController {
+
+    private final TimelineService timelineService;
+
+    /**
+     * 홈 타임라인 조회, 응답의 nextCursor 를 다음 요청의 cursor 로 넘겨줍니다.
+     *
+     * @param userDetails 시큐리티 인증을 통과한 유저의 정보
+     * @param cursor      이전 응답의 nextCursor, 첫 페이지는 생략
+     * @param content     SUMMARY 면 내용 미리보기, 기본은 FULL
+     * @return 게시글 10개와 다음 커서
+     */
+    @GetMapping
+    public ResponseEntity<CursorPageResponseDto<BoardResponseDto>> getTimeline(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "FULL") ContentModeEnum content) {
+        return ResponseEntity.ok()
+                .body(timelineService.getTimeline(userDetails.getUser(), cursor, content));
+    }
+}
@@ -24,6 +24,7 @@ public class BoardResponseDto {
      * @String content 뉴스피드의 내용
      * @Long hits    조회수
      * @Long count   좋아요수
+     * @Long commentCount 댓글수
      * @LocalDateTime createAt    생성일
      * @LocalDateTime modifiedAt  수정일자
      */
@@ -32,6 +33,7 @@ public class BoardResponseDto {
     private String content;
     private Long hits;
     private Long LikeCount;
+    private Long commentCount;
     private LocalDateTime createdAt;
     private LocalDateTime modifiedAt;
 
@@ -44,6 +46,7 @@ public class BoardResponseDto {
         this.content = board.getContent();
         this.hits = board.getHits();
         this.LikeCount = board.getLikeCount();
+        this.commentCount = board.getCommentCount();
         this.createdAt = board.getCreatedAt();
         this.modifiedAt = board.getModifiedAt();
     }
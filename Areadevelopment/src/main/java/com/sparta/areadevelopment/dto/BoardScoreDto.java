@@ -0,0 +1,26 @@
+package com.sparta.areadevelopment.dto;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 인기(hot) 점수 계산에 필요한 게시글 카운터만 담는 DTO
+ */
+@Getter
+@AllArgsConstructor
+public class BoardScoreDto {
+
+    /**
+     * @Long id 게시글 고유번호
+     * @Long likeCount 좋아요 수
+     * @Long hits 조회수
+     * @LocalDateTime createdAt 생성일
+     * @Long commentCount 삭제되지 않은 댓글 수
+     */
+    private Long id;
+    private Long likeCount;
+    private Long hits;
+    private LocalDateTime createdAt;
+    private Long commentCount;
+}
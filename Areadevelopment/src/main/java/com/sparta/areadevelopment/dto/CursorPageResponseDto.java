@@ -0,0 +1,24 @@
+package com.sparta.areadevelopment.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 커서 기반 페이지네이션 결과를 담는 DTO
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponseDto<T> {
+
+    /**
+     * @List content 현재 페이지의 항목
+     * @String nextCursor 다음 페이지 요청시 넘겨줄 커서, 다음 페이지가 없으면 null
+     * @boolean hasNext 다음 페이지 존재 여부
+     */
+    private List<T> content;
+    private String nextCursor;
+    private boolean hasNext;
+}
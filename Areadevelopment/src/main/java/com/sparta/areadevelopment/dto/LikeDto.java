@@ -3,12 +3,16 @@ package com.sparta.areadevelopment.dto;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 /**
  * 좋아요 기능을 수행하기 위한 정보들을 정의 해둔 클래스입니다.
  */
 @Getter
+@NoArgsConstructor
+@AllArgsConstructor
 public class LikeDto {
 
     /**
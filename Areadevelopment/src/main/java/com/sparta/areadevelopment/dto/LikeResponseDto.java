@@ -0,0 +1,22 @@
+package com.sparta.areadevelopment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 좋아요 토글 결과를 반환하는 DTO 입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class LikeResponseDto {
+
+    /**
+     * 토글 후 좋아요 상태입니다. 등록 : true 취소 : false
+     */
+    private boolean liked;
+
+    /**
+     * 토글 후 컨텐츠의 좋아요 수입니다.
+     */
+    private Long likeCount;
+}
@@ -0,0 +1,21 @@
+package com.sparta.areadevelopment.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * 여러 컨텐츠의 좋아요 여부를 한 번에 확인하기 위한 정보들을 정의 해둔 클래스입니다.
+ */
+@Getter
+public class LikeStatusRequestDto {
+
+    /**
+     * 좋아요 여부를 확인할 컨텐츠 타입과 고유번호 목록입니다. (한 페이지 분량 기준 최대 100개)
+     */
+    @NotEmpty(message = "확인할 컨텐츠는 필수입니다.")
+    @Size(max = 100, message = "한 번에 100개까지 확인할 수 있습니다.")
+    private List<@Valid LikeDto> contents;
+}
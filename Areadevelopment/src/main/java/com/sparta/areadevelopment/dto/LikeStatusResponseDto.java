@@ -0,0 +1,27 @@
+package com.sparta.areadevelopment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 컨텐츠 하나의 좋아요 여부를 반환하는 DTO 입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class LikeStatusResponseDto {
+
+    /**
+     * 컨텐츠의 타입입니다.
+     */
+    private String contentType;
+
+    /**
+     * 컨텐츠의 고유번호입니다.
+     */
+    private Long contentId;
+
+    /**
+     * 사용자가 좋아요를 눌렀다면 true 입니다.
+     */
+    private boolean liked;
+}
@@ -2,14 +2,15 @@ package com.sparta.areadevelopment.entity;
 
 
 import com.sparta.areadevelopment.dto.BoardRequestDto;
+import com.sparta.areadevelopment.config.SecondLevelCacheConfig;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -22,19 +23,33 @@ import java.util.List;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 @Entity
 @Getter
 //@Setter
-@Table(name = "boards")
+// 피드 커서 페이지네이션(정렬키, 고유번호)을 위한 인덱스
+@Table(name = "boards", indexes = {
+        @Index(name = "idx_boards_deleted_created", columnList = "deleted_at, created_at, id"),
+        @Index(name = "idx_boards_deleted_like", columnList = "deleted_at, like_count, id"),
+        // 타임라인 재생성시 작성자별 최신 게시글 조회
+        @Index(name = "idx_boards_user_id", columnList = "user_id, id")
+})
 @NoArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
+// 2차 캐시에 저장합니다. 카운터(hits, like_count, comment_count)는 SQL 로 따로 갱신하므로, 수정시 바뀐 컬럼만 UPDATE 해서
+// 캐시에 남아있던 카운터 값으로 덮어쓰지 않게 합니다. 조회수와 좋아요 수는 반영할 때 반영한 게시글을 캐시에서 지웁니다.
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.BOARD_REGION)
+@DynamicUpdate
 public class Board {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeSortedId
     private Long id;
 
     @Column(nullable = false)
@@ -49,6 +64,10 @@ public class Board {
     @Column(nullable = false)
     private Long likeCount;
 
+    // 삭제되지 않은 댓글 수, 목록 조회시 COUNT 없이 보여주기 위해 댓글 작성/삭제시 함께 갱신합니다.
+    @Column(nullable = false)
+    private Long commentCount;
+
     @CreatedDate
     @Column(updatable = false)
     @Temporal(TemporalType.TIMESTAMP)
@@ -74,6 +93,7 @@ public class Board {
         this.content = requestDto.getContent();
         this.hits = 0L;
         this.likeCount = 0L;
+        this.commentCount = 0L;
         this.modifiedAt = LocalDateTime.now();
         this.deletedAt = null;
         this.user = user;
@@ -90,7 +110,9 @@ public class Board {
         this.modifiedAt = LocalDateTime.now();
     }
 
+    // 게시글이 삭제되면 댓글도 함께 삭제되므로 댓글 수도 0 으로 맞춥니다.
     public void softDelete() {
         this.deletedAt = LocalDateTime.now();
+        this.commentCount = 0L;
     }
 }
@@ -3,9 +3,9 @@ package com.sparta.areadevelopment.entity;
 import com.sparta.areadevelopment.dto.CommentRequestDto;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -18,11 +18,17 @@ import lombok.Setter;
 @Getter
 @Setter
 @NoArgsConstructor
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        // 게시글별 댓글 커서 페이지네이션
+        @Index(name = "idx_comments_board_deleted_created",
+                columnList = "board_id, deleted_at, created_at, id"),
+        // 회원탈퇴시 작성자별 댓글 조회
+        @Index(name = "idx_comments_user_id", columnList = "user_id, id")
+})
 public class Comment extends Timestamped {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeSortedId
     private Long id;
 
     @Column(name = "content", nullable = false)
@@ -31,11 +37,12 @@ public class Comment extends Timestamped {
     @Column(name = "like_count", nullable = false)
     private Long likeCount;
 
-    @ManyToOne
+    // 응답에는 게시글/작성자의 고유번호만 쓰므로 지연 로딩합니다. (프록시의 getId() 는 조회하지 않습니다)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "board_id", nullable = false)
     private Board board;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
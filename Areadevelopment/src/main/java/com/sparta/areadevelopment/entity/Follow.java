@@ -0,0 +1,67 @@
+package com.sparta.areadevelopment.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 팔로우(Follow) 엔티티 클래스. follower 가 followee 를 팔로우한 정보를 DB에 저장합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "follows",
+        uniqueConstraints = @UniqueConstraint(name = "uk_follows_follower_followee",
+                columnNames = {"follower_id", "followee_id"}),
+        // 게시글 작성시 작성자의 팔로워 목록을 조회하기 위한 인덱스
+        indexes = @Index(name = "idx_follows_followee", columnList = "followee_id, follower_id"))
+public class Follow {
+
+    /**
+     * 팔로우의 고유번호.
+     */
+    @Id
+    @TimeSortedId
+    private Long id;
+
+    /**
+     * 팔로우를 한 사용자.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "follower_id", nullable = false)
+    private User follower;
+
+    /**
+     * 팔로우 당한 사용자.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "followee_id", nullable = false)
+    private User followee;
+
+    /**
+     * 팔로우한 시간.
+     */
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * Follow Entity 의 생성자 입니다.
+     *
+     * @param follower 팔로우를 한 사용자
+     * @param followee 팔로우 당한 사용자
+     */
+    public Follow(User follower, User followee) {
+        this.follower = follower;
+        this.followee = followee;
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -6,12 +6,12 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import java.time.LocalDateTime;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -22,14 +22,18 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor
-@Table(name = "likes")
+// 같은 사용자가 같은 컨텐츠에 좋아요를 두 번 남기지 못하도록 막고, 토글시 조회 인덱스로도 사용합니다.
+// 컨텐츠별 좋아요 수를 다시 셀 때는 (content_type, content_id) 인덱스를 사용합니다.
+@Table(name = "likes", uniqueConstraints = @UniqueConstraint(
+        name = "uk_likes_user_content", columnNames = {"user_id", "content_id", "content_type"}),
+        indexes = @Index(name = "idx_likes_content", columnList = "content_type, content_id"))
 public class Like {
 
     /**
      * 좋아요의 고유번호.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeSortedId
     private Long id;
 
     /**
@@ -0,0 +1,153 @@
+package com.sparta.areadevelopment.entity;
+
+import com.sparta.areadevelopment.enums.MailStatusEnum;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 발송 대기 메일(MailOutbox) 엔티티 클래스. 요청 처리 중에는 이 테이블에 저장만 하고, 실제 발송은 MailOutboxService 가 나중에
+ * 모아서 합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+// 보낼 시간이 된 대기 메일을 오래된 순으로 조회하고, 발송을 끝낸 오래된 메일을 지우기 위한 인덱스
+@Table(name = "mail_outbox",
+        indexes = @Index(name = "idx_mail_outbox_due", columnList = "status, next_attempt_at"))
+public class MailOutbox {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    /**
+     * 메일의 고유번호.
+     */
+    @Id
+    @TimeSortedId
+    private Long id;
+
+    /**
+     * 받는 사람 이메일.
+     */
+    @Column(nullable = false)
+    private String recipient;
+
+    /**
+     * 메일 제목.
+     */
+    @Column(nullable = false)
+    private String subject;
+
+    /**
+     * 메일 내용, 인증번호가 담겨있으므로 발송을 끝내면(SENT, DEAD) 지웁니다.
+     */
+    @Column(length = 4000)
+    private String content;
+
+    /**
+     * 발송 상태.
+     */
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private MailStatusEnum status;
+
+    /**
+     * 발송 시도 횟수.
+     */
+    @Column(nullable = false)
+    private int attempts;
+
+    /**
+     * 다음에 보낼 시간, 발송 중에는 다른 서버가 가져가지 않도록 발송이 끝날 시간으로 미뤄둡니다. 발송을 끝낸 메일은 이 시간을 기준으로
+     * 지웁니다.
+     */
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    /**
+     * 마지막 발송 실패 원인.
+     */
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    /**
+     * 저장한 시간.
+     */
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 발송 완료 시간.
+     */
+    private LocalDateTime sentAt;
+
+    /**
+     * 여러 서버가 같은 메일을 동시에 가져가지 않도록 하는 버전.
+     */
+    @Version
+    private Long version;
+
+    /**
+     * MailOutbox Entity 의 생성자 입니다. 바로 보낼 수 있는 대기 상태로 만듭니다.
+     *
+     * @param recipient 받는 사람 이메일
+     * @param subject   메일 제목
+     * @param content   메일 내용
+     */
+    public MailOutbox(String recipient, String subject, String content) {
+        this.recipient = recipient;
+        this.subject = subject;
+        this.content = content;
+        this.status = MailStatusEnum.PENDING;
+        this.createdAt = LocalDateTime.now();
+        this.nextAttemptAt = this.createdAt;
+    }
+
+    /**
+     * 발송하는 동안 다른 서버가 가져가지 않도록 다음 발송 시간을 미룹니다.
+     *
+     * @param until 발송이 끝나야 하는 시간
+     */
+    public void lease(LocalDateTime until) {
+        this.nextAttemptAt = until;
+    }
+
+    /**
+     * 발송 완료 처리합니다.
+     *
+     * @param now 발송 완료 시간
+     */
+    public void markSent(LocalDateTime now) {
+        this.attempts++;
+        this.status = MailStatusEnum.SENT;
+        this.sentAt = now;
+        this.lastError = null;
+        this.content = null;
+    }
+
+    /**
+     * 발송 실패 처리합니다.
+     *
+     * @param error   실패 원인
+     * @param retryAt 다시 보낼 시간, null 이면 더 이상 보내지 않습니다.
+     */
+    public void markFailed(String error, LocalDateTime retryAt) {
+        this.attempts++;
+        this.lastError = error == null || error.length() <= MAX_ERROR_LENGTH ? error
+                : error.substring(0, MAX_ERROR_LENGTH);
+        if (retryAt == null) {
+            this.status = MailStatusEnum.DEAD;
+            this.content = null;
+            return;
+        }
+        this.nextAttemptAt = retryAt;
+    }
+}
@@ -0,0 +1,30 @@
+package com.sparta.areadevelopment.entity;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import com.sparta.areadevelopment.util.TimeSortedIdGenerator;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import org.hibernate.annotations.IdGeneratorType;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+/**
+ * persist 시점에 {@link TimeSortedIdGenerator} 로 고유번호를 채우는 어노테이션입니다. @GeneratedValue 대신 @Id 와 함께 사용합니다.
+ * <p>
+ * 고유번호를 INSERT 전에 알 수 있으므로 hibernate.jdbc.batch_size 만큼 INSERT 가 모아서 실행됩니다.
+ */
+@IdGeneratorType(TimeSortedId.Generator.class)
+@Retention(RUNTIME)
+@Target(FIELD)
+public @interface TimeSortedId {
+
+    class Generator implements IdentifierGenerator {
+
+        @Override
+        public Object generate(SharedSessionContractImplementor session, Object object) {
+            return TimeSortedIdGenerator.nextId();
+        }
+    }
+}
@@ -1,18 +1,21 @@
 package com.sparta.areadevelopment.entity;
 
 
+import com.sparta.areadevelopment.config.SecondLevelCacheConfig;
 import com.sparta.areadevelopment.dto.UpdateUserDto;
 import com.sparta.areadevelopment.enums.StatusEnum;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import lombok.Getter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * @String status : 탈퇴 여부를 저장 합니다. -> "Active", "Deleted"
@@ -20,11 +23,15 @@ import lombok.Getter;
 
 @Entity
 @Getter
-@Table(name = "users")
+// 게시글/댓글 삭제가 끝나지 않은 탈퇴 사용자를 찾기 위한 인덱스
+@Table(name = "users",
+        indexes = @Index(name = "idx_users_status_deleted_at", columnList = "status, deleted_at"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.USER_REGION)
 public class User extends Timestamped {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeSortedId
     private Long id;
 
     @Column(unique = true, nullable = false)
@@ -0,0 +1,94 @@
+package com.sparta.areadevelopment.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 이메일 인증번호(VerificationCode) 엔티티 클래스. 여러 서버가 인증번호를 공유할때(verification.store=table) 사용합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+// 만료된 인증번호를 지우기 위한 인덱스
+@Table(name = "verification_codes",
+        indexes = @Index(name = "idx_verification_codes_expires_at", columnList = "expires_at"))
+public class VerificationCode {
+
+    /**
+     * 인증할 이메일, 이메일마다 가장 최근 인증번호 하나만 보관합니다.
+     */
+    @Id
+    private String email;
+
+    /**
+     * 인증번호 해시.
+     */
+    @Column(nullable = false)
+    private String codeHash;
+
+    /**
+     * 틀린 횟수.
+     */
+    @Column(nullable = false)
+    private int attempts;
+
+    /**
+     * 만료 시간.
+     */
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    /**
+     * VerificationCode Entity 의 생성자 입니다.
+     *
+     * @param email     인증할 이메일
+     * @param codeHash  인증번호 해시
+     * @param expiresAt 만료 시간
+     */
+    public VerificationCode(String email, String codeHash, LocalDateTime expiresAt) {
+        this.email = email;
+        this.codeHash = codeHash;
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * 새 인증번호로 바꿉니다. 아직 만료되지 않았으면 틀린 횟수는 이어가고, 만료되었으면 초기화합니다.
+     *
+     * @param codeHash  인증번호 해시
+     * @param now       현재 시간
+     * @param expiresAt 새 만료 시간
+     */
+    public void renew(String codeHash, LocalDateTime now, LocalDateTime expiresAt) {
+        if (isExpired(now)) {
+            this.attempts = 0;
+        }
+        this.codeHash = codeHash;
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * 만료 여부를 확인합니다.
+     *
+     * @param now 현재 시간
+     * @return 만료되었으면 true
+     */
+    public boolean isExpired(LocalDateTime now) {
+        return expiresAt.isBefore(now);
+    }
+
+    /**
+     * 틀린 횟수를 넘겨 잠겼는지 확인합니다.
+     *
+     * @param maxAttempts 최대 시도 횟수
+     * @return 잠겼으면 true
+     */
+    public boolean isLocked(int maxAttempts) {
+        return attempts >= maxAttempts;
+    }
+}
@@ -0,0 +1,28 @@
+package com.sparta.areadevelopment.enums;
+
+/**
+ * 목록 조회시 게시글 내용을 얼마나 보여줄지 정하는 Enum 클래스
+ */
+public enum ContentModeEnum {
+
+    /**
+     * SUMMARY 내용 앞부분 100자 미리보기, FULL 전체 내용
+     */
+    SUMMARY(100),
+    FULL(Integer.MAX_VALUE);
+
+    private final int length;
+
+    ContentModeEnum(int length) {
+        this.length = length;
+    }
+
+    /**
+     * 조회 쿼리에서 내용을 자를 길이, FULL 은 자르지 않도록 최대값입니다.
+     *
+     * @return 내용 최대 길이
+     */
+    public int getLength() {
+        return length;
+    }
+}
@@ -0,0 +1,19 @@
+package com.sparta.areadevelopment.enums;
+
+/**
+ * 발송 대기 메일(mail_outbox)의 상태
+ */
+public enum MailStatusEnum {
+    /**
+     * 발송 대기, 실패한 메일도 다시 보낼 시간까지 이 상태로 기다립니다.
+     */
+    PENDING,
+    /**
+     * 발송 완료
+     */
+    SENT,
+    /**
+     * 최대 시도 횟수를 넘었거나 보낼 수 없는 메일, 더 이상 보내지 않습니다.
+     */
+    DEAD;
+}
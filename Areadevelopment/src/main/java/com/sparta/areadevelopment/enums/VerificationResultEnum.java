@@ -0,0 +1,23 @@
+package com.sparta.areadevelopment.enums;
+
+/**
+ * 이메일 인증번호 확인 결과
+ */
+public enum VerificationResultEnum {
+    /**
+     * 인증 완료, 사용한 인증번호는 지워집니다.
+     */
+    VERIFIED,
+    /**
+     * 인증번호가 틀림, 남은 횟수 안에서 다시 입력할 수 있습니다.
+     */
+    MISMATCH,
+    /**
+     * 인증번호를 받은 적이 없거나 유효 시간이 지남
+     */
+    EXPIRED,
+    /**
+     * 틀린 횟수가 최대 시도 횟수를 넘어 인증번호가 지워짐, 새 인증번호를 받아야 합니다.
+     */
+    ATTEMPTS_EXCEEDED;
+}
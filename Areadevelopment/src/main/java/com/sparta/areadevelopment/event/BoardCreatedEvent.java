@@ -0,0 +1,24 @@
+package com.sparta.areadevelopment.event;
+
+import lombok.Getter;
+
+/**
+ * 게시글이 작성되었을때 발행하는 이벤트
+ * <p>
+ * 작성자와 작성자의 팔로워 타임라인에 게시글을 추가(fan-out)하는데 사용합니다.
+ */
+@Getter
+public class BoardCreatedEvent {
+
+    /**
+     * @Long boardId 작성된 게시글 고유번호
+     * @Long authorId 작성자 고유번호
+     */
+    private final Long boardId;
+    private final Long authorId;
+
+    public BoardCreatedEvent(Long boardId, Long authorId) {
+        this.boardId = boardId;
+        this.authorId = authorId;
+    }
+}
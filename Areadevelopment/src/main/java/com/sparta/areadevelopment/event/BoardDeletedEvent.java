@@ -0,0 +1,20 @@
+package com.sparta.areadevelopment.event;
+
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * 게시글이 삭제(soft delete)되었을때 발행하는 이벤트, 회원탈퇴처럼 여러 게시글이 한 번에 삭제될 수 있습니다.
+ */
+@Getter
+public class BoardDeletedEvent {
+
+    /**
+     * @List boardIds 삭제된 게시글 고유번호 목록
+     */
+    private final List<Long> boardIds;
+
+    public BoardDeletedEvent(List<Long> boardIds) {
+        this.boardIds = boardIds;
+    }
+}
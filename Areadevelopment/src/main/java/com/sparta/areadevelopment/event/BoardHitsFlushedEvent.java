@@ -0,0 +1,20 @@
+package com.sparta.areadevelopment.event;
+
+import java.util.Map;
+import lombok.Getter;
+
+/**
+ * 메모리에 모인 조회수를 DB 에 반영한 뒤 발행하는 이벤트
+ */
+@Getter
+public class BoardHitsFlushedEvent {
+
+    /**
+     * @Map hits 게시글 고유번호별 반영한 조회수
+     */
+    private final Map<Long, Long> hits;
+
+    public BoardHitsFlushedEvent(Map<Long, Long> hits) {
+        this.hits = hits;
+    }
+}
@@ -0,0 +1,22 @@
+package com.sparta.areadevelopment.event;
+
+import lombok.Getter;
+
+/**
+ * 게시글 좋아요가 등록/취소되었을때 발행하는 이벤트
+ */
+@Getter
+public class BoardLikeChangedEvent {
+
+    /**
+     * @Long boardId 좋아요가 바뀐 게시글 고유번호
+     * @long delta 좋아요 증감량 (등록 : 1, 취소 : -1)
+     */
+    private final Long boardId;
+    private final long delta;
+
+    public BoardLikeChangedEvent(Long boardId, long delta) {
+        this.boardId = boardId;
+        this.delta = delta;
+    }
+}
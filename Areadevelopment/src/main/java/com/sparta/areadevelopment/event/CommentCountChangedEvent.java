@@ -0,0 +1,22 @@
+package com.sparta.areadevelopment.event;
+
+import lombok.Getter;
+
+/**
+ * 게시글의 댓글이 등록/삭제되었을때 발행하는 이벤트
+ */
+@Getter
+public class CommentCountChangedEvent {
+
+    /**
+     * @Long boardId 댓글 수가 바뀐 게시글 고유번호
+     * @long delta 댓글 수 증감량 (등록 : 1, 삭제 : -1)
+     */
+    private final Long boardId;
+    private final long delta;
+
+    public CommentCountChangedEvent(Long boardId, long delta) {
+        this.boardId = boardId;
+        this.delta = delta;
+    }
+}
@@ -0,0 +1,22 @@
+package com.sparta.areadevelopment.event;
+
+import lombok.Getter;
+
+/**
+ * 댓글 좋아요가 등록/취소되었을때 발행하는 이벤트
+ */
+@Getter
+public class CommentLikeChangedEvent {
+
+    /**
+     * @Long commentId 좋아요가 바뀐 댓글 고유번호
+     * @long delta 좋아요 증감량 (등록 : 1, 취소 : -1)
+     */
+    private final Long commentId;
+    private final long delta;
+
+    public CommentLikeChangedEvent(Long commentId, long delta) {
+        this.commentId = commentId;
+        this.delta = delta;
+    }
+}
@@ -0,0 +1,21 @@
+package com.sparta.areadevelopment.event;
+
+import lombok.Getter;
+
+/**
+ * 팔로우/언팔로우로 팔로잉 목록이 바뀌었을때 발행하는 이벤트
+ * <p>
+ * 타임라인은 팔로잉 목록으로 만들어지므로 이 이벤트를 받아 팔로워의 타임라인을 다시 만듭니다.
+ */
+@Getter
+public class FollowChangedEvent {
+
+    /**
+     * @Long followerId 팔로잉 목록이 바뀐 사용자의 고유번호
+     */
+    private final Long followerId;
+
+    public FollowChangedEvent(Long followerId) {
+        this.followerId = followerId;
+    }
+}
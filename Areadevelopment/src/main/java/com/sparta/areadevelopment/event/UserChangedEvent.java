@@ -0,0 +1,21 @@
+package com.sparta.areadevelopment.event;
+
+import lombok.Getter;
+
+/**
+ * 로그인, 로그아웃, 프로필/비밀번호 수정, 회원탈퇴 등으로 유저 정보가 바뀌었을때 발행하는 이벤트
+ * <p>
+ * 유저 정보를 캐시하고 있는 곳에서는 이 이벤트를 받아 해당 유저의 캐시를 비웁니다.
+ */
+@Getter
+public class UserChangedEvent {
+
+    /**
+     * @String username 정보가 바뀐 유저의 아이디
+     */
+    private final String username;
+
+    public UserChangedEvent(String username) {
+        this.username = username;
+    }
+}
@@ -0,0 +1,23 @@
+package com.sparta.areadevelopment.event;
+
+import java.time.LocalDateTime;
+import lombok.Getter;
+
+/**
+ * 작성한 컨텐츠가 많은 사용자가 탈퇴했을때 발행하는 이벤트, 게시글/댓글은 커밋 이후 나눠서 삭제합니다.
+ */
+@Getter
+public class UserSignedOutEvent {
+
+    /**
+     * @Long userId 탈퇴한 사용자 고유번호
+     * @LocalDateTime deletedAt 탈퇴 시간, 게시글/댓글의 삭제시간으로 사용합니다.
+     */
+    private final Long userId;
+    private final LocalDateTime deletedAt;
+
+    public UserSignedOutEvent(Long userId, LocalDateTime deletedAt) {
+        this.userId = userId;
+        this.deletedAt = deletedAt;
+    }
+}
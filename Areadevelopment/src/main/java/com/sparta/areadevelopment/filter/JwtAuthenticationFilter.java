@@ -1,6 +1,8 @@
 package com.sparta.areadevelopment.filter;
 
 import com.sparta.areadevelopment.enums.AuthEnum;
+import com.sparta.areadevelopment.jwt.AuthenticationCache;
+import com.sparta.areadevelopment.jwt.ParsedToken;
 import com.sparta.areadevelopment.jwt.TokenProvider;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -21,6 +23,7 @@ import org.springframework.web.filter.GenericFilterBean;
 public class JwtAuthenticationFilter extends GenericFilterBean {
 
     private final TokenProvider jwtTokenProvider;
+    private final AuthenticationCache authenticationCache;
 
     /**
      * 필터의 매서드 오버라이딩
@@ -41,12 +44,26 @@ public class JwtAuthenticationFilter extends GenericFilterBean {
         String token = resolveToken((HttpServletRequest) request);
 
         /**
-         *  validateToken 으로 토큰 유효성 검사
-         *  토큰이 유효할 경우 토큰에서 Authentication 객체를 가지고 와서 SecurityContext 에 저장
+         *  이미 검증한 토큰이면 캐시된 Authentication 을 사용
+         *  처음 보는 토큰이면 한 번만 파싱해서 유효한 경우에만
+         *  Authentication 객체를 가지고 와서 캐시하고 SecurityContext 에 저장
+         *  만료되었거나 잘못된 토큰이면 인증 없이 다음 필터로 넘깁니다.
          */
-        if (token != null && jwtTokenProvider.validateToken(token)) {
-            Authentication authentication = jwtTokenProvider.getAuthentication(token);
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+        if (token != null) {
+            Authentication authentication = authenticationCache.get(token);
+            if (authentication == null) {
+                // 검증하는 사이 로그아웃/회원탈퇴가 커밋되면 캐시하지 않도록 먼저 세대 번호를 읽어둡니다.
+                long generation = authenticationCache.generation();
+                ParsedToken parsedToken = jwtTokenProvider.parse(token);
+                if (parsedToken.isValid()) {
+                    authentication = jwtTokenProvider.getAuthentication(parsedToken);
+                    authenticationCache.put(token, authentication, parsedToken.getExpiration(),
+                            generation);
+                }
+            }
+            if (authentication != null) {
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            }
         }
         chain.doFilter(request, response);
     }
@@ -0,0 +1,190 @@
+package com.sparta.areadevelopment.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.sparta.areadevelopment.event.UserChangedEvent;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 검증을 마친 엑세스 토큰의 Authentication 을 보관하는 캐시
+ * <p>
+ * 같은 토큰으로 다시 요청이 오면 서명 검증과 유저 조회를 생략합니다. 토큰 원문 대신 SHA-256 해시를 키로 사용하고, 항목은 토큰의 만료시간(exp)에
+ * 맞춰 사라지며 로그아웃/회원탈퇴 등으로 유저 정보가 바뀌면 해당 유저의 항목을 모두 비웁니다.
+ * <p>
+ * 유저별로 캐시된 토큰 키를 따로 모아두어, 유저 정보가 바뀌었을 때 캐시 전체를 훑지 않고 해당 유저의 키만 바로 지웁니다. 만료되거나 크기 제한으로
+ * 밀려난 항목의 키는 색인에서도 지웁니다.
+ * <p>
+ * 토큰을 검증하고 유저를 조회하는 사이에 로그아웃/회원탈퇴가 커밋되면, 바뀌기 전의 Authentication 이 비운 뒤에 캐시될 수 있습니다. 그래서 검증
+ * 전에 세대 번호(generation)를 읽어두고, 색인에 키를 추가할 때 그 사이 유저 정보가 바뀌어 세대 번호가 달라졌으면 방금 넣은 항목을 지웁니다. 세대
+ * 번호는 유저 정보를 비우는 onUserChanged 와 같은 유저 이름의 색인 compute 안에서 바뀌므로 두 작업은 한 순서로만 일어납니다.
+ */
+@Component
+public class AuthenticationCache {
+
+    private final Cache<String, CachedAuthentication> cache;
+    // 유저 이름별 캐시된 토큰 키, 집합은 compute 안에서만 변경합니다.
+    private final ConcurrentHashMap<String, Set<String>> keysByUsername =
+            new ConcurrentHashMap<>();
+    // 유저 정보가 바뀔 때마다 1 씩 늘어나는 세대 번호, 유저 이름별로 두지 않아 다른 유저의 변경에도 늘어나지만 캐시를 한 번 건너뛸 뿐입니다.
+    private final AtomicLong generation = new AtomicLong();
+
+    public AuthenticationCache(@Value("${jwt.auth-cache.max-size:10000}") long maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry())
+                .evictionListener((String key, CachedAuthentication cached, RemovalCause cause) ->
+                        unindex(cached.authentication.getName(), key))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 캐시된 Authentication 을 조회합니다.
+     *
+     * @param token 엑세스 토큰
+     * @return 캐시된 Authentication, 없거나 만료되었으면 null
+     */
+    public Authentication get(String token) {
+        CachedAuthentication cached = cache.getIfPresent(hash(token));
+        return cached == null ? null : cached.authentication;
+    }
+
+    /**
+     * 토큰을 검증하기 전에 읽어두는 세대 번호
+     *
+     * @return 현재 세대 번호
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * 검증이 끝난 토큰의 Authentication 을 토큰 만료시간까지 보관합니다. 검증을 시작한 뒤 유저 정보가 바뀌었으면 보관하지 않습니다.
+     *
+     * @param token          엑세스 토큰
+     * @param authentication 토큰에서 추출한 Authentication
+     * @param expiration     토큰 만료시간
+     * @param loadedAt       토큰을 검증하기 전에 읽은 세대 번호
+     */
+    public void put(String token, Authentication authentication, Date expiration,
+            long loadedAt) {
+        if (authentication == null || expiration == null) {
+            return;
+        }
+        String key = hash(token);
+        cache.put(key, new CachedAuthentication(authentication, expiration.getTime()));
+        boolean[] stale = new boolean[1];
+        keysByUsername.compute(authentication.getName(), (username, keys) -> {
+            if (generation.get() != loadedAt) {
+                stale[0] = true;
+                return keys;
+            }
+            Set<String> indexed = keys == null ? new HashSet<>() : keys;
+            indexed.add(key);
+            return indexed;
+        });
+        if (stale[0]) {
+            cache.invalidate(key);
+        }
+    }
+
+    /**
+     * 유저 정보가 바뀌면(커밋 이후) 해당 유저로 캐시된 항목을 모두 제거합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        List<Set<String>> removed = new ArrayList<>(1);
+        keysByUsername.compute(event.getUsername(), (username, keys) -> {
+            generation.incrementAndGet();
+            if (keys != null) {
+                removed.add(keys);
+            }
+            return null;
+        });
+        removed.forEach(cache::invalidateAll);
+    }
+
+    /**
+     * 캐시 적중/실패 메트릭 수집용
+     */
+    public Cache<String, ?> getCache() {
+        return cache;
+    }
+
+    // 색인된 유저 수
+    int indexedUsers() {
+        return keysByUsername.size();
+    }
+
+    private void unindex(String username, String key) {
+        keysByUsername.computeIfPresent(username, (name, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+
+    private String hash(String token) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            byte[] digest = md.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 캐시 항목, Authentication 과 토큰 만료시각(epoch ms)
+     */
+    static class CachedAuthentication {
+
+        private final Authentication authentication;
+        private final long expiresAt;
+
+        CachedAuthentication(Authentication authentication, long expiresAt) {
+            this.authentication = authentication;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * 항목마다 토큰의 남은 유효시간만큼만 보관합니다.
+     */
+    private static class TokenExpiry implements Expiry<String, CachedAuthentication> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedAuthentication value, long currentTime) {
+            long remaining = value.expiresAt - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remaining, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedAuthentication value, long currentTime,
+                long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedAuthentication value, long currentTime,
+                long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
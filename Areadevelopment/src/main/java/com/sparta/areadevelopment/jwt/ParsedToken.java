@@ -0,0 +1,50 @@
+package com.sparta.areadevelopment.jwt;
+
+import java.util.Date;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 토큰을 한 번 파싱한 결과
+ * <p>
+ * 서명 검증까지 끝난 토큰이면 VALID, 서명은 맞지만 만료된 토큰이면 EXPIRED, 그 외에는 INVALID 입니다. INVALID 인 경우 subject 와
+ * expiration 은 null 입니다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ParsedToken {
+
+    private static final ParsedToken INVALID = new ParsedToken(Status.INVALID, null, null);
+
+    /**
+     * @Status status 파싱 결과
+     * @String subject 토큰의 subject (username)
+     * @Date expiration 토큰 만료시간
+     */
+    private final Status status;
+    private final String subject;
+    private final Date expiration;
+
+    public enum Status {
+        VALID,
+        EXPIRED,
+        INVALID
+    }
+
+    static ParsedToken valid(String subject, Date expiration) {
+        return new ParsedToken(Status.VALID, subject, expiration);
+    }
+
+    static ParsedToken expired(String subject, Date expiration) {
+        return new ParsedToken(Status.EXPIRED, subject, expiration);
+    }
+
+    static ParsedToken invalid() {
+        return INVALID;
+    }
+
+    public boolean isValid() {
+        return status == Status.VALID;
+    }
+}
@@ -6,6 +6,7 @@ import com.sparta.areadevelopment.enums.AuthEnum;
 import com.sparta.areadevelopment.service.CustomUserDetailsService;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
@@ -28,12 +29,15 @@ public class TokenProvider {
     private static final long REFRESH_TOKEN_EXPIRE_TIME = 1000 * 60 * 60 * 24 * 14;// 2주
     String token = AuthEnum.GRANT_TYPE.getValue();
     private final Key key;
+    // 불변이고 스레드 안전하므로 요청마다 새로 만들지 않고 하나를 재사용합니다.
+    private final JwtParser parser;
     private CustomUserDetailsService detailsService;
 
     public TokenProvider(@Value("${JWT_SECRET_KEY}") String secretKey,
             CustomUserDetailsService detailsService) {
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
         this.detailsService = detailsService;
     }
 
@@ -78,12 +82,41 @@ public class TokenProvider {
      * 토큰에서 유저 정보 추출
      */
     public Authentication getAuthentication(String token) {
-        String username = parseClaims(token).getSubject();
+        return loadAuthentication(parseClaims(token).getSubject());
+    }
+
+    /**
+     * 이미 파싱한 토큰에서 유저 정보 추출
+     */
+    public Authentication getAuthentication(ParsedToken parsedToken) {
+        return loadAuthentication(parsedToken.getSubject());
+    }
+
+    private Authentication loadAuthentication(String username) {
         CustomUserDetails userDetails = detailsService.loadUserByUsername(username);
         return new UsernamePasswordAuthenticationToken(userDetails, "",
                 userDetails.getAuthorities());
     }
 
+    /**
+     * 토큰을 한 번만 파싱해서 검증 결과와 클레임을 함께 반환합니다. 검증에 실패해도 예외를 던지지 않습니다.
+     */
+    public ParsedToken parse(String token) {
+        try {
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            return ParsedToken.valid(claims.getSubject(), claims.getExpiration());
+        } catch (ExpiredJwtException e) {
+            log.debug("Expired JWT Token");
+            return ParsedToken.expired(e.getClaims().getSubject(), e.getClaims().getExpiration());
+        } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
+            log.info("Invalid JWT Token", e);
+        } catch (UnsupportedJwtException e) {
+            log.info("Unsupported JWT Token", e);
+        } catch (IllegalArgumentException e) {
+            log.info("JWT claims string is empty.", e);
+        }
+        return ParsedToken.invalid();
+    }
 
     /**
      * 토큰 정보 검증
@@ -92,7 +125,7 @@ public class TokenProvider {
         log.info("validateToken start");
         log.info("token: {}", token);
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+            parser.parseClaimsJws(token);
             return true;
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
             log.info("Invalid JWT Token", e);
@@ -110,22 +143,13 @@ public class TokenProvider {
 
     private Claims parseClaims(String token) {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            return parser.parseClaimsJws(token).getBody();
         } catch (ExpiredJwtException e) {
             return e.getClaims();
         }
     }
 
     public String getUsername(String refreshToken) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(refreshToken)
-                .getBody();
-        return claims.getSubject();
+        return parser.parseClaimsJws(refreshToken).getBody().getSubject();
     }
 }
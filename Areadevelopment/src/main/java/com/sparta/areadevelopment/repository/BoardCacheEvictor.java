@@ -0,0 +1,74 @@
+package com.sparta.areadevelopment.repository;
+
+import com.sparta.areadevelopment.entity.Board;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JdbcTemplate 으로 boards 행을 직접 수정한 뒤 2차 캐시에 남은 게시글을 지우는 클래스
+ * <p>
+ * Hibernate 를 거치지 않은 UPDATE 는 2차 캐시에 반영되지 않으므로 수정한 게시글만 골라서 지웁니다. (JPQL UPDATE 는 Hibernate 가 게시글
+ * 영역 전체를 지웁니다) 트랜잭션 안에서 호출하면 Hibernate 가 엔티티를 수정할 때와 같이 캐시 항목을 잠그고(soft lock) 트랜잭션이 끝난 뒤에
+ * 풉니다. 잠금을 풀기 전에 시작한 세션은 조회한 게시글을 캐시에 넣지 못하므로, 커밋 직전에 읽은 수정 전 행이 다시 캐시되지 않습니다.
+ */
+@Component
+public class BoardCacheEvictor {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final SessionFactoryImplementor sessionFactory;
+    private final EntityPersister persister;
+    private final EntityDataAccess cacheAccess;
+
+    public BoardCacheEvictor(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.persister = sessionFactory.getMappingMetamodel().getEntityDescriptor(Board.class);
+        this.cacheAccess = persister.getCacheAccessStrategy();
+    }
+
+    /**
+     * 게시글을 2차 캐시에서 지웁니다. 트랜잭션 밖에서 호출하면 바로 지웁니다.
+     *
+     * @param boardIds 수정한 게시글 고유번호 목록
+     */
+    public void evict(Collection<Long> boardIds) {
+        if (boardIds.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            boardIds.forEach(boardId -> sessionFactory.getCache().evict(Board.class, boardId));
+            return;
+        }
+        SharedSessionContractImplementor session = entityManager.unwrap(
+                SharedSessionContractImplementor.class);
+        List<Object> keys = new ArrayList<>(boardIds.size());
+        List<SoftLock> locks = new ArrayList<>(boardIds.size());
+        for (Long boardId : boardIds) {
+            Object key = cacheAccess.generateCacheKey(boardId, persister, sessionFactory, null);
+            keys.add(key);
+            locks.add(cacheAccess.lockItem(session, key, null));
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        for (int i = 0; i < keys.size(); i++) {
+                            cacheAccess.unlockItem(session, keys.get(i), locks.get(i));
+                        }
+                    }
+                });
+    }
+}
@@ -0,0 +1,24 @@
+package com.sparta.areadevelopment.repository;
+
+/**
+ * 게시글 카운터 컬럼을 JPQL UPDATE 대신 SQL 로 갱신하는 Repository 조각입니다. {@link BoardRepository} 가 함께 상속합니다.
+ * <p>
+ * JPQL UPDATE 는 실행될 때마다 2차 캐시의 게시글 영역 전체를 지우므로, 댓글 작성/삭제처럼 자주 일어나는 갱신은 해당 게시글만 캐시에서
+ * 지우도록 따로 구현합니다.
+ */
+public interface BoardCounterRepository {
+
+    /**
+     * 댓글이 작성되었을때 게시글 댓글 수를 증가시킵니다. 트랜잭션 안에서 호출합니다.
+     *
+     * @param boardId 게시글 고유번호
+     */
+    void incrementCommentCount(Long boardId);
+
+    /**
+     * 댓글이 삭제되었을때 게시글 댓글 수를 감소시킵니다. 이미 삭제된 게시글은 0 으로 맞춰져 있으므로 제외합니다. 트랜잭션 안에서 호출합니다.
+     *
+     * @param boardId 게시글 고유번호
+     */
+    void decrementCommentCount(Long boardId);
+}
@@ -0,0 +1,48 @@
+package com.sparta.areadevelopment.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * {@link BoardCounterRepository} 구현체
+ * <p>
+ * JPQL UPDATE 처럼 실행 전에 영속성 컨텍스트를 flush 해 같은 트랜잭션에서 저장한 게시글/댓글도 반영되도록 합니다.
+ */
+public class BoardCounterRepositoryImpl implements BoardCounterRepository {
+
+    private static final String INCREMENT_COMMENT_COUNT_SQL =
+            "UPDATE boards SET comment_count = comment_count + 1 WHERE id = ?";
+    private static final String DECREMENT_COMMENT_COUNT_SQL =
+            "UPDATE boards SET comment_count = comment_count - 1 "
+                    + "WHERE id = ? AND deleted_at IS NULL";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BoardCacheEvictor boardCacheEvictor;
+
+    public BoardCounterRepositoryImpl(JdbcTemplate jdbcTemplate,
+            BoardCacheEvictor boardCacheEvictor) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.boardCacheEvictor = boardCacheEvictor;
+    }
+
+    @Override
+    public void incrementCommentCount(Long boardId) {
+        update(INCREMENT_COMMENT_COUNT_SQL, boardId);
+    }
+
+    @Override
+    public void decrementCommentCount(Long boardId) {
+        update(DECREMENT_COMMENT_COUNT_SQL, boardId);
+    }
+
+    private void update(String sql, Long boardId) {
+        entityManager.flush();
+        jdbcTemplate.update(sql, boardId);
+        boardCacheEvictor.evict(List.of(boardId));
+    }
+}
@@ -1,52 +1,278 @@
 package com.sparta.areadevelopment.repository;
 
+import com.sparta.areadevelopment.dto.BoardResponseDto;
+import com.sparta.areadevelopment.dto.BoardScoreDto;
 import com.sparta.areadevelopment.entity.Board;
+import jakarta.persistence.QueryHint;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import org.springframework.data.domain.Page;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
-public interface BoardRepository extends JpaRepository<Board, Long> {
-
+public interface BoardRepository extends JpaRepository<Board, Long>, BoardCounterRepository {
 
+    /**
+     * 삭제되지 않은 게시글을 조회합니다. 결과(고유번호)는 쿼리 캐시에, 게시글은 2차 캐시에 저장되므로 같은 게시글을 다시 조회하면 DB 를 거치지
+     * 않습니다. boards 테이블이 Hibernate 를 통해 수정되면 쿼리 캐시는 무효화됩니다.
+     *
+     * @param id 게시글 고유번호
+     * @return 게시글
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Board> findByIdAndDeletedAtIsNull(Long id);
 
-    // DeletedAt이 Not Null 인 경우 삭제된 게시글
-    List<Board> findAllByDeletedAtIsNullOrderByCreatedAtDesc();
+    /**
+     * 삭제되지 않은 모든 게시글을 최신순으로 스트리밍합니다. 결과를 한 번에 List 로 올리지 않고 fetch size 만큼씩 가져오므로 게시글 수와
+     * 상관없이 메모리 사용량이 일정합니다. (MySQL 은 useCursorFetch=true 여야 fetch size 가 적용되므로 application.yml 의
+     * hikari.data-source-properties 에 설정해 두었습니다.)
+     * <p>
+     * 전체 게시글이 2차 캐시 board 영역에 들어가 자주 읽는 게시글을 밀어내지 않도록 2차 캐시를 읽지도 쓰지도 않습니다.
+     * 반환된 Stream 은 트랜잭션 안에서 소비하고 반드시 닫아야 하며, 소비한 게시글은 영속성 컨텍스트에서 분리해야 합니다.
+     *
+     * @return 생성일, 고유번호 내림차순 게시글
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("SELECT b FROM Board b WHERE b.deletedAt IS NULL ORDER BY b.createdAt DESC, b.id DESC")
+    Stream<Board> streamAllByDeletedAtIsNull();
+
+    /**
+     * 피드 목록 조회용 DTO 프로젝션입니다. 엔티티를 영속성 컨텍스트에 올리지 않고(더티 체킹 없음) 목록에 필요한 컬럼만 조회하며, 내용이
+     * :contentLength 보다 길면 앞부분만 가져옵니다.
+     */
+    String FEED_SELECT = "SELECT new com.sparta.areadevelopment.dto.BoardResponseDto("
+            + "b.id, b.title, "
+            + "CASE WHEN LENGTH(b.content) > :contentLength "
+            + "THEN SUBSTRING(b.content, 1, :contentLength) ELSE b.content END, "
+            + "b.hits, b.likeCount, b.commentCount, b.createdAt, b.modifiedAt) FROM Board b ";
+
+    /**
+     * 최신순 피드의 첫 페이지를 조회합니다. (Slice 로 받아 count 쿼리를 생략합니다)
+     *
+     * @param contentLength 내용 최대 길이
+     * @param pageable      조회할 개수
+     * @return 생성일, 고유번호 내림차순 게시글
+     */
+    @Query(FEED_SELECT + "WHERE b.deletedAt IS NULL ORDER BY b.createdAt DESC, b.id DESC")
+    Slice<BoardResponseDto> findRecentlyFeed(@Param("contentLength") int contentLength,
+            Pageable pageable);
+
+    /**
+     * 커서(마지막으로 조회한 게시글의 생성일, 고유번호) 이후의 게시글을 최신순으로 조회합니다. OFFSET 없이 인덱스를 탐색하므로 페이지 깊이와 상관없이 비용이
+     * 일정합니다.
+     *
+     * @param createdAt     커서의 생성일
+     * @param id            커서의 게시글 고유번호
+     * @param contentLength 내용 최대 길이
+     * @param pageable      조회할 개수
+     * @return 커서 다음 게시글
+     */
+    @Query(FEED_SELECT + "WHERE b.deletedAt IS NULL "
+            + "AND (b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.id < :id)) "
+            + "ORDER BY b.createdAt DESC, b.id DESC")
+    Slice<BoardResponseDto> findRecentlyFeedAfter(@Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id, @Param("contentLength") int contentLength, Pageable pageable);
+
+    /**
+     * 좋아요순 피드의 첫 페이지를 조회합니다.
+     *
+     * @param contentLength 내용 최대 길이
+     * @param pageable      조회할 개수
+     * @return 좋아요 수, 고유번호 내림차순 게시글
+     */
+    @Query(FEED_SELECT + "WHERE b.deletedAt IS NULL ORDER BY b.likeCount DESC, b.id DESC")
+    Slice<BoardResponseDto> findLikesFeed(@Param("contentLength") int contentLength,
+            Pageable pageable);
+
+    /**
+     * 좋아요 순위를 다시 맞출때 사용합니다. 좋아요 수, 고유번호 내림차순으로 조회합니다.
+     *
+     * @param pageable 조회할 개수
+     * @return 좋아요 수, 고유번호 내림차순 게시글
+     */
+    Slice<Board> findAllByDeletedAtIsNullOrderByLikeCountDescIdDesc(Pageable pageable);
+
+    /**
+     * 커서(마지막으로 조회한 게시글의 좋아요 수, 고유번호) 이후의 게시글을 좋아요순으로 조회합니다.
+     *
+     * @param likeCount     커서의 좋아요 수
+     * @param id            커서의 게시글 고유번호
+     * @param contentLength 내용 최대 길이
+     * @param pageable      조회할 개수
+     * @return 커서 다음 게시글
+     */
+    @Query(FEED_SELECT + "WHERE b.deletedAt IS NULL "
+            + "AND (b.likeCount < :likeCount OR (b.likeCount = :likeCount AND b.id < :id)) "
+            + "ORDER BY b.likeCount DESC, b.id DESC")
+    Slice<BoardResponseDto> findLikesFeedAfter(@Param("likeCount") Long likeCount,
+            @Param("id") Long id, @Param("contentLength") int contentLength, Pageable pageable);
+
+    /**
+     * 기간별 피드의 첫 페이지를 조회합니다.
+     */
+    @Query(FEED_SELECT + "WHERE b.deletedAt IS NULL "
+            + "AND b.createdAt BETWEEN :startDateTime AND :endDateTime "
+            + "ORDER BY b.createdAt DESC, b.id DESC")
+    Slice<BoardResponseDto> findDateFeed(@Param("startDateTime") LocalDateTime startDateTime,
+            @Param("endDateTime") LocalDateTime endDateTime,
+            @Param("contentLength") int contentLength, Pageable pageable);
+
+    /**
+     * 기간 내에서 커서 이후의 게시글을 최신순으로 조회합니다.
+     */
+    @Query(FEED_SELECT + "WHERE b.deletedAt IS NULL "
+            + "AND b.createdAt BETWEEN :startDateTime AND :endDateTime "
+            + "AND (b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.id < :id)) "
+            + "ORDER BY b.createdAt DESC, b.id DESC")
+    Slice<BoardResponseDto> findDateFeedAfter(@Param("startDateTime") LocalDateTime startDateTime,
+            @Param("endDateTime") LocalDateTime endDateTime,
+            @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+            @Param("contentLength") int contentLength, Pageable pageable);
+
+    /**
+     * 순위나 타임라인에 있는 게시글 고유번호로 삭제되지 않은 게시글을 한 번에 조회합니다. 순서는 보장하지 않습니다.
+     *
+     * @param ids           게시글 고유번호 목록
+     * @param contentLength 내용 최대 길이
+     * @return 게시글 목록
+     */
+    @Query(FEED_SELECT + "WHERE b.id IN :ids AND b.deletedAt IS NULL")
+    List<BoardResponseDto> findFeedByIds(@Param("ids") Collection<Long> ids,
+            @Param("contentLength") int contentLength);
+
+    /**
+     * 회원탈퇴시 사용자가 남긴 댓글 수만큼 댓글이 달린 게시글들의 댓글 수를 감소시킵니다. 댓글을 삭제하기 전에 호출합니다.
+     *
+     * @param userId 탈퇴한 사용자 고유번호
+     * @return 갱신된 게시글 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Board b SET b.commentCount = b.commentCount - (SELECT COUNT(c) FROM Comment c "
+            + "WHERE c.board = b AND c.user.id = :userId AND c.deletedAt IS NULL) "
+            + "WHERE b.deletedAt IS NULL AND b.id IN (SELECT c.board.id FROM Comment c "
+            + "WHERE c.user.id = :userId AND c.deletedAt IS NULL)")
+    int decrementCommentCountByUserId(@Param("userId") Long userId);
+
+    /**
+     * 삭제할 댓글 목록만큼 댓글이 달린 게시글들의 댓글 수를 감소시킵니다. 댓글을 삭제하기 전에 호출합니다.
+     *
+     * @param commentIds 삭제할 댓글 고유번호 목록
+     * @return 갱신된 게시글 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Board b SET b.commentCount = b.commentCount - (SELECT COUNT(c) FROM Comment c "
+            + "WHERE c.board = b AND c.id IN :commentIds AND c.deletedAt IS NULL) "
+            + "WHERE b.deletedAt IS NULL AND b.id IN (SELECT c.board.id FROM Comment c "
+            + "WHERE c.id IN :commentIds AND c.deletedAt IS NULL)")
+    int decrementCommentCountByCommentIds(@Param("commentIds") Collection<Long> commentIds);
+
+    /**
+     * 게시글의 현재 좋아요 수를 조회합니다. 영속성 컨텍스트가 아닌 DB 의 값을 읽습니다.
+     *
+     * @param boardId 게시글 고유번호
+     * @return 좋아요 수
+     */
+    @Query("SELECT b.likeCount FROM Board b WHERE b.id = :boardId")
+    Long findLikeCount(@Param("boardId") Long boardId);
 
-    // 최신순으로 Paging
-    Page<Board> findAllByDeletedAtIsNullOrderByCreatedAtDesc(Pageable pageable);
 
-    // 좋아요순으로 Paging
-    Page<Board> findAllByDeletedAtIsNullOrderByLikeCountDesc(Pageable pageable);
+    /**
+     * 사용자가 작성한 삭제되지 않은 게시글 수를 조회합니다.
+     *
+     * @param userId 작성자 고유번호
+     * @return 게시글 수
+     */
+    long countByUserIdAndDeletedAtIsNull(Long userId);
 
-    // 기간별 Paging
-    Page<Board> findAllByDeletedAtIsNullAndCreatedAtBetweenOrderByCreatedAtDesc(
-            LocalDateTime startDateTime, LocalDateTime endDateTime, Pageable pageable);
+    /**
+     * 사용자가 작성한 삭제되지 않은 게시글 고유번호를 오름차순으로 조회합니다. 회원탈퇴시 삭제할 게시글을 나눠서 가져올때 사용합니다.
+     *
+     * @param userId   작성자 고유번호
+     * @param pageable 조회할 개수
+     * @return 게시글 고유번호 목록
+     */
+    @Query("SELECT b.id FROM Board b WHERE b.user.id = :userId AND b.deletedAt IS NULL "
+            + "ORDER BY b.id")
+    List<Long> findActiveIdsByUserId(@Param("userId") Long userId, Pageable pageable);
 
     /**
-     * 좋아요 내역이 저장되었을때 게시판 좋아요 필드값을 증가시키는 쿼리문입니다.
+     * 사용자가 작성한 게시글을 UPDATE 한 번으로 논리삭제 합니다. 엔티티를 불러오지 않으므로 게시글 수와 상관없이 메모리를 쓰지 않습니다.
      *
-     * @param boardId 게시판 고유번호
+     * @param userId    작성자 고유번호
+     * @param deletedAt 삭제시간
+     * @return 삭제된 게시글 수
      */
-    @Modifying
-    @Query("UPDATE Board b SET b.likeCount = b.likeCount + 1 WHERE b.id = :boardId")
-    void incrementLikeCount(@Param("boardId") Long boardId);
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Board b SET b.deletedAt = :deletedAt, b.commentCount = 0 "
+            + "WHERE b.user.id = :userId AND b.deletedAt IS NULL")
+    int softDeleteByUserId(@Param("userId") Long userId,
+            @Param("deletedAt") LocalDateTime deletedAt);
 
     /**
-     * 좋아요 내역이 삭제되었을때 게시판 좋아요 필드값을 감소시키는 쿼리문입니다.
+     * 고유번호 목록에 해당하는 게시글을 논리삭제 합니다.
      *
-     * @param boardId 고유아이디
+     * @param ids       게시글 고유번호 목록
+     * @param deletedAt 삭제시간
+     * @return 삭제된 게시글 수
      */
-    @Modifying
-    @Query("UPDATE Board b SET b.likeCount = b.likeCount - 1 WHERE b.id = :boardId")
-    void decrementLikeCount(@Param("boardId") Long boardId);
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Board b SET b.deletedAt = :deletedAt, b.commentCount = 0 "
+            + "WHERE b.id IN :ids AND b.deletedAt IS NULL")
+    int softDeleteByIds(@Param("ids") Collection<Long> ids,
+            @Param("deletedAt") LocalDateTime deletedAt);
 
+    /**
+     * 타임라인을 다시 만들때 사용합니다. 해당 사용자들이 작성한 게시글 고유번호를 최신순으로 조회합니다.
+     *
+     * @param userIds  작성자 고유번호 목록 (팔로잉 + 본인)
+     * @param pageable 조회할 개수 (타임라인 최대 크기)
+     * @return 게시글 고유번호 목록
+     */
+    @Query("SELECT b.id FROM Board b WHERE b.user.id IN :userIds AND b.deletedAt IS NULL "
+            + "ORDER BY b.id DESC")
+    List<Long> findTimelineBoardIds(@Param("userIds") Collection<Long> userIds, Pageable pageable);
+
+    /**
+     * 인기 점수를 계산할 후보 게시글(since 이후 작성, 좋아요 + 댓글 + 조회수가 minActivity 이상)의 카운터와 댓글 수를 조회합니다. 댓글 수는
+     * comments 를 세지 않고 commentCount 컬럼을 읽습니다. 좋아요와 댓글이 많은 순으로 pageable 개수만큼만 가져옵니다.
+     *
+     * @param since       후보 게시글의 최소 생성일
+     * @param minActivity 후보가 되기 위한 최소 반응 수
+     * @param pageable    조회할 개수
+     * @return 게시글별 점수 계산용 카운터
+     */
+    @Query("SELECT new com.sparta.areadevelopment.dto.BoardScoreDto("
+            + "b.id, b.likeCount, b.hits, b.createdAt, b.commentCount) "
+            + "FROM Board b WHERE b.deletedAt IS NULL AND b.createdAt >= :since "
+            + "AND b.likeCount + b.commentCount + b.hits >= :minActivity "
+            + "ORDER BY b.likeCount + b.commentCount DESC, b.id DESC")
+    List<BoardScoreDto> findScoreCandidates(@Param("since") LocalDateTime since,
+            @Param("minActivity") long minActivity, Pageable pageable);
 
-    List<Board> findByUserIdAndDeletedAtIsNull(Long id);
+    /**
+     * 후보가 아니었다가 반응이 생긴 게시글 중 인기 점수 후보 조건을 만족하는 게시글의 카운터를 조회합니다.
+     *
+     * @param ids         게시글 고유번호 목록
+     * @param since       후보 게시글의 최소 생성일
+     * @param minActivity 후보가 되기 위한 최소 반응 수
+     * @return 게시글별 점수 계산용 카운터
+     */
+    @Query("SELECT new com.sparta.areadevelopment.dto.BoardScoreDto("
+            + "b.id, b.likeCount, b.hits, b.createdAt, b.commentCount) "
+            + "FROM Board b WHERE b.id IN :ids AND b.deletedAt IS NULL AND b.createdAt >= :since "
+            + "AND b.likeCount + b.commentCount + b.hits >= :minActivity")
+    List<BoardScoreDto> findScoreCandidatesByIds(@Param("ids") Collection<Long> ids,
+            @Param("since") LocalDateTime since, @Param("minActivity") long minActivity);
 }
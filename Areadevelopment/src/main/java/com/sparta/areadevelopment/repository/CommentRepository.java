@@ -1,9 +1,14 @@
 package com.sparta.areadevelopment.repository;
 
 
+import com.sparta.areadevelopment.dto.CommentResponseDto;
 import com.sparta.areadevelopment.entity.Comment;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -11,41 +16,104 @@ import org.springframework.data.repository.query.Param;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
+    String COMMENT_SELECT = "SELECT new com.sparta.areadevelopment.dto.CommentResponseDto("
+            + "c.id, c.board.id, c.content, c.likeCount, c.createdAt, c.modifiedAt) "
+            + "FROM Comment c ";
+
     /**
-     * 생성일자 내림차순으로 게시판 하나의 종속된 삭제되지않은 모든 댓글을 조회합니다.
+     * 게시글에 종속된 삭제되지않은 댓글의 첫 페이지를 생성일자 내림차순으로 조회합니다. 게시글/작성자 엔티티를 읽지 않고 DTO 로 바로 받습니다.
      *
-     * @param boardId 게시글 고유번호
-     * @return 댓글 상세정보 목록
+     * @param boardId  게시글 고유번호
+     * @param pageable 조회할 개수
+     * @return 생성일, 고유번호 내림차순 댓글
      */
-    Optional<List<Comment>> findByDeletedAtNullAndBoardIdOrderByCreatedAtDesc(Long boardId);
+    @Query(COMMENT_SELECT + "WHERE c.board.id = :boardId AND c.deletedAt IS NULL "
+            + "ORDER BY c.createdAt DESC, c.id DESC")
+    Slice<CommentResponseDto> findComments(@Param("boardId") Long boardId, Pageable pageable);
 
     /**
-     * 좋아요 내역이 저장되었을때 댓글 좋아요 필드값을 증가시키는 쿼리문입니다.
+     * 커서(마지막으로 조회한 댓글의 생성일, 고유번호) 이후의 댓글을 조회합니다. idx_comments_board_deleted_created 인덱스를 타므로
+     * 댓글 수와 페이지 깊이와 상관없이 비용이 일정합니다.
      *
-     * @param commentId 댓글 고유번호
+     * @param boardId   게시글 고유번호
+     * @param createdAt 커서의 생성일
+     * @param id        커서의 댓글 고유번호
+     * @param pageable  조회할 개수
+     * @return 커서 다음 댓글
      */
-    @Modifying
-    @Query("UPDATE Comment c SET c.likeCount = c.likeCount + 1 WHERE c.id = :commentId")
-    void incrementLikeCount(@Param("commentId") Long commentId);
+    @Query(COMMENT_SELECT + "WHERE c.board.id = :boardId AND c.deletedAt IS NULL "
+            + "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) "
+            + "ORDER BY c.createdAt DESC, c.id DESC")
+    Slice<CommentResponseDto> findCommentsAfter(@Param("boardId") Long boardId,
+            @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
 
     /**
-     * 좋아요 내역이 삭제되었을때 게시판 좋아요 필드값을 감소시키는 쿼리문입니다.
+     * 댓글의 현재 좋아요 수를 조회합니다.
      *
      * @param commentId 댓글 고유번호
+     * @return 좋아요 수
+     */
+    @Query("SELECT c.likeCount FROM Comment c WHERE c.id = :commentId")
+    Long findLikeCount(@Param("commentId") Long commentId);
+
+
+    /**
+     * 게시글에 종속된 댓글을 UPDATE 한 번으로 논리삭제 합니다.
+     *
+     * @param boardId   게시글 고유번호
+     * @param deletedAt 삭제시간
+     * @return 삭제된 댓글 수
      */
-    @Modifying
-    @Query("UPDATE Comment c SET c.likeCount = c.likeCount - 1 WHERE c.id = :commentId")
-    void decrementLikeCount(@Param("commentId") Long commentId);
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Comment c SET c.deletedAt = :deletedAt, c.modifiedAt = :deletedAt "
+            + "WHERE c.board.id = :boardId AND c.deletedAt IS NULL")
+    int softDeleteByBoardId(@Param("boardId") Long boardId,
+            @Param("deletedAt") LocalDateTime deletedAt);
 
+    /**
+     * 사용자가 작성한 댓글을 UPDATE 한 번으로 논리삭제 합니다.
+     *
+     * @param userId    작성자 고유번호
+     * @param deletedAt 삭제시간
+     * @return 삭제된 댓글 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Comment c SET c.deletedAt = :deletedAt, c.modifiedAt = :deletedAt "
+            + "WHERE c.user.id = :userId AND c.deletedAt IS NULL")
+    int softDeleteByUserId(@Param("userId") Long userId,
+            @Param("deletedAt") LocalDateTime deletedAt);
 
     /**
-     * 삭제 처리 되어있지않고 해당 유저가 작성한? ????????????????????????????????????????????
+     * 고유번호 목록에 해당하는 댓글을 논리삭제 합니다.
      *
-     * @param boardId
-     * @param userId
-     * @return
+     * @param ids       댓글 고유번호 목록
+     * @param deletedAt 삭제시간
+     * @return 삭제된 댓글 수
      */
-    List<Comment> findByBoardIdAndDeletedAtIsNull(Long boardId);
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Comment c SET c.deletedAt = :deletedAt, c.modifiedAt = :deletedAt "
+            + "WHERE c.id IN :ids AND c.deletedAt IS NULL")
+    int softDeleteByIds(@Param("ids") Collection<Long> ids,
+            @Param("deletedAt") LocalDateTime deletedAt);
+
+    /**
+     * 사용자가 작성한 삭제되지 않은 댓글 수를 조회합니다.
+     *
+     * @param userId 작성자 고유번호
+     * @return 댓글 수
+     */
+    long countByUserIdAndDeletedAtIsNull(Long userId);
+
+    /**
+     * 사용자가 작성한 삭제되지 않은 댓글 고유번호를 오름차순으로 조회합니다. 회원탈퇴시 삭제할 댓글을 나눠서 가져올때 사용합니다.
+     *
+     * @param userId   작성자 고유번호
+     * @param pageable 조회할 개수
+     * @return 댓글 고유번호 목록
+     */
+    @Query("SELECT c.id FROM Comment c WHERE c.user.id = :userId AND c.deletedAt IS NULL "
+            + "ORDER BY c.id")
+    List<Long> findActiveIdsByUserId(@Param("userId") Long userId, Pageable pageable);
 
     /**
      * 삭제되지않은 댓글 하나의 정보를 불러옵니다.
@@ -54,6 +122,4 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      * @return 댓글 하나의 정보
      */
     Optional<Comment> findByIdAndDeletedAtIsNull(Long commentId);
-
-    List<Comment> findByUserIdAndDeletedAtIsNull(Long userId);
 }
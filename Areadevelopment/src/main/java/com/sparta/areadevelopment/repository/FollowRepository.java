@@ -0,0 +1,34 @@
+package com.sparta.areadevelopment.repository;
+
+import com.sparta.areadevelopment.entity.Follow;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * Follow Entity 와 DB 간의 상호작용을 담당합니다.
+ */
+public interface FollowRepository extends JpaRepository<Follow, Long> {
+
+    Optional<Follow> findByFollowerIdAndFolloweeId(Long followerId, Long followeeId);
+
+    /**
+     * 해당 사용자를 팔로우하는 사용자들의 고유번호를 조회합니다.
+     *
+     * @param followeeId 팔로우 당한 사용자 고유번호
+     * @return 팔로워 고유번호 목록
+     */
+    @Query("SELECT f.follower.id FROM Follow f WHERE f.followee.id = :followeeId")
+    List<Long> findFollowerIds(@Param("followeeId") Long followeeId);
+
+    /**
+     * 해당 사용자가 팔로우하는 사용자들의 고유번호를 조회합니다.
+     *
+     * @param followerId 팔로우를 한 사용자 고유번호
+     * @return 팔로잉 고유번호 목록
+     */
+    @Query("SELECT f.followee.id FROM Follow f WHERE f.follower.id = :followerId")
+    List<Long> findFolloweeIds(@Param("followerId") Long followerId);
+}
@@ -0,0 +1,131 @@
+package com.sparta.areadevelopment.repository;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparta.areadevelopment.util.AsyncCacheLoader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 타임라인을 고정 크기 링버퍼로 메모리에 보관하는 {@link TimelineStore}
+ * <p>
+ * 보관하는 사용자 수(max-users)와 사용자별 게시글 수(capacity)가 모두 제한되므로 메모리 사용량이 일정합니다. 오래 조회하지 않은 사용자의 타임라인은
+ * 밀려나고 다음 조회때 DB 에서 다시 만들어집니다. 타임라인을 만드는 동안 들어온 추가 요청은 만들기가 끝난 뒤에 반영됩니다. 타임라인은 캐시
+ * 잠금 밖에서 만들어지므로({@link AsyncCacheLoader}) DB 조회 중에 가상 스레드가 캐리어 스레드에 고정되지 않습니다.
+ */
+@Component
+public class InMemoryTimelineStore implements TimelineStore {
+
+    private final AsyncCache<Long, Timeline> timelines;
+    private final int capacity;
+
+    public InMemoryTimelineStore(@Value("${timeline.capacity:500}") int capacity,
+            @Value("${timeline.max-users:10000}") long maxUsers) {
+        this.capacity = capacity;
+        this.timelines = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .buildAsync();
+    }
+
+    @Override
+    public void append(Long userId, Long boardId) {
+        CompletableFuture<Timeline> timeline = timelines.getIfPresent(userId);
+        if (timeline != null) {
+            timeline.thenAccept(loaded -> loaded.add(boardId));
+        }
+    }
+
+    @Override
+    public List<Long> read(Long userId, Long beforeBoardId, int limit,
+            Function<Long, List<Long>> loader) {
+        Timeline timeline = AsyncCacheLoader.get(timelines, userId,
+                key -> new Timeline(capacity, loader.apply(key)));
+        return timeline.read(beforeBoardId == null ? Long.MAX_VALUE : beforeBoardId, limit);
+    }
+
+    @Override
+    public void evict(Long userId) {
+        timelines.synchronous().invalidate(userId);
+    }
+
+    @Override
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * 게시글 고유번호를 최신순(내림차순)으로 보관하는 고정 크기 링버퍼, 가득 차면 가장 오래된 게시글을 덮어씁니다.
+     */
+    static class Timeline {
+
+        private final long[] boardIds;
+        private int head;   // 가장 최신 게시글의 다음 칸
+        private int size;
+
+        Timeline(int capacity, List<Long> newestFirst) {
+            this.boardIds = new long[capacity];
+            for (int i = Math.min(newestFirst.size(), capacity) - 1; i >= 0; i--) {
+                add(newestFirst.get(i));
+            }
+        }
+
+        synchronized void add(long boardId) {
+            if (size > 0 && boardId <= get(0)) {
+                insert(boardId);
+                return;
+            }
+            boardIds[head] = boardId;
+            head = (head + 1) % boardIds.length;
+            if (size < boardIds.length) {
+                size++;
+            }
+        }
+
+        synchronized List<Long> read(long beforeBoardId, int limit) {
+            List<Long> result = new ArrayList<>(limit);
+            for (int i = 0; i < size && result.size() < limit; i++) {
+                long boardId = get(i);
+                if (boardId < beforeBoardId) {
+                    result.add(boardId);
+                }
+            }
+            return result;
+        }
+
+        // i 번째로 최신인 게시글 고유번호
+        private long get(int i) {
+            return boardIds[Math.floorMod(head - 1 - i, boardIds.length)];
+        }
+
+        private void set(int i, long boardId) {
+            boardIds[Math.floorMod(head - 1 - i, boardIds.length)] = boardId;
+        }
+
+        // 동시에 작성된 게시글의 fan-out 순서가 뒤바뀐 경우, 이미 있는 게시글이면 무시하고 아니면 순서에 맞게 끼워 넣습니다.
+        private void insert(long boardId) {
+            int position = 0;
+            while (position < size && get(position) > boardId) {
+                position++;
+            }
+            if (position < size && get(position) == boardId) {
+                return;
+            }
+            if (position == boardIds.length) {
+                return; // 보관 범위보다 오래된 게시글
+            }
+            // head 를 한 칸 늘리면 기존 게시글이 모두 한 칸씩 오래된 쪽으로 밀리므로, position 보다 최신인 게시글만 다시 당겨옵니다.
+            head = (head + 1) % boardIds.length;
+            if (size < boardIds.length) {
+                size++;
+            }
+            for (int i = 0; i < position; i++) {
+                set(i, get(i + 1));
+            }
+            set(position, boardId);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.sparta.areadevelopment.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.sparta.areadevelopment.enums.VerificationResultEnum;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인증번호를 서버 메모리에 보관하는 {@link VerificationCodeStore}
+ * <p>
+ * 이메일을 키로 하는 Caffeine 캐시라 조회/저장이 O(1) 이고, 저장 후 ttl 이 지나면 만료됩니다. 잠긴 인증번호는 다시 저장하지 않으므로
+ * 마지막으로 보낸 뒤 ttl 이 지나면 잠금도 풀립니다. 보관 개수(max-size)가 제한되므로 넘치면
+ * 오래 쓰이지 않은 인증번호부터 밀려납니다. 서버마다 따로 보관하므로 여러 서버를 띄울때는 table 저장소를 사용합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "verification.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryVerificationCodeStore implements VerificationCodeStore {
+
+    private final Cache<String, PendingCode> codes;
+    private final int maxAttempts;
+    private final long ttlNanos;
+    private final Ticker ticker;
+
+    @Autowired
+    public InMemoryVerificationCodeStore(
+            @Value("${verification.ttl-seconds:300}") long ttlSeconds,
+            @Value("${verification.max-attempts:5}") int maxAttempts,
+            @Value("${verification.max-size:100000}") long maxSize) {
+        this(ttlSeconds, maxAttempts, maxSize, Ticker.systemTicker());
+    }
+
+    InMemoryVerificationCodeStore(long ttlSeconds, int maxAttempts, long maxSize, Ticker ticker) {
+        this.maxAttempts = maxAttempts;
+        this.ttlNanos = Duration.ofSeconds(ttlSeconds).toNanos();
+        this.ticker = ticker;
+        // 틀린 횟수를 늘리는 computeIfPresent 도 쓰기이므로, 만료 시간은 쓸때마다 늘리지 않고 인증번호를 저장할때 정한 시간을 사용합니다.
+        this.codes = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, PendingCode>() {
+                    @Override
+                    public long expireAfterCreate(String email, PendingCode code, long now) {
+                        return code.expiresAt - now;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String email, PendingCode code, long now,
+                            long currentDuration) {
+                        return code.expiresAt - now;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String email, PendingCode code, long now,
+                            long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .ticker(ticker)
+                .build();
+    }
+
+    @Override
+    public boolean save(String email, String codeHash) {
+        // 잠긴 인증번호는 다시 쓰지 않아야 만료 시간이 늘어나지 않습니다.
+        PendingCode current = codes.getIfPresent(email);
+        if (current != null && current.isLocked(maxAttempts)) {
+            return false;
+        }
+        PendingCode saved = codes.asMap().compute(email, (key, previous) ->
+                previous != null && previous.isLocked(maxAttempts) ? previous
+                        : new PendingCode(codeHash, previous, ticker.read() + ttlNanos));
+        return !saved.isLocked(maxAttempts);
+    }
+
+    @Override
+    public VerificationResultEnum verify(String email, String codeHash) {
+        PendingCode code = codes.getIfPresent(email);
+        if (code == null) {
+            return VerificationResultEnum.EXPIRED;
+        }
+        if (code.isLocked(maxAttempts)) {
+            return VerificationResultEnum.ATTEMPTS_EXCEEDED;
+        }
+        // 같은 인증번호로 동시에 확인해도 한 번만 성공하도록, 지운 요청만 성공으로 처리합니다.
+        if (code.matches(codeHash)) {
+            return codes.asMap().remove(email, code) ? VerificationResultEnum.VERIFIED
+                    : VerificationResultEnum.EXPIRED;
+        }
+        // 틀린 횟수는 저장과 같은 키 잠금 안에서 늘려, 동시에 다시 보낸 인증번호로 옮겨지기 전의 횟수만 늘리는 일이 없게 합니다.
+        // 그 사이 새 인증번호로 바뀌었거나 다른 요청이 먼저 잠갔으면 이번 틀린 횟수는 세지 않습니다.
+        int[] failures = {0};
+        codes.asMap().computeIfPresent(email, (key, current) -> {
+            if (current == code && !current.isLocked(maxAttempts)) {
+                failures[0] = current.failures.incrementAndGet();
+            }
+            return current;
+        });
+        // 잠긴 인증번호는 지우지 않고 만료될 때까지 남겨둬야 다시 보내도 틀린 횟수가 초기화되지 않습니다.
+        return failures[0] >= maxAttempts
+                ? VerificationResultEnum.ATTEMPTS_EXCEEDED : VerificationResultEnum.MISMATCH;
+    }
+
+    private static class PendingCode {
+
+        private final byte[] hash;
+        private final AtomicInteger failures = new AtomicInteger();
+        // 만료 시간 (ticker 기준 ns)
+        private final long expiresAt;
+
+        PendingCode(String codeHash, PendingCode previous, long expiresAt) {
+            this.hash = codeHash.getBytes(StandardCharsets.UTF_8);
+            this.expiresAt = expiresAt;
+            if (previous != null) {
+                failures.set(previous.failures.get());
+            }
+        }
+
+        boolean isLocked(int maxAttempts) {
+            return failures.get() >= maxAttempts;
+        }
+
+        boolean matches(String codeHash) {
+            return MessageDigest.isEqual(hash, codeHash.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -2,8 +2,17 @@ package com.sparta.areadevelopment.repository;
 
 import com.sparta.areadevelopment.entity.Like;
 import com.sparta.areadevelopment.enums.LikeTypeEnum;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 /**
  * Like Entity 와 DB 간의 상호작용을 담당합니다.
@@ -21,5 +30,80 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
     Optional<Like> findByUserIdAndContentIdAndContentType(Long user_id, Long typeId,
             LikeTypeEnum type);
 
+    /**
+     * 사용자가 좋아요를 누른 컨텐츠 중 주어진 고유번호에 해당하는 것들을 한 번에 조회합니다. (user_id, content_id, content_type) 유니크
+     * 인덱스만으로 처리되는 쿼리입니다.
+     *
+     * @param userId     사용자 고유번호
+     * @param contentIds 확인할 컨텐츠 고유번호 목록
+     * @return 좋아요를 누른 컨텐츠의 타입과 고유번호
+     */
+    @Query("SELECT l.contentType AS contentType, l.contentId AS contentId FROM Like l "
+            + "WHERE l.user.id = :userId AND l.contentId IN :contentIds")
+    List<LikedContent> findLikedContents(@Param("userId") Long userId,
+            @Param("contentIds") Collection<Long> contentIds);
+
+    /**
+     * 좋아요 내역을 조회하지 않고 바로 삭제합니다.
+     *
+     * @param userId      사용자 고유번호
+     * @param contentId   컨텐츠 고유번호
+     * @param contentType 컨텐츠 타입
+     * @return 삭제된 행 수, 좋아요 내역이 있었다면 1
+     */
+    @Modifying
+    @Query("DELETE FROM Like l WHERE l.user.id = :userId AND l.contentId = :contentId "
+            + "AND l.contentType = :contentType")
+    int deleteLike(@Param("userId") Long userId, @Param("contentId") Long contentId,
+            @Param("contentType") LikeTypeEnum contentType);
+
+    /**
+     * 삭제되지 않았고 본인이 작성하지 않은 게시글에만 좋아요를 등록합니다. 이미 좋아요가 있으면 유니크 인덱스에 걸려
+     * 예외(유니크 인덱스 위반)를 던집니다.
+     *
+     * @param id        등록할 좋아요 고유번호
+     * @param userId    사용자 고유번호
+     * @param boardId   게시글 고유번호
+     * @param createdAt 좋아요 시간
+     * @return 등록된 행 수, 컨텐츠가 없거나 본인 컨텐츠라 등록되지 않았다면 0
+     */
+    @Modifying
+    // 수정하는 테이블(likes)을 알려주지 않으면 Hibernate 가 2차 캐시 전체를 지웁니다.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "likes"))
+    @Query(value = "INSERT INTO likes (id, user_id, content_id, content_type, created_at) "
+            + "SELECT :id, :userId, b.id, 'BOARD', :createdAt FROM boards b "
+            + "WHERE b.id = :boardId AND b.deleted_at IS NULL AND b.user_id <> :userId",
+            nativeQuery = true)
+    int insertBoardLike(@Param("id") Long id, @Param("userId") Long userId,
+            @Param("boardId") Long boardId, @Param("createdAt") LocalDateTime createdAt);
+
+    /**
+     * 삭제되지 않았고 본인이 작성하지 않은 댓글에만 좋아요를 등록합니다. 이미 좋아요가 있으면 유니크 인덱스에 걸려
+     * 예외(유니크 인덱스 위반)를 던집니다.
+     *
+     * @param id        등록할 좋아요 고유번호
+     * @param userId    사용자 고유번호
+     * @param commentId 댓글 고유번호
+     * @param createdAt 좋아요 시간
+     * @return 등록된 행 수, 컨텐츠가 없거나 본인 컨텐츠라 등록되지 않았다면 0
+     */
+    @Modifying
+    // 수정하는 테이블(likes)을 알려주지 않으면 Hibernate 가 2차 캐시 전체를 지웁니다.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "likes"))
+    @Query(value = "INSERT INTO likes (id, user_id, content_id, content_type, created_at) "
+            + "SELECT :id, :userId, c.id, 'COMMENT', :createdAt FROM comments c "
+            + "WHERE c.id = :commentId AND c.deleted_at IS NULL AND c.user_id <> :userId",
+            nativeQuery = true)
+    int insertCommentLike(@Param("id") Long id, @Param("userId") Long userId,
+            @Param("commentId") Long commentId, @Param("createdAt") LocalDateTime createdAt);
+
+    /**
+     * 좋아요를 누른 컨텐츠의 타입과 고유번호만 담는 프로젝션입니다.
+     */
+    interface LikedContent {
+
+        LikeTypeEnum getContentType();
 
+        Long getContentId();
+    }
 }
@@ -0,0 +1,47 @@
+package com.sparta.areadevelopment.repository;
+
+import com.sparta.areadevelopment.entity.MailOutbox;
+import com.sparta.areadevelopment.enums.MailStatusEnum;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * MailOutbox Entity 와 DB 간의 상호작용을 담당합니다.
+ */
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+
+    /**
+     * 보낼 시간이 된 대기 메일을 오래 기다린 순으로 조회합니다. (status, next_attempt_at) 인덱스를 사용합니다.
+     *
+     * @param status   조회할 상태 (PENDING)
+     * @param now      현재 시간
+     * @param pageable 한 번에 가져올 개수
+     * @return 보낼 메일 목록
+     */
+    @Query("SELECT m FROM MailOutbox m WHERE m.status = :status AND m.nextAttemptAt <= :now "
+            + "ORDER BY m.nextAttemptAt")
+    List<MailOutbox> findDue(@Param("status") MailStatusEnum status,
+            @Param("now") LocalDateTime now, Pageable pageable);
+
+    long countByStatus(MailStatusEnum status);
+
+    /**
+     * 발송을 끝낸 메일 중 마지막 시도 시간이 before 이전인 메일을 지웁니다. (status, next_attempt_at) 인덱스를 사용합니다.
+     *
+     * @param statuses 지울 상태 (SENT, DEAD)
+     * @param before   보관 기한
+     * @return 지운 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM MailOutbox m WHERE m.status IN :statuses AND m.nextAttemptAt < :before")
+    int deleteFinishedBefore(@Param("statuses") Collection<MailStatusEnum> statuses,
+            @Param("before") LocalDateTime before);
+}
@@ -0,0 +1,115 @@
+package com.sparta.areadevelopment.repository;
+
+import com.sparta.areadevelopment.entity.VerificationCode;
+import com.sparta.areadevelopment.enums.VerificationResultEnum;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 인증번호를 verification_codes 테이블에 보관하는 {@link VerificationCodeStore}
+ * <p>
+ * 여러 서버가 인증번호를 공유하므로 인증번호를 보낸 서버와 확인하는 서버가 달라도 됩니다. 이메일이 기본키라 조회는 기본키 조회 한 번이고, 틀린
+ * 횟수 증가와 인증 완료는 조회 없는 조건부 UPDATE/DELETE 로 처리해 동시에 확인해도 한 요청만 성공합니다. 같은 이메일로 처음 보내는 요청이
+ * 동시에 저장하면 기본키 중복으로 실패한 요청을 갱신으로 다시 시도합니다. 잠긴 행과 만료된 행은 purge 주기마다 만료 시간 기준으로 지웁니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "verification.store", havingValue = "table")
+public class TableVerificationCodeStore implements VerificationCodeStore {
+
+    private final VerificationCodeRepository verificationCodeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration ttl;
+    private final int maxAttempts;
+
+    public TableVerificationCodeStore(VerificationCodeRepository verificationCodeRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${verification.ttl-seconds:300}") long ttlSeconds,
+            @Value("${verification.max-attempts:5}") int maxAttempts) {
+        this.verificationCodeRepository = verificationCodeRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Override
+    public boolean save(String email, String codeHash) {
+        try {
+            return Boolean.TRUE.equals(transactionTemplate.execute(
+                    status -> saveOrRenew(email, codeHash)));
+        } catch (DataIntegrityViolationException e) {
+            // 같은 이메일로 처음 보내는 요청이 동시에 INSERT 하면 한 요청만 성공하므로, 진 요청은 새 트랜잭션에서 먼저 저장된 행을
+            // 갱신합니다. 기본키 중복이 아니었다면 다시 실패해 그대로 던집니다.
+            log.debug("인증번호 동시 저장, 갱신으로 다시 시도합니다. email={}", email);
+            return Boolean.TRUE.equals(transactionTemplate.execute(
+                    status -> saveOrRenew(email, codeHash)));
+        }
+    }
+
+    private boolean saveOrRenew(String email, String codeHash) {
+        LocalDateTime now = LocalDateTime.now();
+        Optional<VerificationCode> code = verificationCodeRepository.findById(email);
+        if (code.isEmpty()) {
+            verificationCodeRepository.save(new VerificationCode(email, codeHash, now.plus(ttl)));
+            return true;
+        }
+        // 잠긴 인증번호는 만료 시간을 늘리지 않고 그대로 둡니다.
+        if (!code.get().isExpired(now) && code.get().isLocked(maxAttempts)) {
+            return false;
+        }
+        code.get().renew(codeHash, now, now.plus(ttl));
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public VerificationResultEnum verify(String email, String codeHash) {
+        Optional<VerificationCode> code = verificationCodeRepository.findById(email);
+        if (code.isEmpty() || code.get().isExpired(LocalDateTime.now())) {
+            return VerificationResultEnum.EXPIRED;
+        }
+        if (code.get().isLocked(maxAttempts)) {
+            return VerificationResultEnum.ATTEMPTS_EXCEEDED;
+        }
+        String stored = code.get().getCodeHash();
+        int attempts = code.get().getAttempts();
+        if (MessageDigest.isEqual(stored.getBytes(StandardCharsets.UTF_8),
+                codeHash.getBytes(StandardCharsets.UTF_8))) {
+            return verificationCodeRepository.consume(email, stored, maxAttempts) == 1
+                    ? VerificationResultEnum.VERIFIED : VerificationResultEnum.EXPIRED;
+        }
+        // 그 사이 새 인증번호로 바뀌었거나 다른 요청이 먼저 잠갔으면 이번 틀린 횟수는 세지 않습니다.
+        if (verificationCodeRepository.incrementAttempts(email, stored, maxAttempts) == 0) {
+            return VerificationResultEnum.MISMATCH;
+        }
+        // 잠긴 행은 지우지 않고 만료될 때까지 남겨둬야 다시 보내도 틀린 횟수가 초기화되지 않습니다.
+        return attempts + 1 >= maxAttempts
+                ? VerificationResultEnum.ATTEMPTS_EXCEEDED : VerificationResultEnum.MISMATCH;
+    }
+
+    /**
+     * 만료된 인증번호를 지웁니다.
+     */
+    @Scheduled(fixedDelayString = "${verification.purge-interval-ms:600000}",
+            initialDelayString = "${verification.purge-interval-ms:600000}")
+    public void purgeExpired() {
+        try {
+            int purged = verificationCodeRepository.deleteExpired(LocalDateTime.now());
+            log.debug("만료된 인증번호 삭제 rows={}", purged);
+        } catch (DataAccessException e) {
+            log.warn("만료된 인증번호 삭제 실패, 다음 주기에 다시 시도합니다.", e);
+        }
+    }
+}
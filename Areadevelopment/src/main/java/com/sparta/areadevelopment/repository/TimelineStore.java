@@ -0,0 +1,46 @@
+package com.sparta.areadevelopment.repository;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 사용자별 홈 타임라인(게시글 고유번호 목록)을 보관하는 저장소
+ * <p>
+ * 게시글 작성시 작성자와 팔로워의 타임라인에 미리 추가(fan-out-on-write)해두고, 조회시에는 보관된 목록만 읽습니다. 타임라인은 최신 게시글부터
+ * 최대 {@link #capacity()} 개까지만 보관하며, 보관하지 않은 사용자의 타임라인은 조회할 때 loader 로 다시 만듭니다. 구현체를 교체해 다른
+ * 저장소를 사용할 수 있습니다.
+ */
+public interface TimelineStore {
+
+    /**
+     * 타임라인이 만들어져 있는 사용자에게만 게시글을 추가합니다. 없는 사용자는 조회할 때 loader 로 만들어지므로 무시합니다.
+     *
+     * @param userId  타임라인 주인의 고유번호
+     * @param boardId 추가할 게시글 고유번호
+     */
+    void append(Long userId, Long boardId);
+
+    /**
+     * 타임라인에서 beforeBoardId 보다 오래된 게시글 고유번호를 최신순으로 조회합니다.
+     *
+     * @param userId        타임라인 주인의 고유번호
+     * @param beforeBoardId 커서(마지막으로 받은 게시글 고유번호), 첫 페이지는 null
+     * @param limit         조회할 개수
+     * @param loader        타임라인이 없을때 최신순 게시글 고유번호 목록을 만드는 함수
+     * @return 게시글 고유번호 목록 (최신순)
+     */
+    List<Long> read(Long userId, Long beforeBoardId, int limit,
+            Function<Long, List<Long>> loader);
+
+    /**
+     * 사용자의 타임라인을 비웁니다. 다음 조회때 다시 만들어집니다.
+     *
+     * @param userId 타임라인 주인의 고유번호
+     */
+    void evict(Long userId);
+
+    /**
+     * 사용자마다 보관하는 최대 게시글 수
+     */
+    int capacity();
+}
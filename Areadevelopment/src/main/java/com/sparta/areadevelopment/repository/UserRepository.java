@@ -2,8 +2,13 @@ package com.sparta.areadevelopment.repository;
 
 import com.sparta.areadevelopment.entity.User;
 import com.sparta.areadevelopment.enums.StatusEnum;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 
 /**
@@ -27,4 +32,19 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findUserByUsernameAndStatus(String username, StatusEnum statusEnum);
 
+    /**
+     * before 이전에 탈퇴했는데 삭제되지 않은 게시글이나 댓글이 남아있는 사용자를 조회합니다. (status, deleted_at) 인덱스로 탈퇴한 사용자만
+     * 훑고, 게시글/댓글은 작성자 인덱스로 하나만 확인합니다.
+     *
+     * @param status   탈퇴 상태 (DELETED)
+     * @param before   탈퇴 시간의 상한
+     * @param pageable 한 번에 조회할 사용자 수
+     * @return 게시글/댓글 삭제가 끝나지 않은 탈퇴 사용자
+     */
+    @Query("SELECT u FROM User u WHERE u.status = :status AND u.deletedAt < :before "
+            + "AND (EXISTS (SELECT b.id FROM Board b WHERE b.user = u AND b.deletedAt IS NULL) "
+            + "OR EXISTS (SELECT c.id FROM Comment c WHERE c.user = u AND c.deletedAt IS NULL)) "
+            + "ORDER BY u.deletedAt")
+    List<User> findSignedOutWithContents(@Param("status") StatusEnum status,
+            @Param("before") LocalDateTime before, Pageable pageable);
 }
@@ -0,0 +1,54 @@
+package com.sparta.areadevelopment.repository;
+
+import com.sparta.areadevelopment.entity.VerificationCode;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * VerificationCode Entity 와 DB 간의 상호작용을 담당합니다.
+ */
+public interface VerificationCodeRepository extends JpaRepository<VerificationCode, String> {
+
+    /**
+     * 확인한 인증번호가 잠기지 않은 채 그대로 남아있을 때만 지웁니다. 동시에 같은 인증번호로 확인해도 한 요청만 1 을 받습니다.
+     *
+     * @param email       인증할 이메일
+     * @param codeHash    확인한 인증번호 해시
+     * @param maxAttempts 최대 시도 횟수
+     * @return 지운 행 수
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM VerificationCode v WHERE v.email = :email AND v.codeHash = :codeHash "
+            + "AND v.attempts < :maxAttempts")
+    int consume(@Param("email") String email, @Param("codeHash") String codeHash,
+            @Param("maxAttempts") int maxAttempts);
+
+    /**
+     * 틀린 횟수를 조회 없이 1 늘립니다. 그 사이 새 인증번호로 바뀌었거나 이미 잠겼으면 늘리지 않습니다.
+     *
+     * @param email       인증할 이메일
+     * @param codeHash    틀린 횟수를 늘릴 인증번호 해시
+     * @param maxAttempts 최대 시도 횟수
+     * @return 변경된 행 수
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE VerificationCode v SET v.attempts = v.attempts + 1 "
+            + "WHERE v.email = :email AND v.codeHash = :codeHash AND v.attempts < :maxAttempts")
+    int incrementAttempts(@Param("email") String email, @Param("codeHash") String codeHash,
+            @Param("maxAttempts") int maxAttempts);
+
+    /**
+     * 만료된 인증번호를 지웁니다. (expires_at 인덱스)
+     *
+     * @param now 현재 시간
+     * @return 지운 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM VerificationCode v WHERE v.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,31 @@
+package com.sparta.areadevelopment.repository;
+
+import com.sparta.areadevelopment.enums.VerificationResultEnum;
+
+/**
+ * 이메일별 인증번호(해시)를 유효 시간 동안 보관하는 저장소
+ * <p>
+ * 이메일마다 가장 최근에 보낸 인증번호 하나만 보관하며, 인증에 성공하면 지워집니다. 틀린 횟수는 인증번호를 다시 보내도 유효 시간 동안 이어지고,
+ * 최대 시도 횟수에 닿으면 유효 시간이 끝날 때까지 그 이메일은 잠깁니다. 해시 비교는 일치하는 글자 수에 따라 시간이 달라지지 않도록 고정 시간
+ * 비교를 사용합니다. verification.store 설정으로 구현체를 고릅니다. (memory, table)
+ */
+public interface VerificationCodeStore {
+
+    /**
+     * 인증번호를 저장합니다. 이미 보낸 인증번호가 있으면 새 인증번호로 바꾸고 유효 시간을 새로 시작하지만, 틀린 횟수는 그대로 이어갑니다.
+     *
+     * @param email    인증할 이메일
+     * @param codeHash 인증번호 해시
+     * @return 저장했으면 true, 틀린 횟수를 넘겨 잠긴 이메일이면 false
+     */
+    boolean save(String email, String codeHash);
+
+    /**
+     * 입력한 인증번호를 확인합니다.
+     *
+     * @param email    인증할 이메일
+     * @param codeHash 입력한 인증번호 해시
+     * @return 확인 결과
+     */
+    VerificationResultEnum verify(String email, String codeHash);
+}
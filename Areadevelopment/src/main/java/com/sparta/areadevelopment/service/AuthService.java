@@ -1,13 +1,13 @@
 package com.sparta.areadevelopment.service;
 
-import com.sparta.areadevelopment.config.MailManager;
-
 import com.sparta.areadevelopment.dto.TokenDto;
 import com.sparta.areadevelopment.entity.User;
 import com.sparta.areadevelopment.enums.AuthEnum;
 import com.sparta.areadevelopment.enums.StatusEnum;
+import com.sparta.areadevelopment.event.UserChangedEvent;
 import com.sparta.areadevelopment.jwt.TokenProvider;
 import com.sparta.areadevelopment.repository.UserRepository;
+import com.sparta.areadevelopment.repository.VerificationCodeStore;
 import com.sparta.areadevelopment.util.SHA256Util;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -15,6 +15,7 @@ import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
@@ -43,8 +44,9 @@ public class AuthService implements LogoutHandler {
     private final BCryptPasswordEncoder bCryptPasswordEncoder;
     private final TokenProvider tokenProvider;
     private final AuthenticationManagerBuilder authenticationManagerBuilder;
-    private final MailManager mailManager;
-    private static String magickey = "";
+    private final MailOutboxService mailOutboxService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final VerificationCodeStore verificationCodeStore;
 
     /**
      * 로그인 메서드
@@ -74,6 +76,7 @@ public class AuthService implements LogoutHandler {
         context.setAuthentication(authentication);
         SecurityContextHolder.setContext(context);
         user.get().updateToken(tokenDto.getRefreshToken());
+        eventPublisher.publishEvent(new UserChangedEvent(username));
 
         return tokenDto;
     }
@@ -118,38 +121,51 @@ public class AuthService implements LogoutHandler {
         String username = tokenProvider.getUsername(accessToken);
         User refreshToken = userRepository.findByUsername(username).orElse(null);
         refreshToken.setExpired(true);
+        eventPublisher.publishEvent(new UserChangedEvent(username));
     }
 
     /**
      * 메일 전송 메서드
+     * <p>
+     * 메일은 발송 대기열에 저장만 하고 {@link MailOutboxService} 가 나중에 보냅니다. 인증번호는 메일로만 전달하고 응답에는 담지
+     * 않습니다.
      *
      * @param email
-     * @return
+     * @return 200 발송 요청 완료, 429 틀린 횟수를 넘겨 잠긴 이메일
      */
+    @Transactional
     public ResponseEntity<String> sendMail(String email) {
         UUID uuid = UUID.randomUUID();
         String key = uuid.toString().substring(0, 7);
+        if (!verificationCodeStore.save(email, SHA256Util.getEncrypt(key, email))) {
+            return ResponseEntity.status(429)
+                    .body("인증번호를 너무 많이 틀렸습니다. 잠시 후 다시 요청해주세요");
+        }
         String sub = "인증번호 메일 전송";
         String content = "인증번호 : " + key;
-        mailManager.send(email, sub, content);
-        magickey = SHA256Util.getEncrypt(key, email);
-        log.info(magickey);
-        return ResponseEntity.ok(key);
+        mailOutboxService.enqueue(email, sub, content);
+        return ResponseEntity.ok("인증번호를 발송했습니다");
     }
 
     /**
      * 메일 인증 코드 검증 메서드
+     * <p>
+     * 이메일마다 가장 최근에 보낸 인증번호로 확인하며, 인증번호는 한 번만 사용할 수 있습니다.
      *
      * @param key
      * @param email
-     * @return
+     * @return 202 인증 완료, 403 잘못되거나 만료된 키, 429 틀린 횟수 초과
      */
+    @Transactional
     public ResponseEntity<String> checkMail(String key, String email) {
         String insertKey = SHA256Util.getEncrypt(key, email);
-        if (!magickey.equals(insertKey)) {
-            return ResponseEntity.status(403).body("잘못된 키 입력입니다");
-        }
-        return ResponseEntity.status(202).body("인증 완료");
+        return switch (verificationCodeStore.verify(email, insertKey)) {
+            case VERIFIED -> ResponseEntity.status(202).body("인증 완료");
+            case MISMATCH -> ResponseEntity.status(403).body("잘못된 키 입력입니다");
+            case EXPIRED -> ResponseEntity.status(403).body("인증번호가 만료되었습니다. 다시 요청해주세요");
+            case ATTEMPTS_EXCEEDED -> ResponseEntity.status(429)
+                    .body("인증번호를 너무 많이 틀렸습니다. 잠시 후 다시 요청해주세요");
+        };
     }
 }
 
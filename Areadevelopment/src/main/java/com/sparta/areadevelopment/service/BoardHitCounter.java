@@ -0,0 +1,120 @@
+package com.sparta.areadevelopment.service;
+
+import com.sparta.areadevelopment.event.BoardHitsFlushedEvent;
+import com.sparta.areadevelopment.repository.BoardCacheEvictor;
+import com.sparta.areadevelopment.util.CounterBuffer;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 게시글 조회수를 메모리에 모아두었다가 주기적으로 DB 에 반영하는 클래스
+ * <p>
+ * 조회할 때마다 boards 행을 UPDATE 하지 않고, flush 주기마다 모인 증가량을 "hits = hits + ?" 배치로 한 번에 반영합니다. 서버가 비정상
+ * 종료되면 마지막 flush 이후의 조회수(최대 flush-interval-ms 동안, 최대 max-pending 건)가 유실될 수 있습니다. 반영한 게시글은 같은
+ * 트랜잭션에서 2차 캐시에서 지우므로, 게시글 조회시 캐시된 게시글의 조회수에 반영 대기중인 조회수만 더해 보여줍니다. (조회마다 조회수를 DB 에서
+ * 읽지 않고, 자주 조회되는 게시글도 flush 주기마다 한 번만 DB 에서 다시 읽습니다)
+ * <p>
+ * 반영에 성공하면 반영한 조회수를 {@link BoardHitsFlushedEvent} 로 발행합니다. (인기 순위가 게시글을 다시 조회하지 않고 점수를 갱신합니다)
+ */
+@Slf4j
+@Component
+public class BoardHitCounter {
+
+    private static final String FLUSH_SQL = "UPDATE boards SET hits = hits + ? WHERE id = ?";
+
+    private final CounterBuffer hits = new CounterBuffer();
+    private final LongAdder unflushed = new LongAdder();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BoardCacheEvictor boardCacheEvictor;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long maxPending;
+
+    public BoardHitCounter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+            BoardCacheEvictor boardCacheEvictor, ApplicationEventPublisher eventPublisher,
+            @Value("${board.hits.max-pending:10000}") long maxPending) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.boardCacheEvictor = boardCacheEvictor;
+        this.eventPublisher = eventPublisher;
+        this.maxPending = maxPending;
+    }
+
+    /**
+     * 조회수를 1 증가시킵니다. 반영 대기중인 조회수가 max-pending 을 넘으면 주기를 기다리지 않고 바로 반영합니다.
+     *
+     * @param boardId 게시글 고유번호
+     */
+    public void increase(Long boardId) {
+        hits.add(boardId, 1L);
+        unflushed.increment();
+        if (unflushed.sum() >= maxPending) {
+            flush();
+        }
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 조회수
+     *
+     * @param boardId 게시글 고유번호
+     * @return 반영 대기중인 조회수
+     */
+    public long getPendingHits(Long boardId) {
+        return hits.get(boardId);
+    }
+
+    /**
+     * 모인 조회수를 하나의 트랜잭션에서 배치 UPDATE 로 반영합니다. 실패하면 다음 flush 때 다시 시도합니다.
+     */
+    @Scheduled(fixedDelayString = "${board.hits.flush-interval-ms:5000}")
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            Map<Long, Long> deltas = hits.drain();
+            if (deltas.isEmpty()) {
+                return;
+            }
+            long total = deltas.values().stream().mapToLong(Long::longValue).sum();
+            unflushed.add(-total);
+
+            List<Object[]> args = new ArrayList<>(deltas.size());
+            deltas.forEach((boardId, delta) -> args.add(new Object[]{delta, boardId}));
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    jdbcTemplate.batchUpdate(FLUSH_SQL, args);
+                    boardCacheEvictor.evict(deltas.keySet());
+                });
+            } catch (DataAccessException e) {
+                log.warn("조회수 반영 실패, 다음 주기에 다시 시도합니다. boards={}", deltas.size(), e);
+                hits.restore(deltas);
+                unflushed.add(total);
+                return;
+            }
+            eventPublisher.publishEvent(new BoardHitsFlushedEvent(deltas));
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // 정상 종료시에는 남은 조회수를 모두 반영합니다.
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
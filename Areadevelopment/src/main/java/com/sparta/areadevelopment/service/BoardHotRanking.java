@@ -0,0 +1,380 @@
+package com.sparta.areadevelopment.service;
+
+import com.sparta.areadevelopment.dto.BoardScoreDto;
+import com.sparta.areadevelopment.enums.LikeTypeEnum;
+import com.sparta.areadevelopment.event.BoardDeletedEvent;
+import com.sparta.areadevelopment.event.BoardHitsFlushedEvent;
+import com.sparta.areadevelopment.event.BoardLikeChangedEvent;
+import com.sparta.areadevelopment.event.CommentCountChangedEvent;
+import com.sparta.areadevelopment.repository.BoardRepository;
+import com.sparta.areadevelopment.util.CounterBuffer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Supplier;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 좋아요, 댓글, 조회수와 작성 후 지난 시간으로 계산한 인기(hot) 순위
+ * <p>
+ * 점수 = (좋아요 * like-weight + 댓글 * comment-weight + log10(1 + 조회수) * hit-weight) / (경과시간(h) + 2) ^ gravity
+ * <p>
+ * 최근 window-hours 안에 작성되고 반응(좋아요 + 댓글 + 조회수)이 min-activity 이상인 게시글 중 좋아요와 댓글이 많은 candidate-limit 개만
+ * 후보로 불러와 카운터를 메모리에 두고, 이후에는 좋아요/댓글 이벤트와 조회수 반영 이벤트의 증감량으로 후보의 카운터를 갱신합니다. 후보가 아닌
+ * 게시글에 반응이 생기면 다음 refresh 때 그 게시글만 DB 에서 불러옵니다. refresh-interval-ms 마다 DB 를 다시 읽지 않고 메모리의 후보만 다시
+ * 계산해 상위 size 개를 정렬된 스냅샷으로 교체하며, 후보 전체는 rebuild-interval-ms 마다 DB 에서 다시 불러와 유실된 이벤트나 회원탈퇴처럼
+ * 이벤트 없이 바뀐 카운터를 맞춥니다. 후보를 불러오는 동안 받은 증감량은 모아두었다가 불러온 후보에 다시 적용합니다. (조회 쿼리 직전에 받은
+ * 증감량은 조회 결과에도 포함되어 두 번 더해질 수 있지만, 다음 rebuild 때 맞춰집니다)
+ * <p>
+ * 조회는 스냅샷만 읽으므로 점수 계산과 경합하지 않습니다. 스냅샷은 애플리케이션 시작시 스케줄러 스레드 하나에서 처음 계산하며, 그 전에 들어온
+ * 요청은 요청 스레드에서 계산하지 않고 빈 목록을 받습니다. 커서 위치는 (점수, 고유번호)로 이진 탐색합니다.
+ */
+@Slf4j
+@Component
+public class BoardHotRanking {
+
+    private static final Comparator<HotBoard> ORDER = Comparator
+            .comparingDouble(HotBoard::getScore).reversed()
+            .thenComparing(Comparator.comparingLong(HotBoard::getBoardId).reversed());
+
+    private final BoardRepository boardRepository;
+    private final BoardHitCounter boardHitCounter;
+    private final LikeCountAggregator likeCountAggregator;
+
+    private final double gravity;
+    private final double likeWeight;
+    private final double commentWeight;
+    private final double hitWeight;
+    private final long windowHours;
+    private final int size;
+    private final long minActivity;
+    private final int candidateLimit;
+    private final long rebuildIntervalMs;
+
+    // 증감량 적용(읽기 락)과 불러온 후보 교체(쓰기 락)를 나눕니다.
+    private final ReentrantReadWriteLock candidatesLock = new ReentrantReadWriteLock();
+    // 점수를 계산할 후보, 처음 불러오기 전에는 null 입니다.
+    private volatile Map<Long, Candidate> candidates;
+    // 후보를 불러오는 동안 받은 증감량, 불러오는 중이 아니면 null 입니다.
+    private volatile Replay replay;
+    // 후보가 아닌데 반응이 생긴 게시글, 다음 refresh 때 DB 에서 불러옵니다.
+    private final Set<Long> newlyActive = ConcurrentHashMap.newKeySet();
+    // 마지막으로 후보 전체를 다시 불러온 시간(ms), 스케줄러 스레드만 사용합니다.
+    private long rebuiltAt;
+
+    // 점수순으로 정렬된 읽기 전용 스냅샷, 처음 계산하기 전에는 null 입니다.
+    private volatile List<HotBoard> snapshot;
+
+    public BoardHotRanking(BoardRepository boardRepository, BoardHitCounter boardHitCounter,
+            LikeCountAggregator likeCountAggregator,
+            @Value("${board.hot.gravity:1.8}") double gravity,
+            @Value("${board.hot.like-weight:1.0}") double likeWeight,
+            @Value("${board.hot.comment-weight:2.0}") double commentWeight,
+            @Value("${board.hot.hit-weight:0.5}") double hitWeight,
+            @Value("${board.hot.window-hours:72}") long windowHours,
+            @Value("${board.hot.size:1000}") int size,
+            @Value("${board.hot.min-activity:5}") long minActivity,
+            @Value("${board.hot.candidate-limit:5000}") int candidateLimit,
+            @Value("${board.hot.rebuild-interval-ms:600000}") long rebuildIntervalMs) {
+        this.boardRepository = boardRepository;
+        this.boardHitCounter = boardHitCounter;
+        this.likeCountAggregator = likeCountAggregator;
+        this.gravity = gravity;
+        this.likeWeight = likeWeight;
+        this.commentWeight = commentWeight;
+        this.hitWeight = hitWeight;
+        this.windowHours = windowHours;
+        this.size = size;
+        this.minActivity = minActivity;
+        this.candidateLimit = candidateLimit;
+        this.rebuildIntervalMs = rebuildIntervalMs;
+    }
+
+    /**
+     * 커서(점수, 고유번호) 다음 순위의 게시글을 조회합니다. 스냅샷이 교체되면 같은 게시글의 순위가 바뀔 수 있습니다.
+     *
+     * @param score   커서의 점수, 첫 페이지는 null
+     * @param boardId 커서의 게시글 고유번호, 첫 페이지는 null
+     * @param limit   조회할 개수
+     * @return 점수순 게시글, 처음 계산하기 전이면 빈 목록
+     */
+    public List<HotBoard> findAfter(Double score, Long boardId, int limit) {
+        List<HotBoard> current = snapshot;
+        if (current == null) {
+            return List.of();
+        }
+        int from = 0;
+        if (score != null && boardId != null) {
+            // 커서가 스냅샷에 있으면 그 다음, 없으면(교체된 스냅샷) 커서보다 뒤에 올 첫 순위부터 조회합니다.
+            int found = Collections.binarySearch(current, new HotBoard(boardId, score), ORDER);
+            from = found >= 0 ? found + 1 : -(found + 1);
+        }
+        return current.subList(from, Math.min(from + limit, current.size()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardLikeChanged(BoardLikeChangedEvent event) {
+        apply(event.getBoardId(), Candidate::addLikes, buffered -> buffered.likes,
+                event.getDelta());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentCountChanged(CommentCountChangedEvent event) {
+        apply(event.getBoardId(), Candidate::addComments, buffered -> buffered.comments,
+                event.getDelta());
+    }
+
+    @EventListener
+    public void onBoardHitsFlushed(BoardHitsFlushedEvent event) {
+        event.getHits().forEach((boardId, hits) ->
+                apply(boardId, Candidate::addHits, buffered -> buffered.hits, hits));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardDeleted(BoardDeletedEvent event) {
+        candidatesLock.readLock().lock();
+        try {
+            Replay buffered = replay;
+            Map<Long, Candidate> current = candidates;
+            for (Long boardId : event.getBoardIds()) {
+                if (buffered != null) {
+                    buffered.deleted.add(boardId);
+                }
+                if (current != null) {
+                    current.remove(boardId);
+                }
+                newlyActive.remove(boardId);
+            }
+        } finally {
+            candidatesLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 메모리의 후보로 점수를 다시 계산해 스냅샷을 교체합니다. 처음 실행될때와 rebuild-interval-ms 마다 후보 전체를 DB 에서 다시 불러오고,
+     * 그 사이에는 새로 반응이 생긴 게시글만 불러옵니다. 애플리케이션 시작시에도 바로 실행됩니다.
+     */
+    @Scheduled(fixedDelayString = "${board.hot.refresh-interval-ms:30000}")
+    public void refresh() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = now.minusHours(windowHours);
+        try {
+            if (candidates == null || System.currentTimeMillis() - rebuiltAt >= rebuildIntervalMs) {
+                load(() -> boardRepository.findScoreCandidates(since, minActivity,
+                        PageRequest.of(0, candidateLimit)), true);
+                rebuiltAt = System.currentTimeMillis();
+            } else {
+                loadNewlyActive(since);
+            }
+        } catch (DataAccessException e) {
+            log.warn("인기 순위 후보 조회 실패, 다음 주기에 다시 시도합니다.", e);
+        }
+
+        Map<Long, Candidate> current = candidates;
+        if (current == null) {
+            return;
+        }
+        List<HotBoard> scored = new ArrayList<>(current.size());
+        for (Iterator<Map.Entry<Long, Candidate>> it = current.entrySet().iterator();
+                it.hasNext(); ) {
+            Map.Entry<Long, Candidate> entry = it.next();
+            Candidate candidate = entry.getValue();
+            if (candidate.createdAt.isBefore(since)) {
+                it.remove();
+                continue;
+            }
+            long hits = candidate.hits.get() + boardHitCounter.getPendingHits(entry.getKey());
+            double ageHours = Math.max(
+                    Duration.between(candidate.createdAt, now).toMinutes(), 0) / 60.0;
+            scored.add(new HotBoard(entry.getKey(),
+                    score(candidate.likes.get(), candidate.comments.get(), hits, ageHours)));
+        }
+        scored.sort(ORDER);
+        snapshot = List.copyOf(scored.subList(0, Math.min(size, scored.size())));
+    }
+
+    // 새로 반응이 생긴 게시글을 candidate-limit 개씩 불러옵니다. 실패하면 다음 refresh 때 다시 불러옵니다.
+    private void loadNewlyActive(LocalDateTime since) {
+        List<Long> ids = new ArrayList<>(Math.min(newlyActive.size(), candidateLimit));
+        for (Long boardId : newlyActive) {
+            if (ids.size() == candidateLimit) {
+                break;
+            }
+            ids.add(boardId);
+        }
+        if (ids.isEmpty()) {
+            return;
+        }
+        ids.forEach(newlyActive::remove);
+        try {
+            load(() -> boardRepository.findScoreCandidatesByIds(ids, since, minActivity), false);
+        } catch (DataAccessException e) {
+            newlyActive.addAll(ids);
+            throw e;
+        }
+    }
+
+    // 조회 직전부터 받은 증감량을 모아두었다가, 불러온 후보를 반영하면서 다시 적용합니다.
+    private void load(Supplier<List<BoardScoreDto>> query, boolean rebuild) {
+        Replay buffered = new Replay();
+        replay = buffered;
+        Map<Long, Candidate> loaded = new HashMap<>();
+        try {
+            for (BoardScoreDto board : query.get()) {
+                long likes = board.getLikeCount()
+                        + likeCountAggregator.getPendingDelta(LikeTypeEnum.BOARD, board.getId());
+                loaded.put(board.getId(), new Candidate(board.getCreatedAt(), likes,
+                        board.getCommentCount(), board.getHits()));
+            }
+        } catch (RuntimeException e) {
+            replay = null;
+            throw e;
+        }
+
+        candidatesLock.writeLock().lock();
+        try {
+            replay = null;
+            Map<Long, Candidate> current = candidates;
+            if (rebuild || current == null) {
+                current = new ConcurrentHashMap<>(loaded);
+                candidates = current;
+            } else {
+                current.putAll(loaded);
+            }
+            buffered.deleted.forEach(current::remove);
+            replay(buffered.likes, loaded, current, Candidate::addLikes);
+            replay(buffered.comments, loaded, current, Candidate::addComments);
+            replay(buffered.hits, loaded, current, Candidate::addHits);
+        } finally {
+            candidatesLock.writeLock().unlock();
+        }
+    }
+
+    // 불러온 후보에는 불러오는 동안의 증감량을 더하고, 후보가 되지 못한 게시글은 다음 refresh 때 다시 확인합니다.
+    private void replay(CounterBuffer deltas, Map<Long, Candidate> loaded,
+            Map<Long, Candidate> current, ObjLongConsumer<Candidate> counter) {
+        deltas.drain().forEach((boardId, delta) -> {
+            Candidate candidate = loaded.get(boardId);
+            if (candidate != null) {
+                counter.accept(candidate, delta);
+            } else if (!current.containsKey(boardId)) {
+                newlyActive.add(boardId);
+            }
+        });
+    }
+
+    private void apply(Long boardId, ObjLongConsumer<Candidate> counter,
+            Function<Replay, CounterBuffer> replayBuffer, long delta) {
+        candidatesLock.readLock().lock();
+        try {
+            Replay buffered = replay;
+            if (buffered != null) {
+                replayBuffer.apply(buffered).add(boardId, delta);
+            }
+            Map<Long, Candidate> current = candidates;
+            if (current == null) {
+                return;
+            }
+            Candidate candidate = current.get(boardId);
+            if (candidate != null) {
+                counter.accept(candidate, delta);
+            } else if (buffered == null) {
+                newlyActive.add(boardId);
+            }
+        } finally {
+            candidatesLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 인기 점수 계산
+     *
+     * @param likeCount    좋아요 수
+     * @param commentCount 댓글 수
+     * @param hits         조회수
+     * @param ageHours     작성 후 지난 시간(h)
+     * @return 인기 점수
+     */
+    double score(long likeCount, long commentCount, long hits, double ageHours) {
+        double points = likeCount * likeWeight
+                + commentCount * commentWeight
+                + Math.log10(1 + hits) * hitWeight;
+        return points / Math.pow(ageHours + 2, gravity);
+    }
+
+    /**
+     * 인기 순위에 포함된 게시글과 점수
+     */
+    @Getter
+    public static class HotBoard {
+
+        private final long boardId;
+        private final double score;
+
+        HotBoard(long boardId, double score) {
+            this.boardId = boardId;
+            this.score = score;
+        }
+    }
+
+    /**
+     * 인기 점수 후보 게시글의 카운터, 좋아요 수는 불러올때 반영 대기중이던 증감량을 포함하고 조회수는 DB 에 반영된 값만 포함합니다.
+     */
+    private static final class Candidate {
+
+        private final LocalDateTime createdAt;
+        private final AtomicLong likes;
+        private final AtomicLong comments;
+        private final AtomicLong hits;
+
+        private Candidate(LocalDateTime createdAt, long likes, long comments, long hits) {
+            this.createdAt = createdAt;
+            this.likes = new AtomicLong(likes);
+            this.comments = new AtomicLong(comments);
+            this.hits = new AtomicLong(hits);
+        }
+
+        private void addLikes(long delta) {
+            likes.addAndGet(delta);
+        }
+
+        private void addComments(long delta) {
+            comments.addAndGet(delta);
+        }
+
+        private void addHits(long delta) {
+            hits.addAndGet(delta);
+        }
+    }
+
+    /**
+     * 후보를 불러오는 동안 받은 증감량과 삭제된 게시글
+     */
+    private static final class Replay {
+
+        private final CounterBuffer likes = new CounterBuffer();
+        private final CounterBuffer comments = new CounterBuffer();
+        private final CounterBuffer hits = new CounterBuffer();
+        private final Set<Long> deleted = ConcurrentHashMap.newKeySet();
+    }
+}
@@ -0,0 +1,257 @@
+package com.sparta.areadevelopment.service;
+
+import com.sparta.areadevelopment.entity.Board;
+import com.sparta.areadevelopment.enums.LikeTypeEnum;
+import com.sparta.areadevelopment.event.BoardCreatedEvent;
+import com.sparta.areadevelopment.event.BoardDeletedEvent;
+import com.sparta.areadevelopment.event.BoardLikeChangedEvent;
+import com.sparta.areadevelopment.repository.BoardRepository;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 좋아요 수 상위 게시글 순위를 메모리에 유지하는 클래스
+ * <p>
+ * (좋아요 수 내림차순, 고유번호 내림차순)으로 정렬된 skip list 에 상위 capacity 개의 게시글만 보관하고, 좋아요 등록/취소, 작성, 삭제 이벤트로
+ * 순위를 바로 갱신합니다. 보관중인 게시글은 항상 전체 순위의 앞부분이 되도록 유지하므로, 요청한 페이지가 보관 범위 안에 있으면 정렬 쿼리 없이
+ * 메모리에서 바로 응답하고 범위를 벗어나면 null 을 반환해 DB 에서 조회하게 합니다.
+ * <p>
+ * 보관 범위 밖의 게시글이 좋아요를 받아 순위권에 들어오는 경우나 이벤트 유실은 reconcile-interval-ms 마다 DB 상위 게시글로 다시 만들면서 맞춰집니다.
+ * 다시 만들때는 좋아요 수 반영을 멈추고 DB 의 좋아요 수에 반영 대기중인 증감량을 더하며, 그 뒤 교체하기 전까지 받은 이벤트는 모아두었다가 새 순위에
+ * 다시 적용한 뒤 교체합니다.
+ */
+@Slf4j
+@Component
+public class BoardLikeRanking {
+
+    private static final Comparator<RankedBoard> ORDER = Comparator
+            .comparingLong(RankedBoard::getLikeCount).reversed()
+            .thenComparing(Comparator.comparingLong(RankedBoard::getBoardId).reversed());
+
+    private final BoardRepository boardRepository;
+    private final LikeCountAggregator likeCountAggregator;
+    private final int capacity;
+
+    // 이벤트 적용(읽기 락)과 순위 교체(쓰기 락)를 나눕니다.
+    private final ReentrantReadWriteLock rankingLock = new ReentrantReadWriteLock();
+    // reconcile 마다 새로 만들어 교체합니다. 처음 만들어지기 전에는 null 입니다.
+    private volatile Ranking ranking;
+    // 새 순위를 DB 에서 읽은 뒤 교체하기 전까지 받은 이벤트, 다시 만드는 중이 아니면 null 입니다.
+    private volatile Queue<Consumer<Ranking>> replay;
+
+    public BoardLikeRanking(BoardRepository boardRepository,
+            LikeCountAggregator likeCountAggregator,
+            @Value("${board.like-ranking.capacity:1000}") int capacity) {
+        this.boardRepository = boardRepository;
+        this.likeCountAggregator = likeCountAggregator;
+        this.capacity = capacity;
+    }
+
+    /**
+     * 커서(좋아요 수, 고유번호) 다음 순위의 게시글을 조회합니다.
+     *
+     * @param likeCount 커서의 좋아요 수, 첫 페이지는 null
+     * @param boardId   커서의 게시글 고유번호, 첫 페이지는 null
+     * @param limit     조회할 개수
+     * @return 순위순 게시글, 보관 범위 안에서 limit 개를 채울 수 없으면 null
+     */
+    public List<RankedBoard> findAfter(Long likeCount, Long boardId, int limit) {
+        Ranking current = ranking;
+        if (current == null) {
+            return null;
+        }
+        Iterable<RankedBoard> entries = likeCount == null || boardId == null
+                ? current.entries
+                : current.entries.tailSet(new RankedBoard(likeCount, boardId), false);
+        return collect(entries.iterator(), 0, limit);
+    }
+
+    /**
+     * offset 번째 순위부터 limit 개의 게시글을 조회합니다.
+     *
+     * @return 순위순 게시글, 보관 범위 안에서 limit 개를 채울 수 없으면 null
+     */
+    public List<RankedBoard> findRange(int offset, int limit) {
+        Ranking current = ranking;
+        if (current == null || offset + limit > capacity) {
+            return null;
+        }
+        return collect(current.entries.iterator(), offset, limit);
+    }
+
+    private List<RankedBoard> collect(Iterator<RankedBoard> iterator, int offset, int limit) {
+        for (int i = 0; i < offset && iterator.hasNext(); i++) {
+            iterator.next();
+        }
+        List<RankedBoard> result = new ArrayList<>(limit);
+        while (result.size() < limit && iterator.hasNext()) {
+            result.add(iterator.next());
+        }
+        return result.size() == limit ? result : null;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardLikeChanged(BoardLikeChangedEvent event) {
+        apply(current -> current.update(event.getBoardId(), event.getDelta()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardCreated(BoardCreatedEvent event) {
+        apply(current -> current.offer(new RankedBoard(0L, event.getBoardId())));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardDeleted(BoardDeletedEvent event) {
+        apply(current -> event.getBoardIds().forEach(current::remove));
+    }
+
+    /**
+     * DB 의 좋아요 상위 게시글로 순위를 다시 만들어 교체합니다. 애플리케이션 시작시에도 바로 실행됩니다.
+     */
+    @Scheduled(fixedDelayString = "${board.like-ranking.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        Queue<Consumer<Ranking>> buffered = new ConcurrentLinkedQueue<>();
+        Ranking rebuilt;
+        try {
+            rebuilt = likeCountAggregator.withFlushPaused(() -> {
+                Slice<Board> boards = boardRepository
+                        .findAllByDeletedAtIsNullOrderByLikeCountDescIdDesc(
+                                PageRequest.of(0, capacity));
+                Ranking read = new Ranking(boards.hasNext());
+                for (Board board : boards) {
+                    long pending = likeCountAggregator.getPendingDelta(LikeTypeEnum.BOARD,
+                            board.getId());
+                    read.put(new RankedBoard(board.getLikeCount() + pending, board.getId()));
+                }
+                // 이후 이벤트는 반영 대기중인 증감량에 포함되지 않았으므로 새 순위에 다시 적용합니다.
+                replay = buffered;
+                return read;
+            });
+        } catch (DataAccessException e) {
+            log.warn("좋아요 순위 갱신 실패, 다음 주기에 다시 시도합니다.", e);
+            return;
+        }
+
+        rankingLock.writeLock().lock();
+        try {
+            replay = null;
+            buffered.forEach(change -> change.accept(rebuilt));
+            ranking = rebuilt;
+        } finally {
+            rankingLock.writeLock().unlock();
+        }
+    }
+
+    // 현재 순위에 이벤트를 적용하고, 새 순위를 만드는 중이면 교체 후 다시 적용하도록 모아둡니다.
+    private void apply(Consumer<Ranking> change) {
+        rankingLock.readLock().lock();
+        try {
+            Queue<Consumer<Ranking>> buffered = replay;
+            if (buffered != null) {
+                buffered.add(change);
+            }
+            Ranking current = ranking;
+            if (current != null) {
+                change.accept(current);
+            }
+        } finally {
+            rankingLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 순위에 보관된 게시글, 좋아요 수는 순위를 만들때의 값에 이후 증감량을 더한 값입니다.
+     */
+    @Getter
+    public static class RankedBoard {
+
+        private final long likeCount;
+        private final long boardId;
+
+        RankedBoard(long likeCount, long boardId) {
+            this.likeCount = likeCount;
+            this.boardId = boardId;
+        }
+    }
+
+    /**
+     * 순위 한 벌, entries 는 정렬된 순위이고 byId 는 게시글별 현재 항목입니다.
+     */
+    private class Ranking {
+
+        private final ConcurrentSkipListSet<RankedBoard> entries = new ConcurrentSkipListSet<>(ORDER);
+        private final ConcurrentHashMap<Long, RankedBoard> byId = new ConcurrentHashMap<>();
+        // DB 에 보관 범위보다 순위가 낮은 게시글이 더 있는지 여부
+        private volatile boolean truncated;
+
+        Ranking(boolean truncated) {
+            this.truncated = truncated;
+        }
+
+        void put(RankedBoard entry) {
+            entries.add(entry);
+            byId.put(entry.getBoardId(), entry);
+        }
+
+        // 보관중인 게시글의 좋아요 수를 바꿉니다. 보관 범위 밖의 게시글은 reconcile 때 반영됩니다.
+        void update(Long boardId, long delta) {
+            byId.computeIfPresent(boardId, (id, old) -> {
+                entries.remove(old);
+                RankedBoard updated = new RankedBoard(old.getLikeCount() + delta, id);
+                // 범위 밖 게시글보다 순위가 낮아졌을 수 있으므로 마지막 순위로 밀려나면 보관하지 않습니다.
+                if (truncated && delta < 0 && isAfterLast(updated)) {
+                    return null;
+                }
+                entries.add(updated);
+                return updated;
+            });
+        }
+
+        // 범위 밖에 게시글이 없거나 마지막 순위보다 앞서는 게시글만 보관합니다.
+        void offer(RankedBoard entry) {
+            if (truncated && isAfterLast(entry)) {
+                return;
+            }
+            byId.computeIfAbsent(entry.getBoardId(), id -> {
+                entries.add(entry);
+                return entry;
+            });
+            while (entries.size() > capacity) {
+                RankedBoard last = entries.pollLast();
+                if (last != null) {
+                    byId.remove(last.getBoardId(), last);
+                    truncated = true;
+                }
+            }
+        }
+
+        void remove(Long boardId) {
+            byId.computeIfPresent(boardId, (id, entry) -> {
+                entries.remove(entry);
+                return null;
+            });
+        }
+
+        private boolean isAfterLast(RankedBoard entry) {
+            Iterator<RankedBoard> descending = entries.descendingIterator();
+            return !descending.hasNext() || ORDER.compare(entry, descending.next()) >= 0;
+        }
+    }
+}
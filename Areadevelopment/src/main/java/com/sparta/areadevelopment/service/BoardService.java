@@ -2,21 +2,37 @@ package com.sparta.areadevelopment.service;
 
 import com.sparta.areadevelopment.dto.BoardRequestDto;
 import com.sparta.areadevelopment.dto.BoardResponseDto;
+import com.sparta.areadevelopment.dto.CursorPageResponseDto;
 import com.sparta.areadevelopment.entity.Board;
-import com.sparta.areadevelopment.entity.Comment;
 import com.sparta.areadevelopment.entity.User;
+import com.sparta.areadevelopment.enums.ContentModeEnum;
+import com.sparta.areadevelopment.enums.LikeTypeEnum;
+import com.sparta.areadevelopment.event.BoardCreatedEvent;
+import com.sparta.areadevelopment.event.BoardDeletedEvent;
 import com.sparta.areadevelopment.repository.BoardRepository;
 import com.sparta.areadevelopment.repository.CommentRepository;
+import com.sparta.areadevelopment.service.BoardHotRanking.HotBoard;
+import com.sparta.areadevelopment.service.BoardLikeRanking.RankedBoard;
+import com.sparta.areadevelopment.util.CursorUtil;
+import jakarta.persistence.EntityManager;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 @Service
 @RequiredArgsConstructor
@@ -31,17 +47,35 @@ public class BoardService {
      */
     private final BoardRepository boardRepository;
     private final CommentRepository commentRepository;
+    private final BoardHitCounter boardHitCounter;
+    private final LikeCountAggregator likeCountAggregator;
+    private final BoardLikeRanking boardLikeRanking;
+    private final BoardHotRanking boardHotRanking;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+
+    private static final int FEED_PAGE_SIZE = 10;
 
     public BoardResponseDto createBoard(User user, BoardRequestDto requestDto) {
         Board board = boardRepository.save(new Board(user, requestDto));
+        // 작성자와 팔로워의 타임라인에 추가
+        eventPublisher.publishEvent(new BoardCreatedEvent(board.getId(), user.getId()));
         return new BoardResponseDto(board);
     }
 
-    // 모든 페이지 조회, 글이 있을 경우 ApiResponseDto 의 data 조회
-    public List<BoardResponseDto> findAllBoard() {
-        return boardRepository.findAllByDeletedAtIsNullOrderByCreatedAtDesc()
-                .stream()
-                .map(BoardResponseDto::new).toList();
+    /**
+     * 모든 게시글을 최신순으로 하나씩 consumer 에 넘깁니다. 넘긴 게시글은 영속성 컨텍스트에서 분리하므로 전체 게시글이 메모리에 쌓이지 않습니다.
+     *
+     * @param consumer 게시글을 받아 응답에 바로 쓰는 consumer
+     */
+    @Transactional(readOnly = true)
+    public void streamAllBoard(Consumer<BoardResponseDto> consumer) {
+        try (Stream<Board> boards = boardRepository.streamAllByDeletedAtIsNull()) {
+            boards.forEach(board -> {
+                consumer.accept(new BoardResponseDto(board));
+                entityManager.detach(board);
+            });
+        }
     }
 
     @Transactional(readOnly = true)
@@ -49,19 +83,21 @@ public class BoardService {
     public List<BoardResponseDto> findAllRecentlyPagination(int page) {
         int pageSize = 10;
         Pageable pageable = PageRequest.of(page, pageSize);
-        return boardRepository.findAllByDeletedAtIsNullOrderByCreatedAtDesc(pageable)
-                .stream()
-                .map(BoardResponseDto::new).toList();
+        return boardRepository.findRecentlyFeed(ContentModeEnum.FULL.getLength(), pageable)
+                .getContent();
     }
 
-    // 좋아요 많은 순으로 조회
+    // 좋아요 많은 순으로 조회, 좋아요 순위 범위 안의 페이지는 정렬 쿼리 없이 메모리 순위로 조회합니다.
     @Transactional(readOnly = true)
     public List<BoardResponseDto> findAllLikesPagination(int page) {
         int pageSize = 10;
+        List<RankedBoard> ranked = boardLikeRanking.findRange(page * pageSize, pageSize);
+        if (ranked != null) {
+            return findRankedBoards(ranked, ContentModeEnum.FULL);
+        }
         Pageable pageable = PageRequest.of(page, pageSize);
-        return boardRepository.findAllByDeletedAtIsNullOrderByLikeCountDesc(pageable)
-                .stream()
-                .map(BoardResponseDto::new).toList();
+        return boardRepository.findLikesFeed(ContentModeEnum.FULL.getLength(), pageable)
+                .getContent();
     }
 
     // 입력받은 기간 사이에 생성된 게시글들만 조회
@@ -80,22 +116,123 @@ public class BoardService {
 
         int pageSize = 10;
         Pageable pageable = PageRequest.of(page, pageSize);
-        return boardRepository.findAllByDeletedAtIsNullAndCreatedAtBetweenOrderByCreatedAtDesc(
-                        startDateTime, endDateTime, pageable)
-                .stream()
-                .map(BoardResponseDto::new).toList();
+        return boardRepository.findDateFeed(startDateTime, endDateTime,
+                        ContentModeEnum.FULL.getLength(), pageable)
+                .getContent();
     }
 
-    @Transactional
+    // 최신순 커서 페이지네이션, 커서가 없으면 첫 페이지를 조회합니다.
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<BoardResponseDto> findRecentlyFeed(String cursor,
+            ContentModeEnum mode) {
+        Pageable pageable = PageRequest.of(0, FEED_PAGE_SIZE);
+        Slice<BoardResponseDto> boards;
+        if (StringUtils.hasText(cursor)) {
+            String[] keys = CursorUtil.decode(cursor);
+            boards = boardRepository.findRecentlyFeedAfter(CursorUtil.toDateTime(keys[0]),
+                    CursorUtil.toLong(keys[1]), mode.getLength(), pageable);
+        } else {
+            boards = boardRepository.findRecentlyFeed(mode.getLength(), pageable);
+        }
+        return toCursorPage(boards, board -> CursorUtil.encode(board.getCreatedAt(), board.getId()));
+    }
+
+    // 좋아요순 커서 페이지네이션, 좋아요 순위 범위 안의 페이지는 메모리 순위로 조회합니다.
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<BoardResponseDto> findLikesFeed(String cursor,
+            ContentModeEnum mode) {
+        Long likeCount = null;
+        Long boardId = null;
+        if (StringUtils.hasText(cursor)) {
+            String[] keys = CursorUtil.decode(cursor);
+            likeCount = CursorUtil.toLong(keys[0]);
+            boardId = CursorUtil.toLong(keys[1]);
+        }
+
+        // 다음 페이지 여부를 알기 위해 한 개 더 조회합니다.
+        List<RankedBoard> ranked = boardLikeRanking.findAfter(likeCount, boardId,
+                FEED_PAGE_SIZE + 1);
+        if (ranked != null) {
+            RankedBoard last = ranked.get(FEED_PAGE_SIZE - 1);
+            return new CursorPageResponseDto<>(
+                    findRankedBoards(ranked.subList(0, FEED_PAGE_SIZE), mode),
+                    CursorUtil.encode(last.getLikeCount(), last.getBoardId()),
+                    true);
+        }
+
+        Pageable pageable = PageRequest.of(0, FEED_PAGE_SIZE);
+        Slice<BoardResponseDto> boards;
+        if (likeCount != null) {
+            boards = boardRepository.findLikesFeedAfter(likeCount, boardId, mode.getLength(),
+                    pageable);
+        } else {
+            boards = boardRepository.findLikesFeed(mode.getLength(), pageable);
+        }
+        return toCursorPage(boards, board -> CursorUtil.encode(board.getLikeCount(), board.getId()));
+    }
+
+    // 기간별 커서 페이지네이션
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<BoardResponseDto> findDateFeed(
+            String cursor,
+            String startTime,
+            String endTime,
+            ContentModeEnum mode) {
+        LocalDateTime startDateTime = LocalDate.parse(startTime).atStartOfDay();
+        LocalDateTime endDateTime = LocalDate.parse(endTime).atTime(23, 59, 59);
+
+        Pageable pageable = PageRequest.of(0, FEED_PAGE_SIZE);
+        Slice<BoardResponseDto> boards;
+        if (StringUtils.hasText(cursor)) {
+            String[] keys = CursorUtil.decode(cursor);
+            boards = boardRepository.findDateFeedAfter(startDateTime, endDateTime,
+                    CursorUtil.toDateTime(keys[0]), CursorUtil.toLong(keys[1]),
+                    mode.getLength(), pageable);
+        } else {
+            boards = boardRepository.findDateFeed(startDateTime, endDateTime, mode.getLength(),
+                    pageable);
+        }
+        return toCursorPage(boards, board -> CursorUtil.encode(board.getCreatedAt(), board.getId()));
+    }
+
+    // 인기순 커서 페이지네이션, BoardHotRanking 이 백그라운드에서 계산해 둔 순위를 조회합니다.
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<BoardResponseDto> findHotFeed(String cursor,
+            ContentModeEnum mode) {
+        Double score = null;
+        Long boardId = null;
+        if (StringUtils.hasText(cursor)) {
+            String[] keys = CursorUtil.decode(cursor);
+            score = CursorUtil.toDouble(keys[0]);
+            boardId = CursorUtil.toLong(keys[1]);
+        }
+
+        List<HotBoard> hot = boardHotRanking.findAfter(score, boardId, FEED_PAGE_SIZE + 1);
+        boolean hasNext = hot.size() > FEED_PAGE_SIZE;
+        if (hasNext) {
+            hot = hot.subList(0, FEED_PAGE_SIZE);
+        }
+        String nextCursor = null;
+        if (hasNext) {
+            HotBoard last = hot.get(hot.size() - 1);
+            nextCursor = CursorUtil.encode(last.getScore(), last.getBoardId());
+        }
+        return new CursorPageResponseDto<>(
+                findBoardsInOrder(hot.stream().map(HotBoard::getBoardId).toList(), mode),
+                nextCursor,
+                hasNext);
+    }
+
+    @Transactional(readOnly = true)
     public BoardResponseDto findBoard(Long boardId) {
 
         Board board = boardRepository.findByIdAndDeletedAtIsNull(boardId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 게시글은 존재하지 않습니다."));
 
-        // 조회수 + 1
-        board.hitsUp();
+        // 조회수 + 1, DB 에는 BoardHitCounter 가 주기적으로 모아서 반영합니다.
+        boardHitCounter.increase(boardId);
 
-        return new BoardResponseDto(board);
+        return withPendingCounters(new BoardResponseDto(board));
     }
 
     @Transactional
@@ -109,7 +246,7 @@ public class BoardService {
         }
 
         board.update(requestDto);
-        return new BoardResponseDto(board);
+        return withPendingCounters(new BoardResponseDto(board));
     }
 
     @Transactional
@@ -124,13 +261,74 @@ public class BoardService {
         // 삭제시간 저장
         board.softDelete();
         log.info(board.getDeletedAt().toString());
+        eventPublisher.publishEvent(new BoardDeletedEvent(List.of(boardId)));
+
+        // 댓글을 불러오지 않고 UPDATE 한 번으로 삭제
+        commentRepository.softDeleteByBoardId(boardId, board.getDeletedAt());
+    }
 
-        List<Comment> commentList = commentRepository.findByBoardIdAndDeletedAtIsNull(
-                boardId);
+    /**
+     * 순위순 게시글 고유번호로 게시글을 한 번에 조회합니다. 순위 반영 전에 삭제된 게시글은 제외합니다.
+     *
+     * @param ranked 좋아요 순위
+     * @param mode   내용 표시 방식
+     * @return 순위순 게시글
+     */
+    private List<BoardResponseDto> findRankedBoards(List<RankedBoard> ranked,
+            ContentModeEnum mode) {
+        return findBoardsInOrder(ranked.stream().map(RankedBoard::getBoardId).toList(), mode);
+    }
 
-        for (Comment comment : commentList) {
-            comment.softDelete();
+    /**
+     * 게시글의 조회수와 좋아요 수에 아직 DB 에 반영되지 않은 조회수/증감량을 더합니다. 카운터를 반영할 때 반영한 게시글을 2차 캐시에서
+     * 지우므로, 캐시된 게시글의 카운터는 마지막 반영까지의 값이고 조회마다 카운터를 DB 에서 다시 읽지 않습니다.
+     *
+     * @param responseDto 게시글 응답
+     * @return 현재 카운터로 바꾼 게시글 응답
+     */
+    private BoardResponseDto withPendingCounters(BoardResponseDto responseDto) {
+        Long boardId = responseDto.getId();
+        responseDto.setHits(responseDto.getHits() + boardHitCounter.getPendingHits(boardId));
+        // 반영 대기중인 증감량과 합친 값이 잠시 실제와 어긋나더라도 음수로 보이지 않도록 합니다.
+        responseDto.setLikeCount(Math.max(0L, responseDto.getLikeCount()
+                + likeCountAggregator.getPendingDelta(LikeTypeEnum.BOARD, boardId)));
+        return responseDto;
+    }
+
+    /**
+     * 게시글 고유번호 순서대로 게시글을 한 번에 조회합니다. 그 사이 삭제된 게시글은 제외합니다.
+     *
+     * @param boardIds 게시글 고유번호 목록
+     * @param mode     내용 표시 방식
+     * @return 고유번호 목록 순서의 게시글
+     */
+    private List<BoardResponseDto> findBoardsInOrder(List<Long> boardIds, ContentModeEnum mode) {
+        if (boardIds.isEmpty()) {
+            return List.of();
         }
+        Map<Long, BoardResponseDto> boards = boardRepository.findFeedByIds(boardIds,
+                        mode.getLength()).stream()
+                .collect(Collectors.toMap(BoardResponseDto::getId, Function.identity()));
+        return boardIds.stream()
+                .map(boards::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
 
+    /**
+     * 조회한 Slice 를 커서 페이지 응답으로 변환합니다. 다음 페이지가 있으면 마지막 게시글로 다음 커서를 만듭니다.
+     *
+     * @param boards    조회한 게시글
+     * @param cursorKey 게시글로 커서를 만드는 함수
+     * @return 커서 페이지 응답
+     */
+    private CursorPageResponseDto<BoardResponseDto> toCursorPage(Slice<BoardResponseDto> boards,
+            Function<BoardResponseDto, String> cursorKey) {
+        List<BoardResponseDto> content = boards.getContent();
+        String nextCursor = null;
+        if (boards.hasNext()) {
+            nextCursor = cursorKey.apply(content.get(content.size() - 1));
+        }
+        return new CursorPageResponseDto<>(content, nextCursor, boards.hasNext());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,73 @@
+package com.sparta.areadevelopment.service;
+
+import com.sparta.areadevelopment.repository.BoardCacheEvictor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 게시글의 comment_count 를 comments 테이블로 다시 센 값과 비교해 보정하는 클래스
+ * <p>
+ * comment_count 는 댓글 작성/삭제, 게시글 삭제, 회원탈퇴시 함께 갱신되지만, 직접 DB 를 수정하거나 갱신이 누락된 경우를 위해 주기마다
+ * 삭제되지 않은 게시글 중 어긋난 행만 찾아 차이만큼 더하고 2차 캐시에서 지웁니다. 보정과 동시에 커밋된 댓글은 다음 주기에 맞춰집니다.
+ * <p>
+ * 메트릭 : board.comment-count.corrections(보정한 행 수)
+ */
+@Slf4j
+@Component
+public class CommentCountRepairJob {
+
+    // comment_count 가 삭제되지 않은 댓글의 실제 개수와 다른 게시글과 그 차이
+    private static final String DRIFT_SQL = "SELECT b.id, COUNT(c.id) - b.comment_count "
+            + "FROM boards b LEFT JOIN comments c "
+            + "ON c.board_id = b.id AND c.deleted_at IS NULL "
+            + "WHERE b.deleted_at IS NULL "
+            + "GROUP BY b.id, b.comment_count HAVING COUNT(c.id) <> b.comment_count";
+    private static final String REPAIR_SQL =
+            "UPDATE boards SET comment_count = comment_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BoardCacheEvictor boardCacheEvictor;
+    private final Counter corrections;
+
+    public CommentCountRepairJob(JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate, BoardCacheEvictor boardCacheEvictor,
+            MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.boardCacheEvictor = boardCacheEvictor;
+        this.corrections = Counter.builder("board.comment-count.corrections")
+                .description("comments 테이블과 달라 보정한 게시글 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 어긋난 게시글의 댓글 수를 보정합니다.
+     */
+    @Scheduled(fixedDelayString = "${board.comment-count.repair-interval-ms:3600000}",
+            initialDelayString = "${board.comment-count.repair-interval-ms:3600000}")
+    public void repair() {
+        try {
+            List<Object[]> drifts = jdbcTemplate.query(DRIFT_SQL,
+                    (rs, rowNum) -> new Object[]{rs.getLong(2), rs.getLong(1)});
+            if (drifts.isEmpty()) {
+                return;
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(REPAIR_SQL, drifts);
+                boardCacheEvictor.evict(drifts.stream().map(drift -> (Long) drift[1]).toList());
+            });
+            corrections.increment(drifts.size());
+            log.info("게시글 댓글 수 보정 rows={}", drifts.size());
+        } catch (DataAccessException e) {
+            log.warn("게시글 댓글 수 보정 실패, 다음 주기에 다시 시도합니다.", e);
+        }
+    }
+}
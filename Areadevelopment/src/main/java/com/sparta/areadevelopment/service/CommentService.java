@@ -2,17 +2,23 @@ package com.sparta.areadevelopment.service;
 
 import com.sparta.areadevelopment.dto.CommentRequestDto;
 import com.sparta.areadevelopment.dto.CommentResponseDto;
+import com.sparta.areadevelopment.dto.CursorPageResponseDto;
 import com.sparta.areadevelopment.entity.Board;
 import com.sparta.areadevelopment.entity.Comment;
 import com.sparta.areadevelopment.entity.User;
+import com.sparta.areadevelopment.event.CommentCountChangedEvent;
 import com.sparta.areadevelopment.repository.BoardRepository;
 import com.sparta.areadevelopment.repository.CommentRepository;
-import java.util.Collection;
+import com.sparta.areadevelopment.util.CursorUtil;
 import java.util.List;
-import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 @Service
 @RequiredArgsConstructor
@@ -20,6 +26,9 @@ public class CommentService {
 
     private final CommentRepository commentRepository;
     private final BoardRepository boardRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final int MAX_PAGE_SIZE = 100;
 
     /**
      * 댓글의 아이디와 삭제상태를
@@ -29,25 +38,46 @@ public class CommentService {
      * @param requestDto 사용자가 등록 요청한 정보
      * @return 댓글의 상세 정보
      */
+    @Transactional
     public CommentResponseDto addComment(User user, Long boardId,
             CommentRequestDto requestDto) {
 
         Board board = getActiveBoardById(boardId);
         Comment comment = new Comment(requestDto.getContent(), board, user);
         commentRepository.save(comment);
+        boardRepository.incrementCommentCount(boardId);
+        eventPublisher.publishEvent(new CommentCountChangedEvent(boardId, 1L));
         return new CommentResponseDto(comment);
     }
 
     /**
-     * 게시글에 종속된 삭제되지 않은 댓글들을 내역을 내림차순으로 정렬하려 보여줍니다.
+     * 게시글에 종속된 삭제되지 않은 댓글을 최신순으로 커서 페이지네이션 합니다.
      *
      * @param boardId 게시글 고유번호
-     * @return 댓글의 상세정보 모음
+     * @param cursor  이전 응답의 nextCursor, 첫 페이지는 null
+     * @param size    페이지 크기, 1 ~ 100 사이로 맞춥니다.
+     * @return 댓글 목록과 다음 커서
      */
-    public List<CommentResponseDto> getAllComments(Long boardId) {
-        return commentRepository.findByDeletedAtNullAndBoardIdOrderByCreatedAtDesc(boardId)
-                .map(Collection::stream).orElseGet(Stream::empty).map(CommentResponseDto::new)
-                .toList();
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<CommentResponseDto> getComments(Long boardId, String cursor,
+            int size) {
+        Pageable pageable = PageRequest.of(0, Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+        Slice<CommentResponseDto> comments;
+        if (StringUtils.hasText(cursor)) {
+            String[] keys = CursorUtil.decode(cursor);
+            comments = commentRepository.findCommentsAfter(boardId,
+                    CursorUtil.toDateTime(keys[0]), CursorUtil.toLong(keys[1]), pageable);
+        } else {
+            comments = commentRepository.findComments(boardId, pageable);
+        }
+
+        List<CommentResponseDto> content = comments.getContent();
+        String nextCursor = null;
+        if (comments.hasNext()) {
+            CommentResponseDto last = content.get(content.size() - 1);
+            nextCursor = CursorUtil.encode(last.getCreatedAt(), last.getId());
+        }
+        return new CursorPageResponseDto<>(content, nextCursor, comments.hasNext());
     }
 
     /**
@@ -87,6 +117,8 @@ public class CommentService {
             throw new IllegalArgumentException("선택한 댓글은 다른 사용자가 작성한 댓글입니다.");
         }
         comment.softDelete();
+        boardRepository.decrementCommentCount(comment.getBoard().getId());
+        eventPublisher.publishEvent(new CommentCountChangedEvent(comment.getBoard().getId(), -1L));
         return "댓글 삭제 성공";
     }
 
@@ -1,35 +1,82 @@
 package com.sparta.areadevelopment.service;
 
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.sparta.areadevelopment.entity.CustomUserDetails;
 import com.sparta.areadevelopment.entity.User;
 import com.sparta.areadevelopment.enums.StatusEnum;
+import com.sparta.areadevelopment.event.UserChangedEvent;
 import com.sparta.areadevelopment.repository.UserRepository;
-import jakarta.transaction.Transactional;
+import com.sparta.areadevelopment.util.AsyncCacheLoader;
+import java.time.Duration;
 import java.util.Objects;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * 유저디테일 서비스 커스텀
+ * <p>
+ * 인증이 필요한 요청마다 users 테이블을 조회하지 않도록 활성 유저의 CustomUserDetails 를 캐시합니다. 유저 정보가 바뀌면
+ * {@link UserChangedEvent} 를 받아(커밋 이후) 해당 유저의 항목을 비우고, 혹시 놓친 변경이 있어도 ttl 이 지나면 다시 조회합니다.
+ * <p>
+ * 가상 스레드로 실행할때 캐시 잠금 안에서 DB 를 조회하지 않도록 {@link AsyncCacheLoader} 로 조회합니다.
  */
 @Service
-@RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final AsyncCache<String, CustomUserDetails> cache;
+
+    public CustomUserDetailsService(UserRepository userRepository,
+            @Value("${user-details.cache.max-size:10000}") long maxSize,
+            @Value("${user-details.cache.ttl-seconds:600}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .buildAsync();
+    }
 
     /**
      * 유저 디테일 서비스 메서드 오버라이딩
+     * <p>
+     * 로그인처럼 트랜잭션 안에서 호출되면 아직 커밋되지 않은 상태가 캐시되지 않도록 캐시를 거치지 않고 바로 조회합니다.
      *
      * @param username
-     * @return
+     * @return 활성 유저가 아니거나 로그아웃된 유저면 null
      * @throws UsernameNotFoundException
      */
     @Override
-//    @Transactional
     public CustomUserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return load(username);
+        }
+        return AsyncCacheLoader.get(cache, username, this::load);
+    }
+
+    /**
+     * 유저 정보가 바뀌면(커밋 이후) 해당 유저의 캐시를 비웁니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        cache.synchronous().invalidate(event.getUsername());
+    }
+
+    /**
+     * 캐시 적중/실패 메트릭 수집용
+     */
+    public Cache<String, CustomUserDetails> getCache() {
+        return cache.synchronous();
+    }
+
+    // null 을 반환하면 캐시하지 않습니다.
+    private CustomUserDetails load(String username) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException(username));
 
@@ -0,0 +1,66 @@
+package com.sparta.areadevelopment.service;
+
+import com.sparta.areadevelopment.entity.Follow;
+import com.sparta.areadevelopment.entity.User;
+import com.sparta.areadevelopment.enums.StatusEnum;
+import com.sparta.areadevelopment.event.FollowChangedEvent;
+import com.sparta.areadevelopment.repository.FollowRepository;
+import com.sparta.areadevelopment.repository.UserRepository;
+import java.util.Objects;
+import java.util.Optional;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 이 Service 는 팔로우 기능의 비지니스 로직을 담당합니다.
+ */
+@Service
+public class FollowService {
+
+    private final FollowRepository followRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 지정된 Repository 로 Service 를 생성합니다.
+     *
+     * @param followRepository Follow Entity 의 저장장소
+     * @param userRepository   User Entity 의 저장장소
+     * @param eventPublisher   팔로잉 목록 변경 이벤트 발행
+     */
+    public FollowService(FollowRepository followRepository, UserRepository userRepository,
+            ApplicationEventPublisher eventPublisher) {
+        this.followRepository = followRepository;
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * 지정된 사용자를 팔로우하고 있지 않다면 팔로우, 이미 팔로우 중이라면 취소합니다.
+     *
+     * @param user       팔로우를 하는 사용자 객체
+     * @param followeeId 팔로우 할 사용자의 고유번호
+     * @return 팔로우 : true 팔로우 취소 : false
+     */
+    @Transactional
+    public boolean toggleFollow(User user, Long followeeId) {
+        if (Objects.equals(user.getId(), followeeId)) {
+            throw new IllegalArgumentException("본인은 팔로우할 수 없습니다.");
+        }
+        Optional<Follow> checkFollow = followRepository.findByFollowerIdAndFolloweeId(
+                user.getId(), followeeId);
+        boolean followed;
+        if (checkFollow.isPresent()) {
+            followRepository.delete(checkFollow.get());
+            followed = false; // 팔로우 취소
+        } else {
+            User followee = userRepository.findUserByIdAndStatus(followeeId, StatusEnum.ACTIVE)
+                    .orElseThrow(() -> new IllegalArgumentException("해당하는 유저가 없습니다."));
+            followRepository.save(new Follow(user, followee));
+            followed = true; // 팔로우
+        }
+        eventPublisher.publishEvent(new FollowChangedEvent(user.getId()));
+        return followed;
+    }
+}
@@ -0,0 +1,319 @@
+package com.sparta.areadevelopment.service;
+
+import com.sparta.areadevelopment.enums.LikeTypeEnum;
+import com.sparta.areadevelopment.event.BoardLikeChangedEvent;
+import com.sparta.areadevelopment.event.CommentLikeChangedEvent;
+import com.sparta.areadevelopment.repository.BoardCacheEvictor;
+import com.sparta.areadevelopment.util.CounterBuffer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 게시글/댓글의 좋아요 수를 좋아요 토글 트랜잭션 밖에서 모아서 반영하는 클래스
+ * <p>
+ * 좋아요 내역(likes 행)만 토글 트랜잭션에서 등록/삭제하고, 좋아요 수 증감은 커밋 이후 이벤트로 받아 메모리에 모았다가 flush 주기마다
+ * "like_count = like_count + ?" 배치로 반영합니다. 인기 게시글의 boards 행에 토글마다 행 잠금이 걸리지 않습니다. 반영하거나 보정한
+ * 게시글은 같은 트랜잭션에서 2차 캐시에서 지우므로, 게시글 조회시 캐시된 게시글의 좋아요 수에 반영 대기중인 증감량만 더해 보여줍니다.
+ * <p>
+ * 서버가 비정상 종료되어 반영하지 못한 증감량이나 그 밖의 오차는 reconcile 주기마다 likes 테이블로 다시 센 값과 비교해 보정합니다. 전체
+ * 테이블을 한 번에 다시 세지 않고, 지난 reconcile 이후 증감량을 반영한 행과 고유번호 순으로 reconcile-batch-size 개씩 돌아가며 훑는 구간만
+ * 다시 셉니다. 반영하지 못하고 유실된 증감량은 훑는 구간이 돌아올 때 보정됩니다. 보정과 동시에 커밋된 토글은 한 주기 동안 어긋날 수 있지만
+ * 다음 reconcile 에서 맞춰집니다.
+ * <p>
+ * 메트릭 : likes.aggregator.pending(반영 대기 토글 수), likes.aggregator.lag(가장 오래 기다린 토글의 대기 시간, 초),
+ * likes.aggregator.corrections(보정한 행 수), likes.aggregator.correction.size(행별 보정량)
+ */
+@Slf4j
+@Component
+public class LikeCountAggregator {
+
+    private static final String BOARD_FLUSH_SQL =
+            "UPDATE boards SET like_count = like_count + ? WHERE id = ?";
+    private static final String COMMENT_FLUSH_SQL =
+            "UPDATE comments SET like_count = like_count + ? WHERE id = ?";
+
+    private final CounterBuffer boardLikes = new CounterBuffer();
+    private final CounterBuffer commentLikes = new CounterBuffer();
+    private final LongAdder pending = new LongAdder();
+    // 반영 대기중인 가장 오래된 토글 시간(ms), 대기중인 토글이 없으면 0
+    private final AtomicLong oldestPendingAt = new AtomicLong();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BoardCacheEvictor boardCacheEvictor;
+    private final MeterRegistry meterRegistry;
+    private final int reconcileBatchSize;
+    private final DriftScan boardScan;
+    private final DriftScan commentScan;
+
+    public LikeCountAggregator(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+            BoardCacheEvictor boardCacheEvictor, MeterRegistry meterRegistry,
+            @Value("${likes.aggregator.reconcile-batch-size:1000}") int reconcileBatchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.boardCacheEvictor = boardCacheEvictor;
+        this.meterRegistry = meterRegistry;
+        this.reconcileBatchSize = reconcileBatchSize;
+        this.boardScan = new DriftScan("boards", LikeTypeEnum.BOARD, "board",
+                boardCacheEvictor::evict);
+        this.commentScan = new DriftScan("comments", LikeTypeEnum.COMMENT, "comment",
+                commentIds -> {});
+        Gauge.builder("likes.aggregator.pending", pending, LongAdder::sum)
+                .description("DB 에 반영되지 않은 좋아요 토글 수")
+                .register(meterRegistry);
+        Gauge.builder("likes.aggregator.lag", this, LikeCountAggregator::getLagSeconds)
+                .description("가장 오래 반영을 기다린 좋아요 토글의 대기 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 게시글 좋아요 증감량을 모읍니다. (커밋 이후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardLikeChanged(BoardLikeChangedEvent event) {
+        record(boardLikes, event.getBoardId(), event.getDelta());
+    }
+
+    /**
+     * 댓글 좋아요 증감량을 모읍니다. (커밋 이후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentLikeChanged(CommentLikeChangedEvent event) {
+        record(commentLikes, event.getCommentId(), event.getDelta());
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 좋아요 증감량
+     *
+     * @param likeType  컨텐츠 타입
+     * @param contentId 컨텐츠 고유번호
+     * @return 반영 대기중인 증감량
+     */
+    public long getPendingDelta(LikeTypeEnum likeType, Long contentId) {
+        return buffer(likeType).get(contentId);
+    }
+
+    /**
+     * 증감량 반영과 보정을 멈춘 채로 read 를 실행합니다. read 안에서 읽은 DB 의 좋아요 수와 {@link #getPendingDelta} 는 서로 겹치거나
+     * 빠지는 증감량이 없습니다.
+     *
+     * @param read DB 의 좋아요 수와 반영 대기중인 증감량을 함께 읽는 작업
+     * @return read 의 결과
+     */
+    public <T> T withFlushPaused(Supplier<T> read) {
+        flushLock.lock();
+        try {
+            return read.get();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 모인 증감량을 하나의 트랜잭션에서 배치 UPDATE 로 반영합니다. 실패하면 다음 flush 때 다시 시도합니다.
+     */
+    @Scheduled(fixedDelayString = "${likes.aggregator.flush-interval-ms:1000}")
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            flushLocked();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 남은 증감량을 반영한 뒤, likes 테이블로 다시 센 좋아요 수와 다른 행을 보정합니다. 지난 reconcile 이후 반영한 행과, 고유번호 순으로
+     * 돌아가며 reconcile-batch-size 개씩 훑는 구간만 다시 셉니다.
+     */
+    @Scheduled(fixedDelayString = "${likes.aggregator.reconcile-interval-ms:600000}",
+            initialDelayString = "${likes.aggregator.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        flushLock.lock();
+        try {
+            flushLocked();
+            reconcile(boardScan);
+            reconcile(commentScan);
+        } catch (DataAccessException e) {
+            log.warn("좋아요 수 보정 실패, 다음 주기에 다시 시도합니다.", e);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // 정상 종료시에는 남은 증감량을 모두 반영합니다.
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void record(CounterBuffer buffer, Long contentId, long delta) {
+        buffer.add(contentId, delta);
+        pending.increment();
+        oldestPendingAt.compareAndSet(0L, System.currentTimeMillis());
+    }
+
+    private void flushLocked() {
+        long pendingAt = oldestPendingAt.getAndSet(0L);
+        long flushed = pending.sum();
+        Map<Long, Long> boardDeltas = boardLikes.drain();
+        Map<Long, Long> commentDeltas = commentLikes.drain();
+        if (boardDeltas.isEmpty() && commentDeltas.isEmpty()) {
+            pending.add(-flushed);
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!boardDeltas.isEmpty()) {
+                    jdbcTemplate.batchUpdate(boardScan.updateSql, toArgs(boardDeltas));
+                    boardCacheEvictor.evict(boardDeltas.keySet());
+                }
+                if (!commentDeltas.isEmpty()) {
+                    jdbcTemplate.batchUpdate(commentScan.updateSql, toArgs(commentDeltas));
+                }
+            });
+            pending.add(-flushed);
+            boardScan.flushedIds.addAll(boardDeltas.keySet());
+            commentScan.flushedIds.addAll(commentDeltas.keySet());
+        } catch (DataAccessException e) {
+            log.warn("좋아요 수 반영 실패, 다음 주기에 다시 시도합니다. boards={}, comments={}",
+                    boardDeltas.size(), commentDeltas.size(), e);
+            boardLikes.restore(boardDeltas);
+            commentLikes.restore(commentDeltas);
+            if (pendingAt != 0L) {
+                oldestPendingAt.accumulateAndGet(pendingAt,
+                        (current, restored) -> current == 0L ? restored
+                                : Math.min(current, restored));
+            }
+        }
+    }
+
+    // 지난 reconcile 이후 반영한 행을 reconcile-batch-size 개씩 보정한 뒤, 다음 구간을 훑습니다.
+    private void reconcile(DriftScan scan) {
+        List<Long> flushedIds = new ArrayList<>(scan.flushedIds);
+        for (int from = 0; from < flushedIds.size(); from += reconcileBatchSize) {
+            List<Long> ids = flushedIds.subList(from,
+                    Math.min(from + reconcileBatchSize, flushedIds.size()));
+            correct(scan, scan.driftSql("t.id IN (" + String.join(", ",
+                    Collections.nCopies(ids.size(), "?")) + ")"), ids.toArray());
+        }
+        scan.flushedIds.clear();
+
+        Long windowEnd = jdbcTemplate.queryForObject(scan.windowSql, Long.class, scan.cursor,
+                reconcileBatchSize);
+        if (windowEnd == null) {
+            // 마지막 구간까지 훑었으면 다음 reconcile 은 처음부터 훑습니다.
+            scan.cursor = 0L;
+            return;
+        }
+        correct(scan, scan.rangeDriftSql, scan.cursor, windowEnd);
+        scan.cursor = windowEnd;
+    }
+
+    // 보정한 행의 고유번호를 보정 트랜잭션 안에서 onCorrected 로 넘깁니다.
+    private void correct(DriftScan scan, String driftSql, Object... args) {
+        List<Object[]> corrections = jdbcTemplate.query(driftSql,
+                (rs, rowNum) -> new Object[]{rs.getLong(2), rs.getLong(1)}, args);
+        if (corrections.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(scan.updateSql, corrections);
+            scan.onCorrected.accept(corrections.stream().map(correction -> (Long) correction[1])
+                    .toList());
+        });
+
+        Counter.builder("likes.aggregator.corrections")
+                .tag("contentType", scan.metricTag)
+                .register(meterRegistry)
+                .increment(corrections.size());
+        DistributionSummary correctionSize = DistributionSummary
+                .builder("likes.aggregator.correction.size")
+                .tag("contentType", scan.metricTag)
+                .register(meterRegistry);
+        for (Object[] correction : corrections) {
+            correctionSize.record(Math.abs((long) correction[0]));
+        }
+        log.info("좋아요 수 보정 contentType={}, rows={}", scan.metricTag, corrections.size());
+    }
+
+    private double getLagSeconds() {
+        long pendingAt = oldestPendingAt.get();
+        return pendingAt == 0L ? 0.0 : (System.currentTimeMillis() - pendingAt) / 1000.0;
+    }
+
+    private CounterBuffer buffer(LikeTypeEnum likeType) {
+        return likeType == LikeTypeEnum.BOARD ? boardLikes : commentLikes;
+    }
+
+    private static List<Object[]> toArgs(Map<Long, Long> deltas) {
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((contentId, delta) -> args.add(new Object[]{delta, contentId}));
+        return args;
+    }
+
+    /**
+     * 게시글/댓글 테이블별 좋아요 수 반영, 보정 쿼리와 보정 진행 상태. flushLock 을 잡은 스레드만 변경합니다.
+     */
+    private static final class DriftScan {
+
+        private final String table;
+        private final LikeTypeEnum likeType;
+        private final String metricTag;
+        private final Consumer<List<Long>> onCorrected;
+        private final String updateSql;
+        // 다음에 훑을 구간의 마지막 고유번호 (reconcile-batch-size 개)
+        private final String windowSql;
+        private final String rangeDriftSql;
+        // 지난 reconcile 이후 증감량을 반영한 행
+        private final Set<Long> flushedIds = new HashSet<>();
+        // 지금까지 훑은 마지막 고유번호
+        private long cursor;
+
+        private DriftScan(String table, LikeTypeEnum likeType, String metricTag,
+                Consumer<List<Long>> onCorrected) {
+            this.table = table;
+            this.likeType = likeType;
+            this.metricTag = metricTag;
+            this.onCorrected = onCorrected;
+            this.updateSql = "UPDATE " + table + " SET like_count = like_count + ? WHERE id = ?";
+            this.windowSql = "SELECT MAX(w.id) FROM (SELECT id FROM " + table
+                    + " WHERE id > ? ORDER BY id LIMIT ?) w";
+            this.rangeDriftSql = driftSql("t.id > ? AND t.id <= ?");
+        }
+
+        // condition 에 해당하는 행 중 like_count 가 likes 테이블의 실제 개수와 다른 행과 그 차이
+        private String driftSql(String condition) {
+            return "SELECT t.id, COUNT(l.id) - t.like_count FROM " + table + " t "
+                    + "LEFT JOIN likes l ON l.content_type = '" + likeType.name() + "' "
+                    + "AND l.content_id = t.id WHERE " + condition + " "
+                    + "GROUP BY t.id, t.like_count HAVING COUNT(l.id) <> t.like_count";
+        }
+    }
+}
@@ -1,87 +1,204 @@
 package com.sparta.areadevelopment.service;
 
+import com.sparta.areadevelopment.dto.LikeDto;
+import com.sparta.areadevelopment.dto.LikeResponseDto;
+import com.sparta.areadevelopment.dto.LikeStatusResponseDto;
 import com.sparta.areadevelopment.entity.Board;
 import com.sparta.areadevelopment.entity.Comment;
-import com.sparta.areadevelopment.entity.Like;
 import com.sparta.areadevelopment.entity.User;
 import com.sparta.areadevelopment.enums.LikeTypeEnum;
+import com.sparta.areadevelopment.event.BoardLikeChangedEvent;
+import com.sparta.areadevelopment.event.CommentLikeChangedEvent;
 import com.sparta.areadevelopment.repository.BoardRepository;
 import com.sparta.areadevelopment.repository.CommentRepository;
 import com.sparta.areadevelopment.repository.LikeRepository;
-import jakarta.transaction.Transactional;
-import java.util.Optional;
+import com.sparta.areadevelopment.repository.LikeRepository.LikedContent;
+import com.sparta.areadevelopment.util.TimeSortedIdGenerator;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.hibernate.exception.ConstraintViolationException.ConstraintKind;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * 이 Service 는 좋아요 기능의 비지니스 로직을 담당합니다.
  */
+@Slf4j
 @Service
 public class LikeService {
 
+    // 교착 상태로 토글이 실패했을 때 다시 시도할 최대 횟수
+    private static final int MAX_TOGGLE_ATTEMPTS = 3;
+
     private final LikeRepository likeRepository;
     private final BoardRepository boardRepository;
     private final CommentRepository commentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final LikeCountAggregator likeCountAggregator;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 지정된 Repository 로 Service 를 생성합니다.
      *
-     * @param likeRepository    Like Entity 의 저장장소
-     * @param boardRepository   Board Entity 의 저장장소
-     * @param commentRepository Comment Entity 의 저장장소
+     * @param likeRepository      Like Entity 의 저장장소
+     * @param boardRepository     Board Entity 의 저장장소
+     * @param commentRepository   Comment Entity 의 저장장소
+     * @param eventPublisher      좋아요 변경 이벤트 발행
+     * @param likeCountAggregator 반영 대기중인 좋아요 수 증감량 조회
+     * @param transactionTemplate 토글마다 트랜잭션을 열고, 교착 상태면 새 트랜잭션으로 다시 시도
      */
     public LikeService(LikeRepository likeRepository, BoardRepository boardRepository,
-            CommentRepository commentRepository) {
+            CommentRepository commentRepository, ApplicationEventPublisher eventPublisher,
+            LikeCountAggregator likeCountAggregator, TransactionTemplate transactionTemplate) {
         this.likeRepository = likeRepository;
         this.boardRepository = boardRepository;
         this.commentRepository = commentRepository;
+        this.eventPublisher = eventPublisher;
+        this.likeCountAggregator = likeCountAggregator;
+        this.transactionTemplate = transactionTemplate;
     }
 
     /**
      * 지정된 사용자가 선탠한 컨텐츠에 대해 좋아요 내역이 없다면 추가, 정보가 있다면 삭제합니다.
+     * <p>
+     * 내역을 먼저 조회하지 않고 바로 삭제해보고, 삭제된 내역이 없을 때만 등록합니다. 등록은 컨텐츠 존재 여부와 작성자 확인을 같은 INSERT 문에서
+     * 처리하고, (user_id, content_id, content_type) 유니크 인덱스 덕분에 동시에 같은 요청이 들어와도 좋아요는 한 번만 등록됩니다. 먼저 등록한
+     * 요청이 있어 유니크 인덱스에 걸리면 그 요청의 결과(좋아요 상태)를 돌려줍니다. 좋아요 수는 토글 트랜잭션에서 UPDATE 하지 않고
+     * {@link LikeCountAggregator} 가 모아서 반영합니다.
+     * <p>
+     * MySQL(InnoDB, REPEATABLE READ)에서는 없는 행을 DELETE 하면 유니크 인덱스에 gap 잠금이 걸립니다. 같은 (사용자, 컨텐츠)의 토글 두 개가
+     * 동시에 DELETE 한 뒤 INSERT 하면 서로의 gap 잠금을 기다리는 교착 상태가 되어 한쪽이 실패하므로, 실패한 토글은 새 트랜잭션으로 다시
+     * 시도합니다. 다시 시도한 토글은 먼저 끝난 토글 다음에 실행된 것과 같습니다.
      *
      * @param user        좋아요를 누른 사용자 객체
      * @param contentType 좋아요를 누른 컨텐츠 타입
      * @param contentId   좋아요를 누른 컨텐츠의 고유 번호
-     * @return 좋아요 등록 : true 좋아요 취소 : false
+     * @return 토글 후 좋아요 상태와 좋아요 수
      */
-    @Transactional
-    public boolean toggleLike(User user, String contentType, Long contentId) {
+    public LikeResponseDto toggleLike(User user, String contentType, Long contentId) {
         LikeTypeEnum likeType = LikeTypeEnum.fromContentType(contentType);
-        Optional<Like> checkLike = likeRepository.findByUserIdAndContentIdAndContentType(
-                user.getId(), contentId, likeType);
-        if (checkLike.isPresent()) {
-            likeRepository.delete(checkLike.get());
-            decrementLikeCount(contentId, contentType);
-            return false; // 좋아요 취소
-        } else {
-            validateContentUser(user.getId(), contentType, contentId);
-            Like like = new Like(user, contentId, likeType);
-            likeRepository.save(like);
-            incrementLikeCount(contentId, contentType);
-            return true; // 좋아요 등록
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(
+                        status -> toggle(user.getId(), likeType, contentId));
+            } catch (DataIntegrityViolationException e) {
+                if (!isDuplicateKey(e)) {
+                    throw e;
+                }
+                // 동시에 들어온 요청이 먼저 등록한 경우입니다.
+                return new LikeResponseDto(true, currentLikeCount(contentId, likeType, 0L));
+            } catch (PessimisticLockingFailureException e) {
+                if (attempt >= MAX_TOGGLE_ATTEMPTS) {
+                    throw e;
+                }
+                log.warn("좋아요 토글 교착 상태, 다시 시도합니다. attempt={}, contentType={}, contentId={}",
+                        attempt, likeType, contentId);
+            }
         }
     }
 
+    // 유니크 인덱스 위반만 동시 등록으로 보고, 그 밖의 제약 조건 위반은 그대로 던집니다.
+    private static boolean isDuplicateKey(DataIntegrityViolationException e) {
+        return e instanceof DuplicateKeyException
+                || e.getCause() instanceof ConstraintViolationException violation
+                && violation.getKind() == ConstraintKind.UNIQUE;
+    }
+
+    private LikeResponseDto toggle(Long userId, LikeTypeEnum likeType, Long contentId) {
+        if (likeRepository.deleteLike(userId, contentId, likeType) > 0) {
+            publishLikeChanged(contentId, likeType, -1L);
+            // 좋아요 취소
+            return new LikeResponseDto(false, currentLikeCount(contentId, likeType, -1L));
+        }
+
+        if (insertLike(userId, contentId, likeType) == 0) {
+            // 컨텐츠가 없거나 본인 컨텐츠면 예외를 던집니다.
+            validateContentUser(userId, likeType, contentId);
+            throw new IllegalArgumentException("해당하는 일정이 없습니다.");
+        }
+        publishLikeChanged(contentId, likeType, 1L);
+        // 좋아요 등록
+        return new LikeResponseDto(true, currentLikeCount(contentId, likeType, 1L));
+    }
+
     /**
-     * 좋아요를 누른 사용자가 컨텐츠의 작성자인지 확인하는 기능입니다.
+     * 여러 컨텐츠에 대해 사용자가 좋아요를 눌렀는지 한 번의 쿼리로 확인합니다. 피드 한 페이지를 그릴 때 사용합니다.
      *
-     * @param userId      좋아요를 누른 사용자 고유번호
-     * @param contentType 좋아요를 누른 컨텐츠 타입
-     * @param contentId   좋아요를 누른 컨텐츠의 고유 번호
+     * @param user     좋아요 여부를 확인할 사용자 객체
+     * @param contents 확인할 컨텐츠 타입과 고유번호 목록
+     * @return 요청 순서대로 컨텐츠별 좋아요 여부
+     */
+    public List<LikeStatusResponseDto> findLikeStatuses(User user, List<LikeDto> contents) {
+        // 지원하지 않는 타입이 있으면 조회 전에 예외를 던집니다.
+        List<LikeTypeEnum> likeTypes = contents.stream()
+                .map(content -> LikeTypeEnum.fromContentType(content.getContentType()))
+                .toList();
+        Set<Long> contentIds = contents.stream().map(LikeDto::getContentId)
+                .collect(Collectors.toSet());
+
+        Map<LikeTypeEnum, Set<Long>> liked = new EnumMap<>(LikeTypeEnum.class);
+        for (LikedContent likedContent : likeRepository.findLikedContents(user.getId(),
+                contentIds)) {
+            liked.computeIfAbsent(likedContent.getContentType(), type -> new HashSet<>())
+                    .add(likedContent.getContentId());
+        }
+
+        List<LikeStatusResponseDto> statuses = new ArrayList<>(contents.size());
+        for (int i = 0; i < contents.size(); i++) {
+            LikeDto content = contents.get(i);
+            boolean isLiked = liked.getOrDefault(likeTypes.get(i), Set.of())
+                    .contains(content.getContentId());
+            statuses.add(new LikeStatusResponseDto(content.getContentType().toLowerCase(),
+                    content.getContentId(), isLiked));
+        }
+        return statuses;
+    }
+
+    /**
+     * 컨텐츠 타입에 맞는 테이블로 좋아요를 등록합니다.
+     *
+     * @return 등록된 행 수
      */
-    private void validateContentUser(Long userId, String contentType, Long contentId) {
+    private int insertLike(Long userId, Long contentId, LikeTypeEnum likeType) {
+        // 네이티브 INSERT 는 Hibernate 를 거치지 않으므로 고유번호를 직접 만들어 넣습니다.
+        long id = TimeSortedIdGenerator.nextId();
+        LocalDateTime now = LocalDateTime.now();
+        return switch (likeType) {
+            case BOARD -> likeRepository.insertBoardLike(id, userId, contentId, now);
+            case COMMENT -> likeRepository.insertCommentLike(id, userId, contentId, now);
+        };
+    }
+
+    /**
+     * 좋아요를 등록하지 못했을 때 이유를 확인합니다. 컨텐츠가 없거나 사용자가 컨텐츠의 작성자라면 예외를 던집니다.
+     *
+     * @param userId    좋아요를 누른 사용자 고유번호
+     * @param likeType  좋아요를 누른 컨텐츠 타입
+     * @param contentId 좋아요를 누른 컨텐츠의 고유 번호
+     */
+    private void validateContentUser(Long userId, LikeTypeEnum likeType, Long contentId) {
 
         // 객체를 가져옵니다
-        if (LikeTypeEnum.BOARD.equalsType(contentType)) {
-            Board board = boardRepository.findById(contentId)
+        if (likeType == LikeTypeEnum.BOARD) {
+            Board board = boardRepository.findByIdAndDeletedAtIsNull(contentId)
                     .orElseThrow(() -> new IllegalArgumentException("해당하는 일정이 없습니다."));
             checkContentOwners(board.getUser().getId(), userId);
-        } else if (LikeTypeEnum.COMMENT.equalsType(contentType)) {
-            Comment comment = commentRepository.findById(contentId)
+        } else {
+            Comment comment = commentRepository.findByIdAndDeletedAtIsNull(contentId)
                     .orElseThrow(() -> new IllegalArgumentException("해당하는 일정이 없습니다."));
             checkContentOwners(comment.getUser().getId(), userId);
-        } else {
-            throw new IllegalArgumentException("지원하지 않는 타입입니다.");
         }
     }
 
@@ -98,34 +215,34 @@ public class LikeService {
     }
 
     /**
-     * 조건에 따라 해당 저장소에 좋아요 필드 숫자 증가 메서드입니다.
+     * 좋아요 수 증감 이벤트를 발행합니다. 좋아요 수는 커밋 이후 LikeCountAggregator 가 모아서 반영합니다.
      *
-     * @param contentId   컨텐츠 고유 번호
-     * @param contentType 컨텐츠 타입
+     * @param contentId 컨텐츠 고유 번호
+     * @param likeType  컨텐츠 타입
+     * @param delta     좋아요 증감량 (등록 : 1, 취소 : -1)
      */
-    private void incrementLikeCount(Long contentId, String contentType) {
-        if (LikeTypeEnum.BOARD.equalsType(contentType)) { // 게시판 일때
-            boardRepository.incrementLikeCount(contentId);
-        } else if (LikeTypeEnum.COMMENT.equalsType(contentType)) { // 댓글 일때
-            commentRepository.incrementLikeCount(contentId);
-        } else {
-            throw new IllegalArgumentException("지원하지 않는 타입입니다.");
+    private void publishLikeChanged(Long contentId, LikeTypeEnum likeType, long delta) {
+        if (likeType == LikeTypeEnum.BOARD) { // 게시판 일때
+            eventPublisher.publishEvent(new BoardLikeChangedEvent(contentId, delta));
+        } else { // 댓글 일때
+            eventPublisher.publishEvent(new CommentLikeChangedEvent(contentId, delta));
         }
     }
 
     /**
-     * 조건에 따라 해당 저장소에 좋아요 숫자 감소 메서드입니다.
+     * 토글 후 컨텐츠의 좋아요 수를 계산합니다. DB 값에 아직 반영되지 않은 증감량과 이번 토글의 증감량을 더합니다.
      *
-     * @param contentId   컨텐츠 고유 번호
-     * @param contentType 컨텐츠 타입
+     * @param contentId 컨텐츠 고유 번호
+     * @param likeType  컨텐츠 타입
+     * @param delta     이번 토글의 증감량
+     * @return 좋아요 수
      */
-    private void decrementLikeCount(Long contentId, String contentType) {
-        if (LikeTypeEnum.BOARD.equalsType(contentType)) { // 게시판 일때
-            boardRepository.decrementLikeCount(contentId);
-        } else if (LikeTypeEnum.COMMENT.equalsType(contentType)) { // 댓글 일때
-            commentRepository.decrementLikeCount(contentId);
-        } else {
-            throw new IllegalArgumentException("지원하지 않는 타입입니다.");
-        }
+    private Long currentLikeCount(Long contentId, LikeTypeEnum likeType, long delta) {
+        Long likeCount = likeType == LikeTypeEnum.BOARD
+                ? boardRepository.findLikeCount(contentId)
+                : commentRepository.findLikeCount(contentId);
+        // 반영 대기중인 증감량과 합친 값이 잠시 실제와 어긋나더라도 음수로 보이지 않도록 합니다.
+        return Math.max(0L,
+                likeCount + likeCountAggregator.getPendingDelta(likeType, contentId) + delta);
     }
 }
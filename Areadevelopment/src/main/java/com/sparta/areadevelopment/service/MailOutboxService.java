@@ -0,0 +1,252 @@
+package com.sparta.areadevelopment.service;
+
+import com.sparta.areadevelopment.config.MailManager;
+import com.sparta.areadevelopment.entity.MailOutbox;
+import com.sparta.areadevelopment.enums.MailStatusEnum;
+import com.sparta.areadevelopment.repository.MailOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 메일을 요청 처리와 분리해서 보내는 클래스 (transactional outbox)
+ * <p>
+ * 요청 처리 중에는 {@link #enqueue} 로 mail_outbox 에 저장만 하므로 응답 시간이 SMTP 서버 응답 시간과 무관합니다. 호출한 트랜잭션이
+ * 롤백되면 메일도 보내지지 않습니다. dispatch 주기마다 보낼 시간이 된 메일을 batch-size 개씩 가져와 SMTP 연결 하나로 보내고, 실패한
+ * 메일은 retry-base-seconds * 2^(시도횟수 - 1) 초(최대 retry-max-seconds) 뒤에 다시 보내며, max-attempts 번 실패하거나 주소가
+ * 잘못된 메일은 DEAD 로 남겨 더 보내지 않습니다.
+ * <p>
+ * 가져온 메일은 lease 동안 다음 발송 시간을 미뤄두고 버전(@Version)으로 가져가므로 여러 서버가 같은 메일을 보내지 않습니다. batch 는
+ * SMTP 연결 하나로 보내므로 lease 는 lease-seconds 와, SMTP 서버가 모든 메일마다 제한 시간까지 응답하지 않을때 batch 하나에 걸리는 시간
+ * (연결 제한 시간 + batch-size * (읽기 + 쓰기 제한 시간)) 중 긴 쪽으로 정합니다. 따라서 느린 batch 가 lease 를 넘겨 다른 서버가 같은
+ * 메일을 다시 가져가지 않고, 같은 메일이 두 번 가는 경우는 발송 중 서버가 종료되어 lease 가 끝난 뒤 다시 보낼 때뿐입니다.
+ * <p>
+ * 메일 내용에는 인증번호가 담겨있으므로 발송을 끝낸(SENT, DEAD) 메일은 내용을 지우고, retention-days 가 지난 행은 purge 주기마다
+ * 지웁니다.
+ * <p>
+ * 메트릭 : mail.outbox.pending(대기 메일 수), mail.outbox.sent(보낸 메일 수), mail.outbox.retries(다시 보낼 실패 수),
+ * mail.outbox.dead(포기한 메일 수), mail.outbox.batch(batch 하나를 보내는데 걸린 시간)
+ */
+@Slf4j
+@Component
+public class MailOutboxService {
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final MailManager mailManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retryBase;
+    private final Duration retryMax;
+    private final Duration lease;
+    private final Duration retention;
+
+    private final ReentrantLock dispatchLock = new ReentrantLock();
+    private final AtomicLong pending = new AtomicLong();
+    private final Counter sent;
+    private final Counter retries;
+    private final Counter dead;
+    private final Timer batchTimer;
+
+    public MailOutboxService(MailOutboxRepository mailOutboxRepository, MailManager mailManager,
+            TransactionTemplate transactionTemplate, MeterRegistry meterRegistry,
+            @Value("${mail.outbox.batch-size:20}") int batchSize,
+            @Value("${mail.outbox.max-attempts:5}") int maxAttempts,
+            @Value("${mail.outbox.retry-base-seconds:30}") long retryBaseSeconds,
+            @Value("${mail.outbox.retry-max-seconds:3600}") long retryMaxSeconds,
+            @Value("${mail.outbox.lease-seconds:60}") long leaseSeconds,
+            @Value("${mail.outbox.retention-days:7}") long retentionDays,
+            @Value("${spring.mail.properties.mail.smtp.connectiontimeout:0}") long connectTimeoutMs,
+            @Value("${spring.mail.properties.mail.smtp.timeout:0}") long readTimeoutMs,
+            @Value("${spring.mail.properties.mail.smtp.writetimeout:0}") long writeTimeoutMs) {
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.mailManager = mailManager;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBase = Duration.ofSeconds(retryBaseSeconds);
+        this.retryMax = Duration.ofSeconds(retryMaxSeconds);
+        this.lease = lease(Duration.ofSeconds(leaseSeconds), batchSize, connectTimeoutMs,
+                readTimeoutMs, writeTimeoutMs);
+        log.info("메일 발송 lease={}s, batch-size={}", lease.toSeconds(), batchSize);
+        this.retention = Duration.ofDays(retentionDays);
+        Gauge.builder("mail.outbox.pending", pending, AtomicLong::get)
+                .description("발송 대기중인 메일 수 (마지막 dispatch 기준)")
+                .register(meterRegistry);
+        this.sent = Counter.builder("mail.outbox.sent")
+                .description("보낸 메일 수")
+                .register(meterRegistry);
+        this.retries = Counter.builder("mail.outbox.retries")
+                .description("발송에 실패해 다시 보낼 메일 수")
+                .register(meterRegistry);
+        this.dead = Counter.builder("mail.outbox.dead")
+                .description("최대 시도 횟수를 넘었거나 보낼 수 없어 포기한 메일 수")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("mail.outbox.batch")
+                .description("메일 batch 하나를 SMTP 로 보내는데 걸린 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 메일을 발송 대기열에 저장합니다. 호출한 트랜잭션이 커밋되어야 보내집니다.
+     *
+     * @param recipient 받는 사람 이메일
+     * @param subject   메일 제목
+     * @param content   메일 내용
+     */
+    public void enqueue(String recipient, String subject, String content) {
+        mailOutboxRepository.save(new MailOutbox(recipient, subject, content));
+    }
+
+    /**
+     * 보낼 시간이 된 메일을 batch-size 개씩 모두 보냅니다. 이전 dispatch 가 끝나지 않았으면 건너뜁니다.
+     */
+    @Scheduled(fixedDelayString = "${mail.outbox.dispatch-interval-ms:1000}")
+    public void dispatch() {
+        if (!dispatchLock.tryLock()) {
+            return;
+        }
+        try {
+            while (dispatchBatch() == batchSize) {
+                // 대기 메일이 남아있으면 다음 주기를 기다리지 않고 이어서 보냅니다.
+            }
+            pending.set(mailOutboxRepository.countByStatus(MailStatusEnum.PENDING));
+        } catch (DataAccessException e) {
+            log.warn("메일 발송 실패, 다음 주기에 다시 시도합니다.", e);
+        } finally {
+            dispatchLock.unlock();
+        }
+    }
+
+    /**
+     * 발송을 끝낸 지 retention-days 가 지난 메일을 지웁니다.
+     */
+    @Scheduled(fixedDelayString = "${mail.outbox.purge-interval-ms:3600000}",
+            initialDelayString = "${mail.outbox.purge-interval-ms:3600000}")
+    public void purge() {
+        try {
+            int purged = mailOutboxRepository.deleteFinishedBefore(
+                    List.of(MailStatusEnum.SENT, MailStatusEnum.DEAD),
+                    LocalDateTime.now().minus(retention));
+            log.debug("발송을 끝낸 메일 삭제 rows={}", purged);
+        } catch (DataAccessException e) {
+            log.warn("발송을 끝낸 메일 삭제 실패, 다음 주기에 다시 시도합니다.", e);
+        }
+    }
+
+    // 가져온 메일 수를 반환합니다.
+    private int dispatchBatch() {
+        List<MailOutbox> claimed = claim();
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+
+        Map<MimeMessage, MailOutbox> messages = new IdentityHashMap<>();
+        Map<MailOutbox, Exception> invalid = new IdentityHashMap<>();
+        for (MailOutbox mail : claimed) {
+            try {
+                messages.put(mailManager.createMessage(mail.getRecipient(), mail.getSubject(),
+                        mail.getContent()), mail);
+            } catch (MessagingException e) {
+                invalid.put(mail, e);
+            }
+        }
+        Map<MimeMessage, Exception> failures = batchTimer.record(
+                () -> mailManager.sendAll(new ArrayList<>(messages.keySet())));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            messages.forEach((message, mail) -> {
+                Exception failure = failures.get(message);
+                if (failure == null) {
+                    mail.markSent(now);
+                    sent.increment();
+                } else {
+                    markFailed(mail, failure, now, true);
+                }
+            });
+            invalid.forEach((mail, failure) -> markFailed(mail, failure, now, false));
+            mailOutboxRepository.saveAll(claimed);
+        });
+        return claimed.size();
+    }
+
+    // 보낼 시간이 된 메일의 다음 발송 시간을 lease 만큼 미뤄서 가져옵니다. 다른 서버가 먼저 가져갔으면 빈 목록을 반환합니다.
+    private List<MailOutbox> claim() {
+        try {
+            return transactionTemplate.execute(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                List<MailOutbox> due = mailOutboxRepository.findDue(MailStatusEnum.PENDING, now,
+                        PageRequest.of(0, batchSize));
+                due.forEach(mail -> mail.lease(now.plus(lease)));
+                return due;
+            });
+        } catch (ObjectOptimisticLockingFailureException e) {
+            log.debug("다른 서버가 먼저 가져간 메일이 있어 다음 주기에 다시 가져옵니다.");
+            return List.of();
+        }
+    }
+
+    private void markFailed(MailOutbox mail, Exception failure, LocalDateTime now,
+            boolean retryable) {
+        int attempts = mail.getAttempts() + 1;
+        if (!retryable || attempts >= maxAttempts) {
+            mail.markFailed(failure.getMessage(), null);
+            dead.increment();
+            log.warn("메일 발송 포기 id={}, attempts={}", mail.getId(), attempts, failure);
+            return;
+        }
+        mail.markFailed(failure.getMessage(), now.plus(backoff(attempts)));
+        retries.increment();
+        log.info("메일 발송 실패 id={}, attempts={}, cause={}", mail.getId(), attempts,
+                failure.getMessage());
+    }
+
+    /**
+     * batch 하나를 보내는 동안 끝나지 않도록 lease 를 정합니다. SMTP 제한 시간이 없으면(0) batch 가 얼마나 걸릴지 알 수 없으므로
+     * leaseSeconds 를 그대로 사용합니다.
+     *
+     * @param leaseSeconds     설정한 lease
+     * @param batchSize        batch 하나에 보내는 메일 수
+     * @param connectTimeoutMs SMTP 연결 제한 시간
+     * @param readTimeoutMs    SMTP 읽기 제한 시간
+     * @param writeTimeoutMs   SMTP 쓰기 제한 시간
+     * @return leaseSeconds 와 batch 하나의 최대 발송 시간 중 긴 쪽
+     */
+    static Duration lease(Duration leaseSeconds, int batchSize, long connectTimeoutMs,
+            long readTimeoutMs, long writeTimeoutMs) {
+        if (connectTimeoutMs <= 0 || readTimeoutMs <= 0 || writeTimeoutMs <= 0) {
+            log.warn("SMTP 제한 시간이 없어 느린 batch 가 lease({}s)를 넘길 수 있습니다.",
+                    leaseSeconds.toSeconds());
+            return leaseSeconds;
+        }
+        Duration batchTimeout = Duration.ofMillis(
+                connectTimeoutMs + batchSize * (readTimeoutMs + writeTimeoutMs));
+        return batchTimeout.compareTo(leaseSeconds) > 0 ? batchTimeout : leaseSeconds;
+    }
+
+    // retry-base * 2^(attempts - 1), 최대 retry-max
+    private Duration backoff(int attempts) {
+        Duration delay = retryBase.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(retryMax) > 0 ? retryMax : delay;
+    }
+}
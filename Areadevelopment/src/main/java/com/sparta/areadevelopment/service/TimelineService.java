@@ -0,0 +1,101 @@
+package com.sparta.areadevelopment.service;
+
+import com.sparta.areadevelopment.dto.BoardResponseDto;
+import com.sparta.areadevelopment.dto.CursorPageResponseDto;
+import com.sparta.areadevelopment.entity.User;
+import com.sparta.areadevelopment.enums.ContentModeEnum;
+import com.sparta.areadevelopment.event.BoardCreatedEvent;
+import com.sparta.areadevelopment.event.FollowChangedEvent;
+import com.sparta.areadevelopment.repository.BoardRepository;
+import com.sparta.areadevelopment.repository.FollowRepository;
+import com.sparta.areadevelopment.repository.TimelineStore;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 팔로우한 사용자와 본인의 게시글로 이루어진 홈 타임라인
+ * <p>
+ * 게시글이 작성되면 작성자와 팔로워의 타임라인에 고유번호를 추가해두고, 조회시에는 타임라인에서 한 페이지 분량의 고유번호만 꺼내 한 번의
+ * 쿼리로 목록에 필요한 컬럼만 가져옵니다. 따라서 조회 비용은 전체 게시글 수와 상관없이 페이지 크기에 비례합니다.
+ * <p>
+ * 팔로워 타임라인에 추가하는 작업(fan-out)은 팔로워 수에 비례하므로 커밋 이후 별도 스레드에서 실행해, 게시글 작성 응답이 fan-out 을 기다리지
+ * 않습니다. 그 사이 팔로워의 타임라인에는 새 게시글이 잠시 보이지 않을 수 있습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TimelineService {
+
+    private static final int TIMELINE_PAGE_SIZE = 10;
+
+    private final TimelineStore timelineStore;
+    private final FollowRepository followRepository;
+    private final BoardRepository boardRepository;
+
+    /**
+     * 작성된 게시글을 작성자와 팔로워의 타임라인에 추가합니다. (커밋 이후, 별도 스레드)
+     */
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardCreated(BoardCreatedEvent event) {
+        timelineStore.append(event.getAuthorId(), event.getBoardId());
+        for (Long followerId : followRepository.findFollowerIds(event.getAuthorId())) {
+            timelineStore.append(followerId, event.getBoardId());
+        }
+    }
+
+    /**
+     * 팔로잉 목록이 바뀌면 타임라인을 비우고 다음 조회때 다시 만듭니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFollowChanged(FollowChangedEvent event) {
+        timelineStore.evict(event.getFollowerId());
+    }
+
+    /**
+     * 홈 타임라인을 최신순으로 조회합니다.
+     *
+     * @param user   로그인한 사용자
+     * @param cursor 이전 응답의 nextCursor(마지막 게시글 고유번호), 첫 페이지는 null
+     * @param mode   내용 표시 방식
+     * @return 게시글 10개와 다음 커서, 삭제된 게시글은 제외되므로 10개보다 적을 수 있습니다.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<BoardResponseDto> getTimeline(User user, Long cursor,
+            ContentModeEnum mode) {
+        List<Long> boardIds = timelineStore.read(user.getId(), cursor, TIMELINE_PAGE_SIZE + 1,
+                this::loadTimeline);
+        boolean hasNext = boardIds.size() > TIMELINE_PAGE_SIZE;
+        if (hasNext) {
+            boardIds = boardIds.subList(0, TIMELINE_PAGE_SIZE);
+        }
+
+        Map<Long, BoardResponseDto> boards = boardIds.isEmpty() ? Map.of()
+                : boardRepository.findFeedByIds(boardIds, mode.getLength()).stream()
+                        .collect(Collectors.toMap(BoardResponseDto::getId, Function.identity()));
+        List<BoardResponseDto> content = boardIds.stream()
+                .map(boards::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        String nextCursor = hasNext ? String.valueOf(boardIds.get(boardIds.size() - 1)) : null;
+        return new CursorPageResponseDto<>(content, nextCursor, hasNext);
+    }
+
+    // 메모리에 타임라인이 없으면 팔로잉 목록과 boards 테이블로 다시 만듭니다.
+    private List<Long> loadTimeline(Long userId) {
+        List<Long> authorIds = new ArrayList<>(followRepository.findFolloweeIds(userId));
+        authorIds.add(userId);
+        return boardRepository.findTimelineBoardIds(authorIds,
+                PageRequest.of(0, timelineStore.capacity()));
+    }
+}
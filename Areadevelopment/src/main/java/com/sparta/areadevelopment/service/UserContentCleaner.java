@@ -0,0 +1,177 @@
+package com.sparta.areadevelopment.service;
+
+import com.sparta.areadevelopment.entity.User;
+import com.sparta.areadevelopment.enums.StatusEnum;
+import com.sparta.areadevelopment.event.BoardDeletedEvent;
+import com.sparta.areadevelopment.event.UserSignedOutEvent;
+import com.sparta.areadevelopment.repository.BoardRepository;
+import com.sparta.areadevelopment.repository.CommentRepository;
+import com.sparta.areadevelopment.repository.UserRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.BiFunction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 회원탈퇴한 사용자의 게시글/댓글을 논리삭제하는 클래스
+ * <p>
+ * 엔티티를 불러오지 않고 UPDATE 문으로 삭제합니다. 게시글/댓글이 async-threshold 개 이하면 탈퇴 트랜잭션 안에서 UPDATE 한 번씩으로
+ * 삭제하고, 그보다 많으면 탈퇴는 바로 끝내고 커밋 이후 별도 스레드에서 chunk-size 개씩 나눠 각각의 트랜잭션으로 삭제합니다. 한 트랜잭션이
+ * 잡는 행 잠금과 시간이 chunk-size 로 제한되며, 삭제가 끝나기 전까지는 탈퇴한 사용자의 게시글이 잠시 조회될 수 있습니다.
+ * <p>
+ * 커밋 이후 삭제는 메모리의 이벤트로 시작하므로, 삭제 중 서버가 종료되거나 작업이 거절되면 남은 게시글/댓글을 기억하는 곳이 없습니다. 탈퇴
+ * 상태(users.status, deleted_at)가 곧 삭제해야 한다는 기록이므로, resume 주기마다 탈퇴한 지 resume-grace-seconds 가 지났는데 게시글이나
+ * 댓글이 남아있는 사용자를 찾아 이어서 삭제합니다. 탈퇴 직후 진행중인 삭제와 겹치지 않도록 grace 동안은 건너뜁니다. 스케줄러 스레드를 오래
+ * 잡지 않도록 한 번에 resume-max-chunks 개의 chunk 까지만 삭제하고, 남은 것은 다음 주기에 이어서 삭제합니다.
+ */
+@Slf4j
+@Component
+public class UserContentCleaner {
+
+    // resume 주기마다 이어서 삭제할 최대 사용자 수
+    private static final int RESUME_BATCH_SIZE = 100;
+
+    private final BoardRepository boardRepository;
+    private final CommentRepository commentRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long asyncThreshold;
+    private final int chunkSize;
+    private final Duration resumeGrace;
+    private final int resumeMaxChunks;
+
+    public UserContentCleaner(BoardRepository boardRepository,
+            CommentRepository commentRepository, UserRepository userRepository,
+            TransactionTemplate transactionTemplate, ApplicationEventPublisher eventPublisher,
+            @Value("${user.sign-out.async-threshold:5000}") long asyncThreshold,
+            @Value("${user.sign-out.chunk-size:1000}") int chunkSize,
+            @Value("${user.sign-out.resume-grace-seconds:600}") long resumeGraceSeconds,
+            @Value("${user.sign-out.resume-max-chunks:20}") int resumeMaxChunks) {
+        this.boardRepository = boardRepository;
+        this.commentRepository = commentRepository;
+        this.userRepository = userRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.asyncThreshold = asyncThreshold;
+        this.chunkSize = chunkSize;
+        this.resumeGrace = Duration.ofSeconds(resumeGraceSeconds);
+        this.resumeMaxChunks = resumeMaxChunks;
+    }
+
+    /**
+     * 사용자의 게시글/댓글을 삭제합니다. 탈퇴 트랜잭션 안에서 호출합니다.
+     *
+     * @param userId    탈퇴한 사용자 고유번호
+     * @param deletedAt 삭제시간
+     * @return 바로 삭제했으면 true, 커밋 이후 나눠서 삭제하면 false
+     */
+    public boolean deleteContents(Long userId, LocalDateTime deletedAt) {
+        long contents = boardRepository.countByUserIdAndDeletedAtIsNull(userId)
+                + commentRepository.countByUserIdAndDeletedAtIsNull(userId);
+        if (contents > asyncThreshold) {
+            eventPublisher.publishEvent(new UserSignedOutEvent(userId, deletedAt));
+            return false;
+        }
+
+        List<Long> boardIds = boardRepository.findActiveIdsByUserId(userId, Pageable.unpaged());
+        boardRepository.decrementCommentCountByUserId(userId);
+        boardRepository.softDeleteByUserId(userId, deletedAt);
+        commentRepository.softDeleteByUserId(userId, deletedAt);
+        eventPublisher.publishEvent(new BoardDeletedEvent(boardIds));
+        return true;
+    }
+
+    /**
+     * 탈퇴가 커밋된 이후 게시글/댓글을 나눠서 삭제합니다.
+     */
+    @Async
+    @TransactionalEventListener
+    public void onUserSignedOut(UserSignedOutEvent event) {
+        deleteInChunks(event.getUserId(), event.getDeletedAt());
+    }
+
+    /**
+     * 커밋 이후 삭제가 끝나지 않은 탈퇴 사용자의 게시글/댓글을 resume-max-chunks 개의 chunk 까지 이어서 삭제합니다.
+     */
+    @Scheduled(fixedDelayString = "${user.sign-out.resume-interval-ms:600000}",
+            initialDelayString = "${user.sign-out.resume-interval-ms:600000}")
+    public void resumePending() {
+        try {
+            List<User> users = userRepository.findSignedOutWithContents(StatusEnum.DELETED,
+                    LocalDateTime.now().minus(resumeGrace), PageRequest.of(0, RESUME_BATCH_SIZE));
+            int[] chunkBudget = {resumeMaxChunks};
+            for (User user : users) {
+                if (chunkBudget[0] == 0) {
+                    break;
+                }
+                log.warn("끝나지 않은 탈퇴 사용자 컨텐츠 삭제를 이어서 합니다. userId={}", user.getId());
+                deleteInChunks(user.getId(), user.getDeletedAt(), chunkBudget);
+            }
+        } catch (DataAccessException e) {
+            log.warn("탈퇴 사용자 컨텐츠 삭제 실패, 다음 주기에 다시 시도합니다.", e);
+        }
+    }
+
+    /**
+     * 게시글/댓글을 chunk-size 개씩 각각의 트랜잭션으로 삭제합니다. 중간에 실패해도 삭제된 chunk 는 유지되며 다시 호출하면(resumePending)
+     * 남은 것만 삭제합니다.
+     *
+     * @param userId    탈퇴한 사용자 고유번호
+     * @param deletedAt 삭제시간
+     */
+    public void deleteInChunks(Long userId, LocalDateTime deletedAt) {
+        deleteInChunks(userId, deletedAt, new int[]{Integer.MAX_VALUE});
+    }
+
+    // chunkBudget[0] 개의 chunk 까지만 삭제하고, 삭제한 chunk 수만큼 줄입니다.
+    private void deleteInChunks(Long userId, LocalDateTime deletedAt, int[] chunkBudget) {
+        long boards = deleteInChunks(userId, deletedAt, boardRepository::findActiveIdsByUserId,
+                boardRepository::softDeleteByIds, true, chunkBudget);
+        long comments = deleteInChunks(userId, deletedAt,
+                commentRepository::findActiveIdsByUserId, (ids, now) -> {
+                    boardRepository.decrementCommentCountByCommentIds(ids);
+                    return commentRepository.softDeleteByIds(ids, now);
+                }, false, chunkBudget);
+        log.info("탈퇴 사용자 컨텐츠 삭제 userId={}, boards={}, comments={}", userId, boards,
+                comments);
+    }
+
+    private long deleteInChunks(Long userId, LocalDateTime deletedAt,
+            BiFunction<Long, Pageable, List<Long>> findIds,
+            BiFunction<Collection<Long>, LocalDateTime, Integer> softDelete,
+            boolean publishBoardDeleted, int[] chunkBudget) {
+        Pageable chunk = PageRequest.of(0, chunkSize);
+        long deleted = 0;
+        while (chunkBudget[0] > 0) {
+            chunkBudget[0]--;
+            List<Long> ids = transactionTemplate.execute(status -> {
+                List<Long> chunkIds = findIds.apply(userId, chunk);
+                if (!chunkIds.isEmpty()) {
+                    softDelete.apply(chunkIds, deletedAt);
+                }
+                return chunkIds;
+            });
+            if (publishBoardDeleted && !ids.isEmpty()) {
+                eventPublisher.publishEvent(new BoardDeletedEvent(ids));
+            }
+            deleted += ids.size();
+            if (ids.size() < chunkSize) {
+                break;
+            }
+        }
+        return deleted;
+    }
+}
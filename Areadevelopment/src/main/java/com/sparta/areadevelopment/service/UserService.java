@@ -5,15 +5,13 @@ import com.sparta.areadevelopment.dto.SignOutRequestDto;
 import com.sparta.areadevelopment.dto.SignupRequestDto;
 import com.sparta.areadevelopment.dto.UpdateUserDto;
 import com.sparta.areadevelopment.dto.UserInfoDto;
-import com.sparta.areadevelopment.entity.Board;
-import com.sparta.areadevelopment.entity.Comment;
 import com.sparta.areadevelopment.entity.User;
-import com.sparta.areadevelopment.repository.BoardRepository;
-import com.sparta.areadevelopment.repository.CommentRepository;
+import com.sparta.areadevelopment.event.UserChangedEvent;
 import com.sparta.areadevelopment.repository.UserRepository;
-import java.util.List;
+import java.time.LocalDateTime;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -24,9 +22,9 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final BoardRepository boardRepository;
-    private final CommentRepository commentRepository;
+    private final UserContentCleaner userContentCleaner;
     private final BCryptPasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Long signUp(SignupRequestDto requestDto) {
         User user = new User(
@@ -56,6 +54,7 @@ public class UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("해당하는 유저가 없습니다."));
         user.updateInfo(requestDto);
+        eventPublisher.publishEvent(new UserChangedEvent(user.getUsername()));
     }
 
     public void updatePassword(Long userId, PasswordChangeRequestDto requestDto,
@@ -64,6 +63,7 @@ public class UserService {
         checkPassword(requestDto.getOldPassword(), user.getPassword()); // 저장되어 있는 비밀번호와 맞는지 검증
         user.updatePassword(passwordEncoder.encode(requestDto.getNewPassword()));
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(user.getUsername()));
     }
 
     // 이 부분은 토큰이 필요한 부분이다.
@@ -73,23 +73,15 @@ public class UserService {
         compareUserIds(userId, tokenUserId);
         checkPassword(requestDto.getPassword(), encodingPassword);
 
-        List<Board> boards = boardRepository.findByUserIdAndDeletedAtIsNull(userId);
-
-        for (Board board : boards) {
-            board.softDelete();
-        }
-
-        List<Comment> comments = commentRepository.findByUserIdAndDeletedAtIsNull(userId);
-
-        for (Comment comment : comments) {
-            comment.softDelete();
-        }
+        // 게시글/댓글은 UPDATE 문으로 삭제, 많으면 커밋 이후 나눠서 삭제합니다.
+        userContentCleaner.deleteContents(userId, LocalDateTime.now());
 
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("해당하는 유저 정보가 없습니다."));
 
         user.softDelete();
         user.setExpired(true); // 회원 탈퇴시 로그아웃처리도 동시에 처리
+        eventPublisher.publishEvent(new UserChangedEvent(user.getUsername()));
     }
 
     private void checkPassword(String rawPassword, String encryptedPassword) {
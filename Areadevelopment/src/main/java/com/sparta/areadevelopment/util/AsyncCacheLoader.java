@@ -0,0 +1,61 @@
+package com.sparta.areadevelopment.util;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Caffeine 캐시에 없는 값을 호출한 스레드에서 직접 만들어 넣는 도우미
+ * <p>
+ * {@code Cache.get(key, loader)} 는 ConcurrentHashMap 의 synchronized 잠금을 잡은 채로 loader 를 실행하므로, loader 가 DB 를
+ * 조회하면 그동안 가상 스레드가 캐리어 스레드에 고정(pinning)됩니다. 여기서는 잠금 안에서는 비어있는 future 만 넣고, 값은 잠금 밖에서
+ * 만듭니다. 같은 키를 동시에 요청한 스레드는 먼저 넣은 future 가 완료될 때까지 기다리므로 loader 는 키당 한 번만 실행됩니다.
+ * <p>
+ * loader 가 null 을 반환하거나 예외가 발생하면 캐시에 남지 않습니다.
+ */
+public class AsyncCacheLoader {
+
+    private AsyncCacheLoader() {
+    }
+
+    /**
+     * 캐시된 값을 반환하고, 없으면 loader 로 만들어 캐시합니다.
+     *
+     * @param cache  캐시
+     * @param key    키
+     * @param loader 값을 만드는 함수 (호출한 스레드에서 실행됩니다.)
+     * @return 캐시된 값 또는 loader 가 만든 값
+     */
+    public static <K, V> V get(AsyncCache<K, V> cache, K key,
+            Function<? super K, ? extends V> loader) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> future = cache.get(key, (k, executor) -> created);
+        if (future != created) {
+            return join(future);
+        }
+        try {
+            V value = loader.apply(key);
+            created.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            created.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    // 다른 스레드의 loader 에서 발생한 예외는 감싸지 않고 그대로 던집니다.
+    private static <V> V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
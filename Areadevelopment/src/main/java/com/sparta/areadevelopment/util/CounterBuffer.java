@@ -0,0 +1,91 @@
+package com.sparta.areadevelopment.util;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 고유번호별 증감량을 메모리에 모아두는 카운터 버퍼
+ * <p>
+ * 고유번호마다 LongAdder 를 두어 동시에 많은 요청이 같은 항목을 증가시켜도 경합이 적고, 주기적으로 {@link #drain()} 하여 모인 증감량을 한 번에
+ * DB 에 반영합니다.
+ * <p>
+ * 한 drain 주기 동안 증감이 없던 카운터는 맵에서 지우므로, 메모리 사용량과 drain 이 훑는 항목 수는 최근 주기에 증감된 고유번호 수만큼입니다.
+ * 지우는 순간 다른 스레드가 지워진 카운터에 증감량을 기록할 수 있으므로, drain 은 지운 뒤에 남은 값을 함께 꺼내고 add 는 기록한 카운터가
+ * 지워졌으면 남은 값을 새 카운터로 옮깁니다. 두 쪽 모두 셀 단위로 값을 가져가며 0 으로 바꾸므로(sumThenReset) 증감량은 정확히 한 번만
+ * 반영됩니다.
+ */
+public class CounterBuffer {
+
+    private final ConcurrentHashMap<Long, LongAdder> counters = new ConcurrentHashMap<>();
+
+    /**
+     * 해당 고유번호의 증감량을 기록합니다.
+     *
+     * @param id    고유번호
+     * @param delta 증감량
+     */
+    public void add(Long id, long delta) {
+        LongAdder counter = counters.computeIfAbsent(id, key -> new LongAdder());
+        counter.add(delta);
+        if (counters.get(id) != counter) {
+            long remainder = counter.sumThenReset();
+            if (remainder != 0) {
+                add(id, remainder);
+            }
+        }
+    }
+
+    /**
+     * 아직 반영되지 않은 증감량을 조회합니다.
+     *
+     * @param id 고유번호
+     * @return 반영 대기중인 증감량
+     */
+    public long get(Long id) {
+        LongAdder counter = counters.get(id);
+        return counter == null ? 0L : counter.sum();
+    }
+
+    /**
+     * 모인 증감량을 꺼내고 카운터에서 그만큼 차감합니다. 꺼내는 동안 들어온 증감량은 다음 drain 에 포함됩니다. 꺼낼 증감량이 없는 카운터는
+     * 지웁니다. 한 번에 한 스레드만 호출해야 합니다.
+     *
+     * @return 고유번호 오름차순의 증감량 (0 인 항목 제외)
+     */
+    public Map<Long, Long> drain() {
+        Map<Long, Long> deltas = new TreeMap<>();
+        for (Map.Entry<Long, LongAdder> entry : counters.entrySet()) {
+            Long id = entry.getKey();
+            LongAdder counter = entry.getValue();
+            long delta = counter.sum();
+            if (delta != 0) {
+                counter.add(-delta);
+                deltas.merge(id, delta, Long::sum);
+            } else if (counters.remove(id, counter)) {
+                // 지우기 직전에 기록된 증감량은 이번에 함께 꺼냅니다.
+                long remainder = counter.sumThenReset();
+                if (remainder != 0) {
+                    deltas.merge(id, remainder, Long::sum);
+                }
+            }
+        }
+        deltas.values().removeIf(delta -> delta == 0);
+        return deltas;
+    }
+
+    // 보관중인 카운터 수
+    int size() {
+        return counters.size();
+    }
+
+    /**
+     * DB 반영에 실패한 증감량을 다시 되돌려 놓습니다.
+     *
+     * @param deltas drain 으로 꺼냈던 증감량
+     */
+    public void restore(Map<Long, Long> deltas) {
+        deltas.forEach(this::add);
+    }
+}
@@ -0,0 +1,88 @@
+package com.sparta.areadevelopment.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+/**
+ * 커서 페이지네이션에 사용하는 커서 인코딩/디코딩 클래스
+ * <p>
+ * 커서는 "정렬키,고유번호" 문자열을 URL-safe Base64 로 인코딩한 값이며 클라이언트에게는 불투명한 문자열로 전달됩니다.
+ */
+public class CursorUtil {
+
+    private static final String DELIMITER = ",";
+
+    private CursorUtil() {
+    }
+
+    /**
+     * 마지막으로 조회한 항목의 정렬키와 고유번호로 다음 페이지 커서를 만듭니다.
+     *
+     * @param sortKey 정렬 기준 값 (생성일, 좋아요 수 등)
+     * @param id      마지막 항목의 고유번호
+     * @return 인코딩된 커서
+     */
+    public static String encode(Object sortKey, Long id) {
+        String raw = sortKey + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 생성일 기준 커서를 만듭니다. DB 컬럼(datetime(6))과 비교할 수 있도록 마이크로초 단위로 자릅니다.
+     *
+     * @param createdAt 마지막 항목의 생성일
+     * @param id        마지막 항목의 고유번호
+     * @return 인코딩된 커서
+     */
+    public static String encode(LocalDateTime createdAt, Long id) {
+        return encode((Object) createdAt.truncatedTo(ChronoUnit.MICROS), id);
+    }
+
+    /**
+     * 커서를 [정렬키, 고유번호] 로 분리합니다.
+     *
+     * @param cursor 인코딩된 커서
+     * @return 0번 인덱스는 정렬키, 1번 인덱스는 고유번호
+     */
+    public static String[] decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor),
+                    StandardCharsets.UTF_8);
+            String[] keys = raw.split(DELIMITER, 2);
+            if (keys.length != 2) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return keys;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    public static LocalDateTime toDateTime(String key) {
+        try {
+            return LocalDateTime.parse(key);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    public static Long toLong(String key) {
+        try {
+            return Long.parseLong(key);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    public static Double toDouble(String key) {
+        try {
+            return Double.parseDouble(key);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
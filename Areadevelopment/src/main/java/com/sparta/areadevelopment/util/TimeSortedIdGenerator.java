@@ -0,0 +1,110 @@
+package com.sparta.areadevelopment.util;
+
+import java.time.Instant;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 애플리케이션에서 만드는 시간순 고유번호 생성기
+ * <p>
+ * DB 의 AUTO_INCREMENT(IDENTITY) 는 INSERT 를 실행해야 고유번호를 알 수 있어 Hibernate 가 INSERT 를 모아서(batch) 보내지 못합니다.
+ * 고유번호를 미리 만들어 두면 flush 시점에 여러 INSERT 를 한 번에 보낼 수 있습니다.
+ * <p>
+ * 고유번호는 53 비트로 JavaScript Number 에서도 정확히 표현됩니다. [시간(ms, 41 비트) | 노드(4 비트) | 순번(8 비트)] 순서라 생성 순서대로
+ * 커지며, 노드 하나당 1ms 에 256 개까지 만들고 넘치면 기다리지 않고 다음 ms 를 앞당겨 사용합니다. 서버를 여러 대 띄울때는 노드
+ * 번호(id.node-id)를 서로 다르게 설정해야 합니다. 시계가 뒤로 가면 마지막으로 사용한 시간부터 이어서 사용하므로 고유번호는 줄어들지 않고,
+ * 시계가 따라올 때까지 락을 잡은 채로 기다리지도 않습니다. 시계가 1초보다 많이 뒤로 가면 경고를 남깁니다.
+ * <p>
+ * 모든 INSERT 가 거쳐가므로 락은 순번을 계산하는 동안만 잡으며, synchronized 대신 ReentrantLock 을 사용해 가상 스레드가 캐리어 스레드에
+ * 고정되지 않게 합니다.
+ */
+@Slf4j
+public class TimeSortedIdGenerator {
+
+    // 2024-01-01T00:00:00Z, 이 시점부터 약 69년간 사용할 수 있습니다.
+    private static final long EPOCH = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+
+    private static final int NODE_BITS = 4;
+    private static final int SEQUENCE_BITS = 8;
+    private static final long MAX_NODE = (1L << NODE_BITS) - 1;
+    private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+
+    // 시계가 이 값(ms)보다 많이 뒤로 가면 경고를 남깁니다.
+    private static final long CLOCK_DRIFT_WARN_MS = 1000L;
+
+    private static final ReentrantLock LOCK = new ReentrantLock();
+
+    private static volatile long nodeId = 0L;
+
+    private static long lastTimestamp = -1L;
+    private static long sequence = 0L;
+    // 시계가 마지막으로 사용한 시간보다 CLOCK_DRIFT_WARN_MS 넘게 뒤에 있는지 여부, 뒤로 간 순간에 한 번만 경고합니다.
+    private static boolean clockBehind;
+
+    private TimeSortedIdGenerator() {
+    }
+
+    /**
+     * 이 서버의 노드 번호를 설정합니다.
+     *
+     * @param node 0 ~ 15
+     */
+    public static void setNodeId(long node) {
+        if (node < 0 || node > MAX_NODE) {
+            throw new IllegalArgumentException("노드 번호는 0 ~ " + MAX_NODE + " 사이여야 합니다.");
+        }
+        nodeId = node;
+    }
+
+    /**
+     * 새 고유번호를 만듭니다.
+     *
+     * @return 이전에 만든 고유번호보다 큰 고유번호
+     */
+    public static long nextId() {
+        return nextId(System.currentTimeMillis());
+    }
+
+    // now : 현재 시간(epoch ms)
+    static long nextId(long now) {
+        LOCK.lock();
+        try {
+            long current = now - EPOCH;
+            warnIfClockBehind(current);
+            long timestamp = Math.max(current, lastTimestamp);
+            if (timestamp == lastTimestamp) {
+                sequence = (sequence + 1) & MAX_SEQUENCE;
+                if (sequence == 0) {
+                    // 순번이 넘치면 다음 ms 를 앞당겨 사용합니다. 시계가 따라오면 다시 현재 시간을 사용합니다.
+                    timestamp++;
+                }
+            } else {
+                sequence = 0L;
+            }
+            lastTimestamp = timestamp;
+            return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS)
+                    | sequence;
+        } finally {
+            LOCK.unlock();
+        }
+    }
+
+    /**
+     * 고유번호가 만들어진 시간을 구합니다.
+     *
+     * @param id 고유번호
+     * @return 생성 시간
+     */
+    public static Instant toInstant(long id) {
+        return Instant.ofEpochMilli((id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH);
+    }
+
+    private static void warnIfClockBehind(long current) {
+        boolean behind = lastTimestamp - current > CLOCK_DRIFT_WARN_MS;
+        if (behind && !clockBehind) {
+            log.warn("시계가 마지막으로 사용한 시간보다 {}ms 뒤로 갔습니다. 시계가 따라올 때까지 마지막 시간부터 이어서 고유번호를 만듭니다.",
+                    lastTimestamp - current);
+        }
+        clockBehind = behind;
+    }
+}
@@ -0,0 +1,116 @@
+package com.sparta.areadevelopment.aop;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.areadevelopment.controller.BoardController;
+import com.sparta.areadevelopment.controller.CommentController;
+import com.sparta.areadevelopment.dto.CursorPageResponseDto;
+import com.sparta.areadevelopment.service.BoardService;
+import com.sparta.areadevelopment.service.CommentService;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+class LoggingAspectTest {
+
+    private static final String HANDLER = "CommentController.getComments";
+    private static final String STREAMING_HANDLER = "BoardController.findAllBoard";
+
+    private SimpleMeterRegistry meterRegistry;
+    private CommentService commentService;
+    private CommentController controller;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        commentService = mock(CommentService.class);
+        AspectJProxyFactory factory = new AspectJProxyFactory(new CommentController(commentService));
+        factory.setProxyTargetClass(true);
+        // 로그는 남기지 않도록 샘플 비율 0, 느린 요청 기준을 크게 설정합니다.
+        factory.addAspect(new LoggingAspect(meterRegistry, 0.0, 60_000));
+        controller = factory.getProxy();
+    }
+
+    @Test
+    @DisplayName("measure - 핸들러별 처리시간 기록 Test")
+    void measure_Timer_Test() {
+        // Given
+        given(commentService.getComments(anyLong(), any(), anyInt()))
+                .willReturn(new CursorPageResponseDto<>(List.of(), null, false));
+
+        // When
+        controller.getComments(1L, null, 20);
+        controller.getComments(1L, null, 20);
+
+        // Then
+        Timer timer = meterRegistry.get("http.handler").tag("handler", HANDLER).timer();
+        assertThat(timer.count()).isEqualTo(2L);
+        assertThat(meterRegistry.get("http.handler.active").tag("handler", HANDLER).gauge()
+                .value()).isZero();
+    }
+
+    @Test
+    @DisplayName("measure - 예외 수 기록 후 예외를 그대로 던짐 Test")
+    void measure_Error_Test() {
+        // Given
+        given(commentService.getComments(anyLong(), any(), anyInt()))
+                .willThrow(new IllegalArgumentException("잘못된 커서입니다."));
+
+        // When
+        assertThrows(IllegalArgumentException.class, () -> controller.getComments(1L, "x", 20));
+
+        // Then
+        assertThat(meterRegistry.get("http.handler.errors").tag("handler", HANDLER)
+                .tag("exception", "IllegalArgumentException").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("http.handler").tag("handler", HANDLER).timer().count())
+                .isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("measure - StreamingResponseBody 는 본문을 다 쓸때까지 처리시간과 예외 기록 Test")
+    void measure_Streaming_Test() throws IOException {
+        // Given
+        BoardService boardService = mock(BoardService.class);
+        AspectJProxyFactory factory = new AspectJProxyFactory(
+                new BoardController(boardService, new ObjectMapper()));
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new LoggingAspect(meterRegistry, 0.0, 60_000));
+        BoardController boardController = factory.getProxy();
+        willThrow(new IllegalStateException("연결이 끊겼습니다.")).given(boardService)
+                .streamAllBoard(any());
+
+        // When
+        ResponseEntity<StreamingResponseBody> response = boardController.findAllBoard(null);
+        Timer timer = meterRegistry.get("http.handler").tag("handler", STREAMING_HANDLER).timer();
+        long countBeforeWrite = timer.count();
+        double activeBeforeWrite = meterRegistry.get("http.handler.active")
+                .tag("handler", STREAMING_HANDLER).gauge().value();
+        assertThrows(IllegalStateException.class,
+                () -> response.getBody().writeTo(new ByteArrayOutputStream()));
+
+        // Then
+        assertThat(countBeforeWrite).isZero();
+        assertThat(activeBeforeWrite).isEqualTo(1.0);
+        assertThat(timer.count()).isEqualTo(1L);
+        assertThat(meterRegistry.get("http.handler.active").tag("handler", STREAMING_HANDLER)
+                .gauge().value()).isZero();
+        assertThat(meterRegistry.get("http.handler.errors").tag("handler", STREAMING_HANDLER)
+                .tag("exception", "IllegalStateException").counter().count()).isEqualTo(1.0);
+    }
+}
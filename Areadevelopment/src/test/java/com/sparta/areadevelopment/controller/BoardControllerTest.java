@@ -1,12 +1,15 @@
 package com.sparta.areadevelopment.controller;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -14,20 +17,24 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sparta.areadevelopment.config.SecurityConfig;
 import com.sparta.areadevelopment.dto.BoardRequestDto;
 import com.sparta.areadevelopment.dto.BoardResponseDto;
+import com.sparta.areadevelopment.dto.CursorPageResponseDto;
 import com.sparta.areadevelopment.entity.CustomUserDetails;
 import com.sparta.areadevelopment.entity.User;
+import com.sparta.areadevelopment.enums.ContentModeEnum;
 import com.sparta.areadevelopment.filter.MockSpringSecurityFilter;
 import com.sparta.areadevelopment.service.BoardService;
 import java.security.Principal;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -35,6 +42,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.stubbing.Answer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
@@ -43,6 +51,7 @@ import org.springframework.context.annotation.FilterType;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
@@ -92,6 +101,7 @@ class BoardControllerTest {
                 "Test Content",
                 0L,
                 0L,
+                0L,
                 now,
                 now
         );
@@ -179,13 +189,17 @@ class BoardControllerTest {
     @DisplayName("findAllBoard - Success Test")
     void findAllBoard_Success_Test() throws Exception {
         // Given
-        List<BoardResponseDto> responseDtoList = List.of(responseDto);
-        when(boardService.findAllBoard()).thenReturn(responseDtoList);
+        willAnswer(streamBoards(responseDto)).given(boardService).streamAllBoard(any());
 
-        // When - Then
-        mvc.perform(get("/api/boards")
+        // When
+        MvcResult result = mvc.perform(get("/api/boards")
                         .accept(MediaType.APPLICATION_JSON)
                 )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$[0].id").value(1L))
@@ -199,7 +213,34 @@ class BoardControllerTest {
                         .value(now.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME)))
                 .andDo(print());
 
-        verify(boardService).findAllBoard();
+        verify(boardService).streamAllBoard(any());
+    }
+
+    // Success
+    // GET http://localhost:8080/api/boards (Accept: application/x-ndjson)
+    @Test
+    @DisplayName("findAllBoard - NDJSON Success Test")
+    void findAllBoard_Ndjson_Success_Test() throws Exception {
+        // Given
+        willAnswer(streamBoards(responseDto, responseDto)).given(boardService)
+                .streamAllBoard(any());
+
+        // When
+        MvcResult result = mvc.perform(get("/api/boards")
+                        .accept(MediaType.APPLICATION_NDJSON)
+                )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        String body = mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines[1]).get("title").asText()).isEqualTo("Test Title");
     }
 
     // No Content
@@ -208,17 +249,33 @@ class BoardControllerTest {
     @DisplayName("findAllBoard - No Content Test")
     void findAllBoard_No_Content_Test() throws Exception {
         // Given
-        when(boardService.findAllBoard()).thenReturn(List.of());
+        willAnswer(streamBoards()).given(boardService).streamAllBoard(any());
 
-        // When - Then
-        mvc.perform(get("/api/boards")
+        // When
+        MvcResult result = mvc.perform(get("/api/boards")
                         .accept(MediaType.APPLICATION_JSON)
                 )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk())
-                .andExpect(content().string(instanceOf(String.class)))
+                .andExpect(content().string("[]"))
                 .andDo(print());
 
-        verify(boardService).findAllBoard();
+        verify(boardService).streamAllBoard(any());
+    }
+
+    // streamAllBoard 의 consumer 에 게시글을 넘겨주는 Answer
+    private Answer<Void> streamBoards(BoardResponseDto... boards) {
+        return invocation -> {
+            Consumer<BoardResponseDto> consumer = invocation.getArgument(0);
+            for (BoardResponseDto board : boards) {
+                consumer.accept(board);
+            }
+            return null;
+        };
     }
 
     // Success
@@ -268,6 +325,33 @@ class BoardControllerTest {
         verify(boardService).findAllRecentlyPagination(0);
     }
 
+    // Success
+    // Get http://localhost:8080/api/boards/feed/recently?cursor={cursor}
+    @Test
+    @DisplayName("findRecentlyFeed - Success Test")
+    void findRecentlyFeed_Success_Test() throws Exception {
+        // Given
+        CursorPageResponseDto<BoardResponseDto> page = new CursorPageResponseDto<>(
+                List.of(responseDto), "nextCursor", true);
+        when(boardService.findRecentlyFeed("cursor", ContentModeEnum.SUMMARY)).thenReturn(page);
+
+        // When - Then
+        mvc.perform(get("/api/boards/feed/recently")
+                        .param("cursor", "cursor")
+                        .param("content", "SUMMARY")
+                        .accept(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.content[0].id").value(1L))
+                .andExpect(jsonPath("$.content[0].title").value("Test Title"))
+                .andExpect(jsonPath("$.nextCursor").value("nextCursor"))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andDo(print());
+
+        verify(boardService).findRecentlyFeed("cursor", ContentModeEnum.SUMMARY);
+    }
+
     // Success
     // Get http://localhost:8080/api/boards/like/{page}
     @Test
@@ -388,6 +472,7 @@ class BoardControllerTest {
                 "Updated Content",
                 0L,
                 0L,
+                0L,
                 now,
                 now
         );
@@ -19,6 +19,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sparta.areadevelopment.config.SecurityConfig;
 import com.sparta.areadevelopment.dto.CommentRequestDto;
 import com.sparta.areadevelopment.dto.CommentResponseDto;
+import com.sparta.areadevelopment.dto.CursorPageResponseDto;
 import com.sparta.areadevelopment.entity.CustomUserDetails;
 import com.sparta.areadevelopment.entity.User;
 import com.sparta.areadevelopment.filter.MockSpringSecurityFilter;
@@ -166,11 +167,12 @@ class CommentControllerTest {
     // Success
     // Get http://localhost:8080/api/boards/{boardId}/comments
     @Test
-    @DisplayName("getAllComments - Success Test")
-    void getAllComments_Success_Test() throws Exception {
+    @DisplayName("getComments - Success Test")
+    void getComments_Success_Test() throws Exception {
         // Given
-        List<CommentResponseDto> responseDtoList = List.of(responseDto);
-        when(commentService.getAllComments(1L)).thenReturn(responseDtoList);
+        CursorPageResponseDto<CommentResponseDto> page = new CursorPageResponseDto<>(
+                List.of(responseDto), "nextCursor", true);
+        when(commentService.getComments(1L, null, 20)).thenReturn(page);
 
         // When - Then
         mvc.perform(get("/api/boards/1/comments")
@@ -178,36 +180,42 @@ class CommentControllerTest {
                 )
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$[0].id").value(1L))
-                .andExpect(jsonPath("$[0].boardId").value(1L))
-                .andExpect(jsonPath("$[0].content").value("Test Comment"))
-                .andExpect(jsonPath("$[0].likeCount").value(0L))
-                .andExpect(jsonPath("$[0].createdAt")
+                .andExpect(jsonPath("$.content[0].id").value(1L))
+                .andExpect(jsonPath("$.content[0].boardId").value(1L))
+                .andExpect(jsonPath("$.content[0].content").value("Test Comment"))
+                .andExpect(jsonPath("$.content[0].likeCount").value(0L))
+                .andExpect(jsonPath("$.content[0].createdAt")
                         .value(now.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME)))
-                .andExpect(jsonPath("$[0].modifiedAt")
+                .andExpect(jsonPath("$.content[0].modifiedAt")
                         .value(now.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME)))
+                .andExpect(jsonPath("$.nextCursor").value("nextCursor"))
+                .andExpect(jsonPath("$.hasNext").value(true))
                 .andDo(print());
 
-        verify(commentService).getAllComments(any(Long.class));
+        verify(commentService).getComments(1L, null, 20);
     }
 
-    // No Content
-    // Get http://localhost:8080/api/boards/{boardId}/comments
+    // Success
+    // Get http://localhost:8080/api/boards/{boardId}/comments?cursor=&size=
     @Test
-    @DisplayName("getAllComments - No Content Test")
-    void getAllComments_No_Content_Test() throws Exception {
+    @DisplayName("getComments - Cursor Test")
+    void getComments_Cursor_Test() throws Exception {
         // Given
-        when(commentService.getAllComments(1L)).thenReturn(List.of());
+        when(commentService.getComments(1L, "cursor", 50))
+                .thenReturn(new CursorPageResponseDto<>(List.of(), null, false));
 
         // When - Then
         mvc.perform(get("/api/boards/1/comments")
+                        .param("cursor", "cursor")
+                        .param("size", "50")
                         .accept(MediaType.APPLICATION_JSON)
                 )
                 .andExpect(status().isOk())
-                .andExpect(content().string(instanceOf(String.class)))
+                .andExpect(jsonPath("$.content").isEmpty())
+                .andExpect(jsonPath("$.hasNext").value(false))
                 .andDo(print());
 
-        verify(commentService).getAllComments(any(Long.class));
+        verify(commentService).getComments(1L, "cursor", 50);
     }
 
     // Success
@@ -29,6 +29,7 @@ public class BoardResponseDtoTest {
         when(board.getContent()).thenReturn("Test Content");
         when(board.getHits()).thenReturn(0L);
         when(board.getLikeCount()).thenReturn(0L);
+        when(board.getCommentCount()).thenReturn(0L);
         when(board.getCreatedAt()).thenReturn(LocalDateTime.now());
         when(board.getModifiedAt()).thenReturn(LocalDateTime.now());
     }
@@ -48,6 +49,7 @@ public class BoardResponseDtoTest {
         assertThat(responseDto.getContent()).isEqualTo("Test Content");
         assertThat(responseDto.getHits()).isEqualTo(0L);
         assertThat(responseDto.getLikeCount()).isEqualTo(0L);
+        assertThat(responseDto.getCommentCount()).isEqualTo(0L);
         assertThat(responseDto.getCreatedAt()).isBefore(LocalDateTime.now());
         assertThat(responseDto.getModifiedAt()).isBefore(LocalDateTime.now());
     }
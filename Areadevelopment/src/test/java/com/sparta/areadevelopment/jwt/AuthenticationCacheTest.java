@@ -0,0 +1,141 @@
+package com.sparta.areadevelopment.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sparta.areadevelopment.event.UserChangedEvent;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+class AuthenticationCacheTest {
+
+    private final AuthenticationCache authenticationCache = new AuthenticationCache(100);
+
+    private Authentication authentication(String username) {
+        return new UsernamePasswordAuthenticationToken(username, "", List.of());
+    }
+
+    private Date expiresIn(long millis) {
+        return new Date(System.currentTimeMillis() + millis);
+    }
+
+    @Test
+    @DisplayName("get - 캐시된 토큰 조회 Success Test")
+    void get_Success_Test() {
+        // Given
+        Authentication authentication = authentication("TestUser1234");
+        authenticationCache.put("token", authentication, expiresIn(60_000),
+                authenticationCache.generation());
+
+        // When - Then
+        assertThat(authenticationCache.get("token")).isSameAs(authentication);
+        assertThat(authenticationCache.get("other-token")).isNull();
+    }
+
+    @Test
+    @DisplayName("put - 만료된 토큰은 캐시되지 않음")
+    void put_Expired_Token_Test() {
+        // Given
+        authenticationCache.put("token", authentication("TestUser1234"), expiresIn(-1_000),
+                authenticationCache.generation());
+
+        // When - Then
+        assertThat(authenticationCache.get("token")).isNull();
+    }
+
+    @Test
+    @DisplayName("onUserChanged - 해당 유저의 토큰만 제거")
+    void onUserChanged_Evict_Test() {
+        // Given
+        authenticationCache.put("token1", authentication("TestUser1234"), expiresIn(60_000),
+                authenticationCache.generation());
+        authenticationCache.put("token2", authentication("TestUser1234"), expiresIn(60_000),
+                authenticationCache.generation());
+        authenticationCache.put("token3", authentication("OtherUser1234"), expiresIn(60_000),
+                authenticationCache.generation());
+
+        // When
+        authenticationCache.onUserChanged(new UserChangedEvent("TestUser1234"));
+
+        // Then
+        assertThat(authenticationCache.get("token1")).isNull();
+        assertThat(authenticationCache.get("token2")).isNull();
+        assertThat(authenticationCache.get("token3")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("put - 크기 제한으로 밀려난 토큰은 유저별 색인에서도 지워짐")
+    void evicted_Token_Unindexed_Test() {
+        // Given
+        AuthenticationCache smallCache = new AuthenticationCache(1);
+        smallCache.put("token1", authentication("TestUser1234"), expiresIn(60_000),
+                smallCache.generation());
+        smallCache.put("token2", authentication("OtherUser1234"), expiresIn(60_000),
+                smallCache.generation());
+
+        // When
+        smallCache.getCache().cleanUp();
+
+        // Then
+        assertThat(smallCache.getCache().estimatedSize()).isEqualTo(1L);
+        assertThat(smallCache.indexedUsers()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("put - 검증을 시작한 뒤 유저 정보가 바뀌었으면 캐시하지 않음")
+    void put_After_User_Changed_Test() {
+        // Given - 토큰을 검증하는 사이 로그아웃이 커밋된 경우
+        long generation = authenticationCache.generation();
+        authenticationCache.onUserChanged(new UserChangedEvent("TestUser1234"));
+
+        // When
+        authenticationCache.put("token", authentication("TestUser1234"), expiresIn(60_000),
+                generation);
+
+        // Then
+        assertThat(authenticationCache.get("token")).isNull();
+        assertThat(authenticationCache.indexedUsers()).isZero();
+    }
+
+    @Test
+    @DisplayName("put, onUserChanged - 동시에 실행되어도 바뀌기 전에 검증한 토큰은 남지 않음")
+    void put_Concurrent_User_Changed_Test() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int i = 0; i < 1000; i++) {
+                // Given - 검증을 시작한 뒤 유저 정보가 바뀜
+                String token = "token" + i;
+                long generation = authenticationCache.generation();
+                CyclicBarrier barrier = new CyclicBarrier(2);
+
+                // When - 캐시 저장과 유저 정보 변경이 어떤 순서로 섞여도
+                Future<?> put = executor.submit(() -> {
+                    barrier.await();
+                    authenticationCache.put(token, authentication("TestUser1234"),
+                            expiresIn(60_000), generation);
+                    return null;
+                });
+                Future<?> changed = executor.submit(() -> {
+                    barrier.await();
+                    authenticationCache.onUserChanged(new UserChangedEvent("TestUser1234"));
+                    return null;
+                });
+                put.get(10, TimeUnit.SECONDS);
+                changed.get(10, TimeUnit.SECONDS);
+
+                // Then
+                assertThat(authenticationCache.get(token)).isNull();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.sparta.areadevelopment.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sparta.areadevelopment.jwt.ParsedToken.Status;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+class TokenProviderTest {
+
+    private static final String SECRET_KEY = Base64.getEncoder().encodeToString(
+            "test-secret-key-test-secret-key-test-secret-key".getBytes(StandardCharsets.UTF_8));
+
+    private final TokenProvider tokenProvider = new TokenProvider(SECRET_KEY, null);
+
+    private String accessToken(String username) {
+        return tokenProvider.generateToken(
+                        new UsernamePasswordAuthenticationToken(username, "", List.of()))
+                .getAccessToken().substring(7);
+    }
+
+    @Test
+    @DisplayName("parse - 유효한 토큰 파싱 Success Test")
+    void parse_Success_Test() {
+        // Given
+        String token = accessToken("TestUser1234");
+
+        // When
+        ParsedToken parsedToken = tokenProvider.parse(token);
+
+        // Then
+        assertThat(parsedToken.isValid()).isTrue();
+        assertThat(parsedToken.getSubject()).isEqualTo("TestUser1234");
+        assertThat(parsedToken.getExpiration()).isInTheFuture();
+    }
+
+    @Test
+    @DisplayName("parse - 서명이 다른 토큰은 예외 없이 INVALID")
+    void parse_Invalid_Signature_Test() {
+        // Given
+        String otherKey = Base64.getEncoder().encodeToString(
+                "other-secret-key-other-secret-key-other-secret".getBytes(StandardCharsets.UTF_8));
+        String token = new TokenProvider(otherKey, null).generateToken(
+                        new UsernamePasswordAuthenticationToken("TestUser1234", "", List.of()))
+                .getAccessToken().substring(7);
+
+        // When
+        ParsedToken parsedToken = tokenProvider.parse(token);
+
+        // Then
+        assertThat(parsedToken.getStatus()).isEqualTo(Status.INVALID);
+        assertThat(parsedToken.getSubject()).isNull();
+    }
+
+    @Test
+    @DisplayName("parse - 형식이 잘못된 토큰은 예외 없이 INVALID")
+    void parse_Malformed_Test() {
+        // When - Then
+        assertThat(tokenProvider.parse("not-a-jwt").getStatus()).isEqualTo(Status.INVALID);
+        assertThat(tokenProvider.parse("").getStatus()).isEqualTo(Status.INVALID);
+    }
+}
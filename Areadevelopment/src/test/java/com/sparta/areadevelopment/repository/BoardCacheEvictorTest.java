@@ -0,0 +1,121 @@
+package com.sparta.areadevelopment.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sparta.areadevelopment.config.SecondLevelCacheConfig;
+import com.sparta.areadevelopment.dto.BoardRequestDto;
+import com.sparta.areadevelopment.entity.Board;
+import com.sparta.areadevelopment.entity.User;
+import com.sparta.areadevelopment.service.BoardHotRanking;
+import com.sparta.areadevelopment.service.BoardLikeRanking;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 게시글 2차 캐시 삭제 Test
+ * <p>
+ * 2차 캐시는 커밋 이후에 채워지므로 테스트 트랜잭션 없이 실행하고, 저장한 데이터는 테스트가 끝나면 지웁니다.
+ */
+@SpringBootTest
+class BoardCacheEvictorTest {
+
+    @Autowired
+    private BoardCacheEvictor boardCacheEvictor;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    // 주기적으로 게시글을 조회하는 순위 갱신이 캐시 통계에 끼어들지 않게 합니다.
+    @MockBean
+    private BoardHotRanking boardHotRanking;
+
+    @MockBean
+    private BoardLikeRanking boardLikeRanking;
+
+    private User writer;
+    private Board board;
+
+    @BeforeEach
+    void setUp() {
+        writer = userRepository.save(new User("evictUser1", "EvictUser", "aBcde123!56",
+                "evictUser1@email.com", "writer"));
+        board = boardRepository.save(
+                new Board(writer, new BoardRequestDto("Test Title", "Test Content")));
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM boards WHERE id = ?", board.getId());
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", writer.getId());
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    @DisplayName("evict - 커밋 전에 다른 세션이 읽은 수정 전 게시글은 캐시되지 않음 Test")
+    void evict_Blocks_Stale_Put_Test() {
+        // Given
+        CacheRegionStatistics statistics = entityManagerFactory.unwrap(SessionFactory.class)
+                .getStatistics().getDomainDataRegionStatistics(SecondLevelCacheConfig.BOARD_REGION);
+
+        // When - 수정 트랜잭션이 끝나기 전에 다른 스레드가 게시글을 읽습니다.
+        long putsBeforeCommit = transactionTemplate.execute(status -> {
+            jdbcTemplate.update("UPDATE boards SET comment_count = comment_count + 1 WHERE id = ?",
+                    board.getId());
+            boardCacheEvictor.evict(List.of(board.getId()));
+            long puts = statistics.getPutCount();
+            Board stale = join(CompletableFuture.supplyAsync(this::load));
+            assertThat(stale.getCommentCount()).isZero();
+            return statistics.getPutCount() - puts;
+        });
+
+        // Then
+        long putsAfterCommit = statistics.getPutCount();
+        assertThat(putsBeforeCommit).isZero();
+        assertThat(load().getCommentCount()).isEqualTo(1L);
+        assertThat(statistics.getPutCount()).isEqualTo(putsAfterCommit + 1);
+    }
+
+    private Board load() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            return entityManager.find(Board.class, board.getId());
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    private static Board join(CompletableFuture<Board> future) {
+        try {
+            return future.get(10, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
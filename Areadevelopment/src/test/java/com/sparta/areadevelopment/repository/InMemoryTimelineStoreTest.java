@@ -0,0 +1,82 @@
+package com.sparta.areadevelopment.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class InMemoryTimelineStoreTest {
+
+    private final InMemoryTimelineStore timelineStore = new InMemoryTimelineStore(5, 100);
+
+    @Test
+    @DisplayName("read - 처음 조회할 때만 loader 로 타임라인을 만듦")
+    void read_Loader_Once_Test() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        List<Long> first = timelineStore.read(1L, null, 10, userId -> {
+            loads.incrementAndGet();
+            return List.of(3L, 2L, 1L);
+        });
+        List<Long> second = timelineStore.read(1L, null, 10, userId -> List.of());
+
+        // Then
+        assertThat(first).containsExactly(3L, 2L, 1L);
+        assertThat(second).containsExactly(3L, 2L, 1L);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("append - 가득 차면 가장 오래된 게시글부터 밀려남")
+    void append_Overwrite_Oldest_Test() {
+        // Given
+        timelineStore.read(1L, null, 10, userId -> List.of(3L, 2L, 1L));
+
+        // When
+        timelineStore.append(1L, 4L);
+        timelineStore.append(1L, 5L);
+        timelineStore.append(1L, 6L);
+
+        // Then
+        assertThat(timelineStore.read(1L, null, 10, userId -> List.of()))
+                .containsExactly(6L, 5L, 4L, 3L, 2L);
+        assertThat(timelineStore.read(1L, 5L, 2, userId -> List.of()))
+                .containsExactly(4L, 3L);
+    }
+
+    @Test
+    @DisplayName("append - 순서가 뒤바뀌거나 중복된 게시글도 최신순으로 한 번만 보관")
+    void append_Out_Of_Order_Test() {
+        // Given
+        timelineStore.read(1L, null, 10, userId -> List.of(10L, 5L));
+
+        // When
+        timelineStore.append(1L, 7L);
+        timelineStore.append(1L, 10L);
+        timelineStore.append(1L, 12L);
+        timelineStore.append(1L, 11L);
+        timelineStore.append(1L, 1L);
+
+        // Then
+        assertThat(timelineStore.read(1L, null, 10, userId -> List.of()))
+                .containsExactly(12L, 11L, 10L, 7L, 5L);
+    }
+
+    @Test
+    @DisplayName("append - 타임라인이 없는 사용자는 무시하고, evict 하면 다시 만듦")
+    void append_Absent_And_Evict_Test() {
+        // When
+        timelineStore.append(2L, 1L);
+        List<Long> loaded = timelineStore.read(2L, null, 10, userId -> List.of(9L));
+        timelineStore.evict(2L);
+        List<Long> reloaded = timelineStore.read(2L, null, 10, userId -> List.of(8L));
+
+        // Then
+        assertThat(loaded).containsExactly(9L);
+        assertThat(reloaded).containsExactly(8L);
+    }
+}
@@ -0,0 +1,150 @@
+package com.sparta.areadevelopment.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sparta.areadevelopment.enums.VerificationResultEnum;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class InMemoryVerificationCodeStoreTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final InMemoryVerificationCodeStore codeStore =
+            new InMemoryVerificationCodeStore(300, 3, 1000, nanos::get);
+
+    @Test
+    @DisplayName("verify - 맞는 인증번호는 한 번만 인증됨")
+    void verify_Once_Test() {
+        // Given
+        codeStore.save("test@email.com", "hash1");
+
+        // When
+        VerificationResultEnum first = codeStore.verify("test@email.com", "hash1");
+        VerificationResultEnum second = codeStore.verify("test@email.com", "hash1");
+
+        // Then
+        assertThat(first).isEqualTo(VerificationResultEnum.VERIFIED);
+        assertThat(second).isEqualTo(VerificationResultEnum.EXPIRED);
+    }
+
+    @Test
+    @DisplayName("verify - 최대 시도 횟수만큼 틀리면 맞는 인증번호도 인증되지 않음")
+    void verify_Attempts_Exceeded_Test() {
+        // Given
+        codeStore.save("test@email.com", "hash1");
+
+        // When
+        VerificationResultEnum first = codeStore.verify("test@email.com", "wrong");
+        VerificationResultEnum second = codeStore.verify("test@email.com", "wrong");
+        VerificationResultEnum third = codeStore.verify("test@email.com", "wrong");
+
+        // Then
+        assertThat(first).isEqualTo(VerificationResultEnum.MISMATCH);
+        assertThat(second).isEqualTo(VerificationResultEnum.MISMATCH);
+        assertThat(third).isEqualTo(VerificationResultEnum.ATTEMPTS_EXCEEDED);
+        assertThat(codeStore.verify("test@email.com", "hash1"))
+                .isEqualTo(VerificationResultEnum.ATTEMPTS_EXCEEDED);
+    }
+
+    @Test
+    @DisplayName("verify - 유효 시간이 지나면 만료")
+    void verify_Expired_Test() {
+        // Given
+        codeStore.save("test@email.com", "hash1");
+
+        // When
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(301));
+
+        // Then
+        assertThat(codeStore.verify("test@email.com", "hash1"))
+                .isEqualTo(VerificationResultEnum.EXPIRED);
+    }
+
+    @Test
+    @DisplayName("verify - 틀려도 유효 시간은 늘어나지 않음")
+    void verify_Mismatch_Keeps_Expiry_Test() {
+        // Given
+        codeStore.save("test@email.com", "hash1");
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(200));
+        codeStore.verify("test@email.com", "wrong");
+
+        // When
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(101));
+
+        // Then
+        assertThat(codeStore.verify("test@email.com", "hash1"))
+                .isEqualTo(VerificationResultEnum.EXPIRED);
+    }
+
+    @Test
+    @DisplayName("save - 다시 보내면 새 인증번호만 유효하고 틀린 횟수는 초기화되지 않음")
+    void save_Renew_Keeps_Attempts_Test() {
+        // Given
+        codeStore.save("test@email.com", "hash1");
+        codeStore.verify("test@email.com", "wrong");
+        codeStore.verify("test@email.com", "wrong");
+
+        // When
+        boolean saved = codeStore.save("test@email.com", "hash2");
+
+        // Then
+        assertThat(saved).isTrue();
+        assertThat(codeStore.verify("test@email.com", "hash1"))
+                .isEqualTo(VerificationResultEnum.ATTEMPTS_EXCEEDED);
+        assertThat(codeStore.verify("test@email.com", "hash2"))
+                .isEqualTo(VerificationResultEnum.ATTEMPTS_EXCEEDED);
+    }
+
+    @Test
+    @DisplayName("save - 잠긴 이메일은 다시 보내도 잠겨있고, 유효 시간이 지나면 풀림")
+    void save_Locked_Test() {
+        // Given
+        codeStore.save("test@email.com", "hash1");
+        codeStore.verify("test@email.com", "wrong");
+        codeStore.verify("test@email.com", "wrong");
+        codeStore.verify("test@email.com", "wrong");
+
+        // When
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(200));
+        boolean lockedSave = codeStore.save("test@email.com", "hash2");
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(101));
+        boolean unlockedSave = codeStore.save("test@email.com", "hash3");
+
+        // Then
+        assertThat(lockedSave).isFalse();
+        assertThat(unlockedSave).isTrue();
+        assertThat(codeStore.verify("test@email.com", "hash3"))
+                .isEqualTo(VerificationResultEnum.VERIFIED);
+    }
+
+    @Test
+    @DisplayName("save, verify - 여러 이메일을 동시에 인증해도 서로 덮어쓰지 않음")
+    void concurrent_Verify_Test() throws Exception {
+        // Given
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<VerificationResultEnum>> results;
+
+        // When
+        results = IntStream.range(0, 1000)
+                .mapToObj(i -> executor.submit(() -> {
+                    codeStore.save("user" + i + "@email.com", "hash" + i);
+                    Thread.yield();
+                    return codeStore.verify("user" + i + "@email.com", "hash" + i);
+                }))
+                .toList();
+
+        // Then
+        for (Future<VerificationResultEnum> result : results) {
+            assertThat(result.get(10, TimeUnit.SECONDS))
+                    .isEqualTo(VerificationResultEnum.VERIFIED);
+        }
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,130 @@
+package com.sparta.areadevelopment.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sparta.areadevelopment.enums.VerificationResultEnum;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * verification_codes 테이블 인증번호 저장소 Test
+ */
+@SpringBootTest(properties = {
+        "verification.store=table",
+        "verification.max-attempts=2"
+})
+class TableVerificationCodeStoreTest {
+
+    @Autowired
+    private VerificationCodeStore codeStore;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM verification_codes");
+    }
+
+    @Test
+    @DisplayName("verify - table 저장소를 사용하고, 맞는 인증번호는 한 번만 인증됨")
+    void verify_Once_Test() {
+        // Given
+        codeStore.save("test@email.com", "hash1");
+
+        // When
+        VerificationResultEnum first = codeStore.verify("test@email.com", "hash1");
+        VerificationResultEnum second = codeStore.verify("test@email.com", "hash1");
+
+        // Then
+        assertThat(codeStore).isInstanceOf(TableVerificationCodeStore.class);
+        assertThat(first).isEqualTo(VerificationResultEnum.VERIFIED);
+        assertThat(second).isEqualTo(VerificationResultEnum.EXPIRED);
+    }
+
+    @Test
+    @DisplayName("save - 같은 이메일로 처음 보내는 요청이 동시에 저장해도 실패 없이 하나의 인증번호만 남음")
+    void save_Concurrent_First_Send_Test() throws Exception {
+        // Given
+        int threads = 8;
+        CyclicBarrier barrier = new CyclicBarrier(threads);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // When
+        List<Future<Boolean>> results = IntStream.range(0, threads)
+                .mapToObj(i -> executor.submit(() -> {
+                    barrier.await();
+                    return codeStore.save("test@email.com", "hash" + i);
+                }))
+                .toList();
+        List<Boolean> saved = new ArrayList<>();
+        for (Future<Boolean> result : results) {
+            saved.add(result.get(10, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(saved).containsOnly(true);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM verification_codes WHERE email = ?", Long.class,
+                "test@email.com")).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("save - 다시 보내도 틀린 횟수는 초기화되지 않고, 잠긴 이메일은 유효 시간이 지나야 풀림")
+    void save_Renew_Keeps_Attempts_Test() {
+        // Given
+        codeStore.save("test@email.com", "hash1");
+        VerificationResultEnum first = codeStore.verify("test@email.com", "wrong");
+
+        // When
+        boolean renewed = codeStore.save("test@email.com", "hash2");
+        VerificationResultEnum second = codeStore.verify("test@email.com", "wrong");
+        boolean lockedSave = codeStore.save("test@email.com", "hash3");
+
+        // Then
+        assertThat(first).isEqualTo(VerificationResultEnum.MISMATCH);
+        assertThat(renewed).isTrue();
+        assertThat(second).isEqualTo(VerificationResultEnum.ATTEMPTS_EXCEEDED);
+        assertThat(lockedSave).isFalse();
+        assertThat(codeStore.verify("test@email.com", "hash2"))
+                .isEqualTo(VerificationResultEnum.ATTEMPTS_EXCEEDED);
+
+        jdbcTemplate.update("UPDATE verification_codes SET expires_at = ?",
+                LocalDateTime.now().minusSeconds(1));
+        assertThat(codeStore.save("test@email.com", "hash4")).isTrue();
+        assertThat(codeStore.verify("test@email.com", "hash4"))
+                .isEqualTo(VerificationResultEnum.VERIFIED);
+    }
+
+    @Test
+    @DisplayName("verify, purgeExpired - 유효 시간이 지난 인증번호는 만료되고 지워짐")
+    void verify_Expired_Test() {
+        // Given
+        codeStore.save("test@email.com", "hash1");
+        jdbcTemplate.update("UPDATE verification_codes SET expires_at = ?",
+                LocalDateTime.now().minusSeconds(1));
+
+        // When
+        VerificationResultEnum result = codeStore.verify("test@email.com", "hash1");
+        ((TableVerificationCodeStore) codeStore).purgeExpired();
+
+        // Then
+        assertThat(result).isEqualTo(VerificationResultEnum.EXPIRED);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM verification_codes",
+                Long.class)).isZero();
+    }
+}
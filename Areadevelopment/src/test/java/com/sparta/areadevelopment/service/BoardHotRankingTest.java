@@ -0,0 +1,186 @@
+package com.sparta.areadevelopment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.sparta.areadevelopment.dto.BoardScoreDto;
+import com.sparta.areadevelopment.event.BoardDeletedEvent;
+import com.sparta.areadevelopment.event.BoardHitsFlushedEvent;
+import com.sparta.areadevelopment.event.BoardLikeChangedEvent;
+import com.sparta.areadevelopment.event.CommentCountChangedEvent;
+import com.sparta.areadevelopment.repository.BoardRepository;
+import com.sparta.areadevelopment.service.BoardHotRanking.HotBoard;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class BoardHotRankingTest {
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    @Mock
+    private BoardHitCounter boardHitCounter;
+
+    @Mock
+    private LikeCountAggregator likeCountAggregator;
+
+    private BoardHotRanking boardHotRanking;
+
+    @BeforeEach
+    void setUp() {
+        boardHotRanking = new BoardHotRanking(boardRepository, boardHitCounter,
+                likeCountAggregator, 1.8, 1.0, 2.0, 0.5, 72, 100, 0, 100, 600000);
+    }
+
+    @Test
+    @DisplayName("score - 반응이 같으면 오래된 게시글일수록 점수가 낮음")
+    void score_Decay_Test() {
+        // When
+        double fresh = boardHotRanking.score(10, 2, 100, 1);
+        double old = boardHotRanking.score(10, 2, 100, 24);
+        double popularOld = boardHotRanking.score(2000, 200, 10000, 24);
+
+        // Then
+        assertThat(fresh).isGreaterThan(old);
+        assertThat(popularOld).isGreaterThan(fresh);
+        assertThat(boardHotRanking.score(0, 0, 0, 0)).isZero();
+    }
+
+    @Test
+    @DisplayName("findAfter - 점수순으로 커서 다음 게시글 조회")
+    void findAfter_Success_Test() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        given(boardRepository.findScoreCandidates(any(), anyLong(), any())).willReturn(List.of(
+                new BoardScoreDto(1L, 1L, 0L, now.minusHours(30), 0L),
+                new BoardScoreDto(2L, 20L, 100L, now.minusHours(1), 5L),
+                new BoardScoreDto(3L, 5L, 10L, now.minusHours(2), 1L),
+                new BoardScoreDto(4L, 0L, 0L, now, 0L)));
+        given(boardHitCounter.getPendingHits(anyLong())).willReturn(0L);
+        boardHotRanking.refresh();
+
+        // When
+        List<HotBoard> first = boardHotRanking.findAfter(null, null, 2);
+        HotBoard last = first.get(1);
+        List<HotBoard> second = boardHotRanking.findAfter(last.getScore(), last.getBoardId(), 2);
+
+        // Then
+        assertThat(first).extracting(HotBoard::getBoardId).containsExactly(2L, 3L);
+        assertThat(second).extracting(HotBoard::getBoardId).containsExactly(1L, 4L);
+    }
+
+    @Test
+    @DisplayName("findAfter - 처음 계산하기 전에는 요청 스레드에서 계산하지 않고 빈 목록")
+    void findAfter_Before_Refresh_Test() {
+        // When
+        List<HotBoard> result = boardHotRanking.findAfter(null, null, 10);
+
+        // Then
+        assertThat(result).isEmpty();
+        verify(boardRepository, never()).findScoreCandidates(any(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("findAfter - 스냅샷에 없는 커서는 그 다음 순위부터 조회")
+    void findAfter_Missing_Cursor_Test() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        given(boardRepository.findScoreCandidates(any(), anyLong(), any())).willReturn(List.of(
+                new BoardScoreDto(1L, 1L, 0L, now.minusHours(30), 0L),
+                new BoardScoreDto(2L, 20L, 100L, now.minusHours(1), 5L),
+                new BoardScoreDto(4L, 0L, 0L, now, 0L)));
+        given(boardHitCounter.getPendingHits(anyLong())).willReturn(0L);
+        boardHotRanking.refresh();
+        double score = boardHotRanking.findAfter(null, null, 1).get(0).getScore();
+
+        // When - 2번과 점수가 같고 고유번호가 큰 게시글(스냅샷에 없음) 다음부터
+        List<HotBoard> after = boardHotRanking.findAfter(score, 3L, 10);
+
+        // Then
+        assertThat(after).extracting(HotBoard::getBoardId).containsExactly(2L, 1L, 4L);
+    }
+
+    @Test
+    @DisplayName("refresh - 후보를 다시 조회하지 않고 좋아요/댓글/조회수 증감량으로 점수 갱신")
+    void refresh_Incremental_Test() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        given(boardRepository.findScoreCandidates(any(), anyLong(), any())).willReturn(List.of(
+                new BoardScoreDto(1L, 1L, 0L, now.minusHours(1), 0L),
+                new BoardScoreDto(2L, 20L, 100L, now.minusHours(1), 5L)));
+        given(boardHitCounter.getPendingHits(anyLong())).willReturn(0L);
+        boardHotRanking.refresh();
+
+        // When
+        boardHotRanking.onBoardLikeChanged(new BoardLikeChangedEvent(1L, 30L));
+        boardHotRanking.onCommentCountChanged(new CommentCountChangedEvent(1L, 5L));
+        boardHotRanking.onBoardHitsFlushed(new BoardHitsFlushedEvent(Map.of(1L, 1000L)));
+        boardHotRanking.refresh();
+
+        // Then
+        assertThat(boardHotRanking.findAfter(null, null, 2)).extracting(HotBoard::getBoardId)
+                .containsExactly(1L, 2L);
+        verify(boardRepository, times(1)).findScoreCandidates(any(), anyLong(), any());
+        verify(boardRepository, never()).findScoreCandidatesByIds(any(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("refresh - 후보가 아닌 게시글에 반응이 생기면 그 게시글만 조회해 후보에 추가")
+    void refresh_Newly_Active_Test() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        given(boardRepository.findScoreCandidates(any(), anyLong(), any())).willReturn(List.of(
+                new BoardScoreDto(1L, 1L, 0L, now.minusHours(1), 0L)));
+        given(boardRepository.findScoreCandidatesByIds(eq(List.of(5L)), any(), anyLong()))
+                .willReturn(List.of(new BoardScoreDto(5L, 10L, 0L, now.minusHours(1), 0L)));
+        given(boardHitCounter.getPendingHits(anyLong())).willReturn(0L);
+        boardHotRanking.refresh();
+
+        // When
+        boardHotRanking.onBoardLikeChanged(new BoardLikeChangedEvent(5L, 1L));
+        boardHotRanking.refresh();
+        boardHotRanking.refresh();
+
+        // Then
+        assertThat(boardHotRanking.findAfter(null, null, 10)).extracting(HotBoard::getBoardId)
+                .containsExactly(5L, 1L);
+        verify(boardRepository, times(1)).findScoreCandidatesByIds(any(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("refresh - 후보를 불러오는 동안 받은 증감량과 삭제를 불러온 후보에 다시 적용")
+    void refresh_Replay_During_Load_Test() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        given(boardRepository.findScoreCandidates(any(), anyLong(), any())).willAnswer(load -> {
+            boardHotRanking.onBoardLikeChanged(new BoardLikeChangedEvent(1L, 100L));
+            boardHotRanking.onBoardDeleted(new BoardDeletedEvent(List.of(3L)));
+            return List.of(
+                    new BoardScoreDto(1L, 1L, 0L, now.minusHours(1), 0L),
+                    new BoardScoreDto(2L, 20L, 0L, now.minusHours(1), 0L),
+                    new BoardScoreDto(3L, 50L, 0L, now.minusHours(1), 0L));
+        });
+        given(boardHitCounter.getPendingHits(anyLong())).willReturn(0L);
+
+        // When
+        boardHotRanking.refresh();
+
+        // Then
+        assertThat(boardHotRanking.findAfter(null, null, 10)).extracting(HotBoard::getBoardId)
+                .containsExactly(1L, 2L);
+    }
+}
@@ -0,0 +1,162 @@
+package com.sparta.areadevelopment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+
+import com.sparta.areadevelopment.entity.Board;
+import com.sparta.areadevelopment.enums.LikeTypeEnum;
+import com.sparta.areadevelopment.event.BoardCreatedEvent;
+import com.sparta.areadevelopment.event.BoardDeletedEvent;
+import com.sparta.areadevelopment.event.BoardLikeChangedEvent;
+import com.sparta.areadevelopment.repository.BoardRepository;
+import com.sparta.areadevelopment.service.BoardLikeRanking.RankedBoard;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+@ExtendWith(MockitoExtension.class)
+class BoardLikeRankingTest {
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    @Mock
+    private LikeCountAggregator likeCountAggregator;
+
+    private Board board(long id, long likeCount) {
+        Board board = Mockito.mock(Board.class);
+        given(board.getId()).willReturn(id);
+        given(board.getLikeCount()).willReturn(likeCount);
+        return board;
+    }
+
+    // (고유번호, 좋아요 수) 쌍으로 DB 상위 게시글을 만들고 순위를 불러옵니다.
+    private BoardLikeRanking reconciled(int capacity, boolean hasNext, long... idAndLikes) {
+        List<Board> boards = new ArrayList<>();
+        for (int i = 0; i < idAndLikes.length; i += 2) {
+            boards.add(board(idAndLikes[i], idAndLikes[i + 1]));
+        }
+        given(boardRepository.findAllByDeletedAtIsNullOrderByLikeCountDescIdDesc(any()))
+                .willReturn(new SliceImpl<>(boards, PageRequest.of(0, capacity), hasNext));
+        given(likeCountAggregator.withFlushPaused(any()))
+                .willAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+        BoardLikeRanking ranking = new BoardLikeRanking(boardRepository, likeCountAggregator,
+                capacity);
+        ranking.reconcile();
+        return ranking;
+    }
+
+    private List<Long> ids(List<RankedBoard> ranked) {
+        return ranked.stream().map(RankedBoard::getBoardId).toList();
+    }
+
+    @Test
+    @DisplayName("findAfter - 좋아요 수, 고유번호 내림차순으로 커서 다음 게시글 조회")
+    void findAfter_Success_Test() {
+        // Given
+        BoardLikeRanking ranking = reconciled(10, false, 1, 5, 2, 3, 3, 3, 4, 0);
+
+        // When
+        List<RankedBoard> first = ranking.findAfter(null, null, 2);
+        List<RankedBoard> second = ranking.findAfter(3L, 3L, 2);
+
+        // Then
+        assertThat(ids(first)).containsExactly(1L, 3L);
+        assertThat(ids(second)).containsExactly(2L, 4L);
+        assertThat(ranking.findAfter(3L, 2L, 2)).isNull();
+    }
+
+    @Test
+    @DisplayName("onBoardLikeChanged - 좋아요 증감에 따라 순위 변경")
+    void onBoardLikeChanged_Reorder_Test() {
+        // Given
+        BoardLikeRanking ranking = reconciled(10, false, 1, 5, 2, 3, 3, 1);
+
+        // When
+        ranking.onBoardLikeChanged(new BoardLikeChangedEvent(3L, 1L));
+        ranking.onBoardLikeChanged(new BoardLikeChangedEvent(3L, 1L));
+        ranking.onBoardLikeChanged(new BoardLikeChangedEvent(3L, 1L));
+        ranking.onBoardLikeChanged(new BoardLikeChangedEvent(1L, -1L));
+
+        // Then
+        List<RankedBoard> ranked = ranking.findRange(0, 3);
+        assertThat(ids(ranked)).containsExactly(3L, 1L, 2L);
+        assertThat(ranked.get(0).getLikeCount()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("onBoardCreated, onBoardDeleted - 작성된 게시글 추가, 삭제된 게시글 제외")
+    void onBoardCreated_Deleted_Test() {
+        // Given
+        BoardLikeRanking ranking = reconciled(10, false, 1, 5, 2, 0);
+
+        // When
+        ranking.onBoardCreated(new BoardCreatedEvent(7L, 1L));
+        ranking.onBoardDeleted(new BoardDeletedEvent(List.of(1L)));
+
+        // Then
+        assertThat(ids(ranking.findRange(0, 2))).containsExactly(7L, 2L);
+    }
+
+    @Test
+    @DisplayName("DB 에 더 많은 게시글이 있으면 마지막 순위 밖으로 밀려난 게시글은 보관하지 않음")
+    void truncated_Ranking_Test() {
+        // Given
+        BoardLikeRanking ranking = reconciled(3, true, 1, 5, 2, 3, 3, 2);
+
+        // When
+        ranking.onBoardCreated(new BoardCreatedEvent(9L, 1L));
+        ranking.onBoardLikeChanged(new BoardLikeChangedEvent(3L, -1L));
+
+        // Then
+        assertThat(ids(ranking.findRange(0, 2))).containsExactly(1L, 2L);
+        assertThat(ranking.findRange(0, 3)).isNull();
+        assertThat(ranking.findRange(2, 2)).isNull();
+    }
+
+    @Test
+    @DisplayName("reconcile - 반영 대기중인 증감량과 DB 조회 후 교체 전까지 받은 이벤트를 새 순위에 반영")
+    void reconcile_Pending_And_Replay_Test() {
+        // Given
+        BoardLikeRanking ranking = reconciled(10, false, 1, 5, 2, 3, 3, 1);
+        given(likeCountAggregator.getPendingDelta(eq(LikeTypeEnum.BOARD), anyLong()))
+                .willAnswer(invocation -> invocation.getArgument(1).equals(2L) ? 4L : 0L);
+        // DB 를 읽은 뒤 교체하기 전에 좋아요 이벤트를 받습니다.
+        willAnswer(invocation -> {
+            Object read = invocation.<Supplier<?>>getArgument(0).get();
+            ranking.onBoardLikeChanged(new BoardLikeChangedEvent(3L, 10L));
+            return read;
+        }).given(likeCountAggregator).withFlushPaused(any());
+
+        // When
+        ranking.reconcile();
+
+        // Then
+        List<RankedBoard> ranked = ranking.findRange(0, 3);
+        assertThat(ids(ranked)).containsExactly(3L, 2L, 1L);
+        assertThat(ranked).extracting(RankedBoard::getLikeCount).containsExactly(11L, 7L, 5L);
+    }
+
+    @Test
+    @DisplayName("순위를 불러오기 전에는 null 을 반환해 DB 에서 조회")
+    void not_Ready_Test() {
+        // Given
+        BoardLikeRanking ranking = new BoardLikeRanking(boardRepository, likeCountAggregator, 10);
+
+        // When - Then
+        assertThat(ranking.findAfter(null, null, 1)).isNull();
+        assertThat(ranking.findRange(0, 1)).isNull();
+    }
+}
@@ -0,0 +1,138 @@
+package com.sparta.areadevelopment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sparta.areadevelopment.config.SecondLevelCacheConfig;
+import com.sparta.areadevelopment.dto.BoardRequestDto;
+import com.sparta.areadevelopment.dto.BoardResponseDto;
+import com.sparta.areadevelopment.dto.CommentRequestDto;
+import com.sparta.areadevelopment.entity.Board;
+import com.sparta.areadevelopment.entity.User;
+import com.sparta.areadevelopment.repository.BoardRepository;
+import com.sparta.areadevelopment.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 게시글 2차 캐시 Test
+ * <p>
+ * 2차 캐시는 커밋 이후에 채워지므로 테스트 트랜잭션 없이 실행하고, 저장한 데이터는 테스트가 끝나면 지웁니다.
+ */
+@SpringBootTest
+class BoardSecondLevelCacheTest {
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private BoardHitCounter boardHitCounter;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // 통계는 전체 세션 공용이므로 주기적으로 JPA 조회를 하는 순위 갱신이 끼어들지 않게 합니다.
+    @MockBean
+    private BoardHotRanking boardHotRanking;
+
+    @MockBean
+    private BoardLikeRanking boardLikeRanking;
+
+    private Statistics statistics;
+
+    private User writer;
+    private Board board;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        writer = userRepository.save(new User("cacheUser1", "CacheUser", "aBcde123!56",
+                "cacheUser1@email.com", "writer"));
+        board = boardRepository.save(
+                new Board(writer, new BoardRequestDto("Test Title", "Test Content")));
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        boardHitCounter.flush();
+        jdbcTemplate.update("DELETE FROM comments WHERE board_id = ?", board.getId());
+        jdbcTemplate.update("DELETE FROM boards WHERE id = ?", board.getId());
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", writer.getId());
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    @DisplayName("findBoard - 두 번째 조회는 DB 를 거치지 않고 쿼리 캐시와 2차 캐시에서 조회 Test")
+    void findBoard_Cache_Hit_Test() {
+        // Given
+        boardService.findBoard(board.getId());
+        long firstStatements = statistics.getPrepareStatementCount();
+
+        // When
+        BoardResponseDto responseDto = boardService.findBoard(board.getId());
+
+        // Then - 첫 조회는 게시글 조회 1, 두 번째 조회는 0 이고 조회수는 반영 대기중인 값을 더합니다.
+        assertThat(responseDto.getTitle()).isEqualTo("Test Title");
+        assertThat(responseDto.getHits()).isEqualTo(2L);
+        assertThat(firstStatements).isEqualTo(1L);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(firstStatements);
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1L);
+        assertThat(statistics.getDomainDataRegionStatistics(SecondLevelCacheConfig.BOARD_REGION)
+                .getHitCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("findBoard - 조회수를 반영하면 게시글을 캐시에서 지우고, 다음 조회는 DB 의 조회수로 다시 캐시 Test")
+    void findBoard_After_Hits_Flush_Test() {
+        // Given
+        boardService.findBoard(board.getId());
+
+        // When
+        boardHitCounter.flush();
+        statistics.clear();
+        BoardResponseDto responseDto = boardService.findBoard(board.getId());
+
+        // Then - 게시글을 DB 에서 한 번 다시 읽고, 읽은 조회수(1)에 대기중인 1 을 더합니다.
+        assertThat(responseDto.getHits()).isEqualTo(2L);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1L);
+        assertThat(statistics.getDomainDataRegionStatistics(SecondLevelCacheConfig.BOARD_REGION)
+                .getHitCount()).isZero();
+        assertThat(entityManagerFactory.getCache().contains(Board.class, board.getId())).isTrue();
+    }
+
+    @Test
+    @DisplayName("addComment - 댓글 수 증가 후 캐시된 게시글을 다시 조회 Test")
+    void findBoard_After_Add_Comment_Test() {
+        // Given
+        boardService.findBoard(board.getId());
+
+        // When
+        commentService.addComment(writer, board.getId(), new CommentRequestDto("Test Comment"));
+        BoardResponseDto responseDto = boardService.findBoard(board.getId());
+
+        // Then
+        assertThat(responseDto.getCommentCount()).isEqualTo(1L);
+    }
+}
@@ -4,12 +4,16 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.sparta.areadevelopment.dto.BoardRequestDto;
 import com.sparta.areadevelopment.dto.BoardResponseDto;
+import com.sparta.areadevelopment.dto.CommentResponseDto;
+import com.sparta.areadevelopment.dto.CursorPageResponseDto;
 import com.sparta.areadevelopment.entity.Board;
 import com.sparta.areadevelopment.entity.Comment;
 import com.sparta.areadevelopment.entity.User;
+import com.sparta.areadevelopment.enums.ContentModeEnum;
 import com.sparta.areadevelopment.repository.BoardRepository;
 import com.sparta.areadevelopment.repository.CommentRepository;
 import com.sparta.areadevelopment.repository.UserRepository;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 import org.junit.jupiter.api.BeforeAll;
@@ -21,6 +25,8 @@ import org.junit.jupiter.api.TestMethodOrder;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -48,6 +54,9 @@ public class BoardServiceIntegrationTest {
     @Autowired
     private CommentRepository commentRepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private User testUser1;
     private User testUser2;
 
@@ -191,20 +200,20 @@ public class BoardServiceIntegrationTest {
             this.createdCommentInBoardByUser(board, testUser2);
         }
 
-        List<Comment> commentList = commentRepository.findByBoardIdAndDeletedAtIsNull(
-                boardId);
+        List<Long> commentIds = commentRepository.findComments(boardId, PageRequest.of(0, 10))
+                .map(CommentResponseDto::getId).getContent();
 
         // When
         boardService.deleteBoard(testUser1, boardId);
 
         // Then
         assertThat(board.getDeletedAt()).isNotNull();
-        assertThat(commentList.get(0).getDeletedAt()).isNotNull();
-        assertThat(commentList.get(1).getDeletedAt()).isNotNull();
-        assertThat(commentList.get(2).getDeletedAt()).isNotNull();
-        assertThat(commentList.get(3).getDeletedAt()).isNotNull();
-        assertThat(commentList.get(4).getDeletedAt()).isNotNull();
-        assertThat(commentList.get(5).getDeletedAt()).isNotNull();
+        // 댓글은 UPDATE 문으로 삭제되므로 DB 에서 다시 불러옵니다.
+        List<Comment> commentList = commentRepository.findAllById(commentIds);
+        assertThat(commentList).hasSize(6);
+        assertThat(commentList).allSatisfy(
+                comment -> assertThat(comment.getDeletedAt()).isNotNull());
+        assertThat(commentRepository.findComments(boardId, PageRequest.of(0, 10))).isEmpty();
     }
 
     @Test
@@ -215,7 +224,8 @@ public class BoardServiceIntegrationTest {
         this.createdAndSoftDeleteBoard(testUser1);
 
         // When
-        List<BoardResponseDto> boardList = boardService.findAllBoard();
+        List<BoardResponseDto> boardList = new ArrayList<>();
+        boardService.streamAllBoard(boardList::add);
 
         // Then
         assertThat(boardList).hasSize(20);
@@ -242,6 +252,47 @@ public class BoardServiceIntegrationTest {
         assertThat(boardList1.get(0).getCreatedAt()).isAfter(boardList2.get(0).getCreatedAt());
     }
 
+    @Test
+    @DisplayName("findRecentlyFeed - Success Test")
+    void findRecentlyFeed_Success_Test() {
+        // Given
+        this.createdTwentyBoard(testUser1);
+
+        // When
+        CursorPageResponseDto<BoardResponseDto> first = boardService.findRecentlyFeed(null,
+                ContentModeEnum.FULL);
+        CursorPageResponseDto<BoardResponseDto> second = boardService.findRecentlyFeed(
+                first.getNextCursor(), ContentModeEnum.FULL);
+
+        // Then
+        assertThat(first.getContent()).hasSize(10);
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(second.getContent()).hasSize(10);
+        assertThat(second.getContent()).extracting(BoardResponseDto::getId)
+                .doesNotContainAnyElementsOf(
+                        first.getContent().stream().map(BoardResponseDto::getId).toList());
+        assertThat(first.getContent().get(9).getId())
+                .isGreaterThan(second.getContent().get(0).getId());
+    }
+
+    @Test
+    @DisplayName("findRecentlyFeed - SUMMARY 모드는 내용 미리보기 Success Test")
+    void findRecentlyFeed_Summary_Success_Test() {
+        // Given
+        String content = "a".repeat(150);
+        boardRepository.save(new Board(testUser1, new BoardRequestDto("Long Title", content)));
+
+        // When
+        BoardResponseDto summary = boardService.findRecentlyFeed(null, ContentModeEnum.SUMMARY)
+                .getContent().get(0);
+        BoardResponseDto full = boardService.findRecentlyFeed(null, ContentModeEnum.FULL)
+                .getContent().get(0);
+
+        // Then
+        assertThat(summary.getContent()).hasSize(ContentModeEnum.SUMMARY.getLength());
+        assertThat(full.getContent()).isEqualTo(content);
+    }
+
     @Test
     @DisplayName("findAllLikesPagination - Success Test")
     void findAllLikesPagination_Success_Test() {
@@ -249,11 +300,9 @@ public class BoardServiceIntegrationTest {
         int page = 0;
         Random random = new Random();
         for (int i = 0; i < 12; i++) {
-            Board board = new Board(testUser1, requestDto);
-            for (int j = 0; j < random.nextInt(8); j++) {
-                boardRepository.incrementLikeCount(board.getId());
-            }
-            boardRepository.save(board);
+            Board board = boardRepository.save(new Board(testUser1, requestDto));
+            jdbcTemplate.update("UPDATE boards SET like_count = ? WHERE id = ?",
+                    random.nextInt(8), board.getId());
         }
 
         // When
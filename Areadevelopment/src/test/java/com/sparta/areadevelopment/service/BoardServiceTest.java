@@ -3,11 +3,15 @@ package com.sparta.areadevelopment.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.sparta.areadevelopment.dto.BoardRequestDto;
+import com.sparta.areadevelopment.dto.BoardResponseDto;
 import com.sparta.areadevelopment.entity.Board;
 import com.sparta.areadevelopment.entity.User;
+import com.sparta.areadevelopment.enums.ContentModeEnum;
+import com.sparta.areadevelopment.enums.LikeTypeEnum;
 import com.sparta.areadevelopment.repository.BoardRepository;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
@@ -27,6 +31,34 @@ public class BoardServiceTest {
     @Mock
     private BoardRepository boardRepository;
 
+    @Mock
+    private BoardHitCounter boardHitCounter;
+
+    @Mock
+    private LikeCountAggregator likeCountAggregator;
+
+    @Test
+    @DisplayName("findBoard - Pending Hits Success Test")
+    void findBoard_Pending_Hits_Success_Test() {
+        // Given
+        Long boardId = 1L;
+        Board board = Mockito.mock(Board.class);
+        given(board.getId()).willReturn(boardId);
+        given(board.getHits()).willReturn(5L);
+        given(board.getLikeCount()).willReturn(1L);
+        given(boardRepository.findByIdAndDeletedAtIsNull(boardId)).willReturn(Optional.of(board));
+        given(boardHitCounter.getPendingHits(boardId)).willReturn(3L);
+        given(likeCountAggregator.getPendingDelta(LikeTypeEnum.BOARD, boardId)).willReturn(-2L);
+
+        // When
+        BoardResponseDto responseDto = boardService.findBoard(boardId);
+
+        // Then - 게시글의 카운터(5, 1)에 반영 대기중인 값을 더하고, 좋아요 수는 음수로 보이지 않습니다.
+        verify(boardHitCounter).increase(boardId);
+        assertThat(responseDto.getHits()).isEqualTo(8L);
+        assertThat(responseDto.getLikeCount()).isZero();
+    }
+
     @Test
     @DisplayName("findBoard - Board Not Found Fail Test")
     void findBoard_Not_Found_Fail_Test() {
@@ -43,6 +75,21 @@ public class BoardServiceTest {
         assertThat(exception.getMessage()).isEqualTo("해당 게시글은 존재하지 않습니다.");
     }
 
+    @Test
+    @DisplayName("findRecentlyFeed - Invalid Cursor Fail Test")
+    void findRecentlyFeed_Invalid_Cursor_Fail_Test() {
+        // Given
+        String cursor = "invalid-cursor";
+
+        // When
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> {
+            boardService.findRecentlyFeed(cursor, ContentModeEnum.FULL);
+        });
+
+        // Then
+        assertThat(exception.getMessage()).isEqualTo("잘못된 커서입니다.");
+    }
+
     @Test
     @DisplayName("updateBoard - Board Not Found Fail Test")
     void updateBoard_Not_Found_Fail_Test() {
@@ -0,0 +1,123 @@
+package com.sparta.areadevelopment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sparta.areadevelopment.dto.BoardRequestDto;
+import com.sparta.areadevelopment.dto.CommentRequestDto;
+import com.sparta.areadevelopment.dto.CommentResponseDto;
+import com.sparta.areadevelopment.entity.Board;
+import com.sparta.areadevelopment.entity.User;
+import com.sparta.areadevelopment.enums.ContentModeEnum;
+import com.sparta.areadevelopment.repository.BoardCacheEvictor;
+import com.sparta.areadevelopment.repository.BoardRepository;
+import com.sparta.areadevelopment.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+@Transactional
+class CommentCountRepairJobTest {
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private UserContentCleaner userContentCleaner;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private BoardCacheEvictor boardCacheEvictor;
+
+    private User writer;
+    private User commenter;
+    private Board board;
+
+    @BeforeEach
+    void setUp() {
+        writer = userRepository.save(new User("countWriter1", "CountWriter", "aBcde123!56",
+                "countWriter1@email.com", "writer"));
+        commenter = userRepository.save(new User("countUser11", "CountUser", "aBcde123!56",
+                "countUser11@email.com", "commenter"));
+        board = boardRepository.save(
+                new Board(writer, new BoardRequestDto("Test Title", "Test Content")));
+    }
+
+    @Test
+    @DisplayName("addComment, deleteComment - 게시글 댓글 수 갱신 Test")
+    void comment_Count_Test() {
+        // Given
+        CommentResponseDto first = commentService.addComment(commenter, board.getId(),
+                new CommentRequestDto("Test Comment"));
+        commentService.addComment(writer, board.getId(), new CommentRequestDto("Test Comment"));
+
+        // When
+        commentService.deleteComment(commenter.getId(), first.getId());
+
+        // Then
+        assertThat(findCommentCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("deleteContents - 탈퇴한 사용자가 남긴 댓글 수만큼 감소 Test")
+    void sign_Out_Comment_Count_Test() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            commentService.addComment(commenter, board.getId(),
+                    new CommentRequestDto("Test Comment"));
+        }
+        commentService.addComment(writer, board.getId(), new CommentRequestDto("Test Comment"));
+
+        // When
+        userContentCleaner.deleteContents(commenter.getId(), LocalDateTime.now());
+
+        // Then
+        assertThat(findCommentCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("repair - comments 테이블과 다른 댓글 수 보정 Test")
+    void repair_Test() {
+        // Given
+        commentService.addComment(commenter, board.getId(), new CommentRequestDto("Test Comment"));
+        // 보정 작업은 JdbcTemplate 으로 조회하므로 미리 INSERT 합니다.
+        boardRepository.flush();
+        jdbcTemplate.update("UPDATE boards SET comment_count = 7 WHERE id = ?", board.getId());
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        CommentCountRepairJob repairJob = new CommentCountRepairJob(jdbcTemplate,
+                transactionTemplate, boardCacheEvictor, meterRegistry);
+
+        // When
+        repairJob.repair();
+
+        // Then
+        assertThat(findCommentCount()).isEqualTo(1L);
+        assertThat(meterRegistry.get("board.comment-count.corrections").counter().count())
+                .isGreaterThanOrEqualTo(1.0);
+    }
+
+    // 피드 조회와 같은 쿼리로 DB 의 댓글 수를 읽습니다.
+    private Long findCommentCount() {
+        return boardRepository.findFeedByIds(List.of(board.getId()),
+                ContentModeEnum.FULL.getLength()).get(0).getCommentCount();
+    }
+}
@@ -0,0 +1,142 @@
+package com.sparta.areadevelopment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sparta.areadevelopment.dto.BoardRequestDto;
+import com.sparta.areadevelopment.dto.CommentRequestDto;
+import com.sparta.areadevelopment.dto.CommentResponseDto;
+import com.sparta.areadevelopment.dto.CursorPageResponseDto;
+import com.sparta.areadevelopment.entity.Board;
+import com.sparta.areadevelopment.entity.Comment;
+import com.sparta.areadevelopment.entity.User;
+import com.sparta.areadevelopment.repository.BoardRepository;
+import com.sparta.areadevelopment.repository.CommentRepository;
+import com.sparta.areadevelopment.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 댓글 조회/저장시 실행되는 쿼리 수를 Hibernate 통계로 확인합니다. 댓글 수가 늘어도 쿼리 수는 같아야 합니다.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class CommentQueryCountTest {
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    // 통계는 전체 세션 공용이므로 주기적으로 JPA 조회를 하는 순위 갱신이 끼어들지 않게 합니다.
+    @MockBean
+    private BoardHotRanking boardHotRanking;
+
+    @MockBean
+    private BoardLikeRanking boardLikeRanking;
+
+    private Statistics statistics;
+
+    private User writer;
+    private Board board;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class)
+                .getStatistics();
+        writer = userRepository.save(new User("queryCount1", "QueryCount", "aBcde123!56",
+                "queryCount1@email.com", "writer"));
+        board = boardRepository.save(
+                new Board(writer, new BoardRequestDto("Test Title", "Test Content")));
+    }
+
+    @Test
+    @DisplayName("getComments - 댓글 수와 상관없이 쿼리 1번 Test")
+    void getComments_Query_Count_Test() {
+        // Given
+        long fewComments = countGetCommentsQueries(3);
+        long manyComments = countGetCommentsQueries(30);
+
+        // Then
+        assertThat(fewComments).isEqualTo(1L);
+        assertThat(manyComments).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("updateComment - 게시글, 작성자를 조회하지 않음 Test")
+    void updateComment_Query_Count_Test() {
+        // Given
+        Comment comment = commentRepository.save(new Comment("Test Comment", board, writer));
+        clearPersistenceContext();
+
+        // When
+        CommentResponseDto responseDto = commentService.updateComment(writer.getId(),
+                comment.getId(), new CommentRequestDto("Update Comment"));
+
+        // Then
+        assertThat(responseDto.getBoardId()).isEqualTo(board.getId());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1L);
+        Comment updated = commentRepository.findByIdAndDeletedAtIsNull(comment.getId())
+                .orElseThrow();
+        assertThat(Hibernate.isInitialized(updated.getBoard())).isFalse();
+        assertThat(Hibernate.isInitialized(updated.getUser())).isFalse();
+    }
+
+    @Test
+    @DisplayName("saveAll - 댓글 INSERT 를 batch_size 만큼 모아서 실행 Test")
+    void saveAll_Batch_Insert_Test() {
+        // Given
+        clearPersistenceContext();
+        List<Comment> comments = IntStream.range(0, 100)
+                .mapToObj(i -> new Comment("Test Comment", board, writer)).toList();
+
+        // When
+        commentRepository.saveAll(comments);
+        long beforeFlush = statistics.getPrepareStatementCount();
+        entityManager.flush();
+
+        // Then - 고유번호를 미리 만들어 save 시점에는 INSERT 하지 않고, flush 때 하나의 INSERT 문을 50 개씩 모아 실행합니다.
+        // IDENTITY 였다면 save 마다 INSERT 문을 하나씩 실행해 100 이 됩니다.
+        assertThat(comments).allSatisfy(comment -> assertThat(comment.getId()).isNotNull());
+        assertThat(beforeFlush).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1L);
+    }
+
+    private long countGetCommentsQueries(int commentCount) {
+        for (int i = 0; i < commentCount; i++) {
+            commentRepository.save(new Comment("Test Comment", board, writer));
+        }
+        clearPersistenceContext();
+
+        CursorPageResponseDto<CommentResponseDto> page = commentService.getComments(
+                board.getId(), null, 100);
+        assertThat(page.getContent()).isNotEmpty();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void clearPersistenceContext() {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+}
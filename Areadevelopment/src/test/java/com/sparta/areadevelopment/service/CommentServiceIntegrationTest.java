@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import com.sparta.areadevelopment.dto.BoardRequestDto;
 import com.sparta.areadevelopment.dto.CommentRequestDto;
 import com.sparta.areadevelopment.dto.CommentResponseDto;
+import com.sparta.areadevelopment.dto.CursorPageResponseDto;
 import com.sparta.areadevelopment.entity.Board;
 import com.sparta.areadevelopment.entity.Comment;
 import com.sparta.areadevelopment.entity.User;
@@ -138,8 +139,8 @@ class CommentServiceIntegrationTest {
     }
 
     @Test
-    @DisplayName("getAllComments - Success Test")
-    void getAllComments_Success_Test() {
+    @DisplayName("getComments - Success Test")
+    void getComments_Success_Test() {
         // Given
         Long boardId = board.getId();
 
@@ -156,17 +157,29 @@ class CommentServiceIntegrationTest {
         this.createCommentAndSoftSoftDelete(testUser1, board);
 
         // When
-        List<CommentResponseDto> commentList = commentService.getAllComments(boardId);
+        CursorPageResponseDto<CommentResponseDto> firstPage = commentService.getComments(boardId,
+                null, 4);
+        CursorPageResponseDto<CommentResponseDto> secondPage = commentService.getComments(boardId,
+                firstPage.getNextCursor(), 4);
 
         // Then
-        assertThat(commentList).hasSize(6);
-        assertThat(commentList.get(0).getCreatedAt()).isAfter(commentList.get(1).getCreatedAt());
+        List<CommentResponseDto> commentList = firstPage.getContent();
+        assertThat(commentList).hasSize(4);
+        assertThat(firstPage.isHasNext()).isTrue();
+        assertThat(commentList.get(0).getCreatedAt())
+                .isAfterOrEqualTo(commentList.get(1).getCreatedAt());
         assertThat(commentList.get(0).getBoardId()).isEqualTo(boardId);
         assertThat(commentList.get(0).getContent()).isEqualTo("Test Comment");
         assertThat(commentList.get(0).getLikeCount()).isEqualTo(0L);
-        assertThat(commentList.get(0).getCreatedAt()).isNotNull();
         assertThat(commentList.get(0).getModifiedAt()).isNotNull();
 
+        // 삭제된 댓글은 제외하고 남은 2개
+        assertThat(secondPage.getContent()).hasSize(2);
+        assertThat(secondPage.isHasNext()).isFalse();
+        assertThat(secondPage.getNextCursor()).isNull();
+        assertThat(secondPage.getContent()).extracting(CommentResponseDto::getId)
+                .doesNotContainAnyElementsOf(
+                        commentList.stream().map(CommentResponseDto::getId).toList());
     }
 
     @Test
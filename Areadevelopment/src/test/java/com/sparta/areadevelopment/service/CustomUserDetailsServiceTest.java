@@ -0,0 +1,83 @@
+package com.sparta.areadevelopment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.sparta.areadevelopment.entity.CustomUserDetails;
+import com.sparta.areadevelopment.entity.User;
+import com.sparta.areadevelopment.event.UserChangedEvent;
+import com.sparta.areadevelopment.repository.UserRepository;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CustomUserDetailsServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private CustomUserDetailsService userDetailsService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        userDetailsService = new CustomUserDetailsService(userRepository, 100, 600);
+        user = new User("TestUser1234", "TestNickname", "password", "test@test.com", "info");
+    }
+
+    @Test
+    @DisplayName("loadUserByUsername - 두번째 조회부터는 캐시 사용 Success Test")
+    void loadUserByUsername_Cached_Success_Test() {
+        // Given
+        given(userRepository.findByUsername("TestUser1234")).willReturn(Optional.of(user));
+
+        // When
+        CustomUserDetails first = userDetailsService.loadUserByUsername("TestUser1234");
+        CustomUserDetails second = userDetailsService.loadUserByUsername("TestUser1234");
+
+        // Then
+        assertThat(second).isSameAs(first);
+        verify(userRepository, times(1)).findByUsername("TestUser1234");
+        assertThat(userDetailsService.getCache().stats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("onUserChanged - 유저 정보가 바뀌면 다시 조회")
+    void onUserChanged_Invalidate_Test() {
+        // Given
+        given(userRepository.findByUsername("TestUser1234")).willReturn(Optional.of(user));
+        userDetailsService.loadUserByUsername("TestUser1234");
+
+        // When
+        userDetailsService.onUserChanged(new UserChangedEvent("TestUser1234"));
+        userDetailsService.loadUserByUsername("TestUser1234");
+
+        // Then
+        verify(userRepository, times(2)).findByUsername("TestUser1234");
+    }
+
+    @Test
+    @DisplayName("loadUserByUsername - 로그아웃된 유저는 캐시하지 않음")
+    void loadUserByUsername_Expired_Not_Cached_Test() {
+        // Given
+        user.setExpired(true);
+        given(userRepository.findByUsername("TestUser1234")).willReturn(Optional.of(user));
+
+        // When
+        CustomUserDetails first = userDetailsService.loadUserByUsername("TestUser1234");
+        CustomUserDetails second = userDetailsService.loadUserByUsername("TestUser1234");
+
+        // Then
+        assertThat(first).isNull();
+        assertThat(second).isNull();
+        verify(userRepository, times(2)).findByUsername("TestUser1234");
+    }
+}
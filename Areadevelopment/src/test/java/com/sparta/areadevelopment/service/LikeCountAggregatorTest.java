@@ -0,0 +1,163 @@
+package com.sparta.areadevelopment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sparta.areadevelopment.dto.BoardRequestDto;
+import com.sparta.areadevelopment.entity.Board;
+import com.sparta.areadevelopment.entity.User;
+import com.sparta.areadevelopment.enums.LikeTypeEnum;
+import com.sparta.areadevelopment.event.BoardLikeChangedEvent;
+import com.sparta.areadevelopment.repository.BoardCacheEvictor;
+import com.sparta.areadevelopment.repository.BoardRepository;
+import com.sparta.areadevelopment.repository.LikeRepository;
+import com.sparta.areadevelopment.repository.UserRepository;
+import com.sparta.areadevelopment.util.TimeSortedIdGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+@Transactional
+class LikeCountAggregatorTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private LikeRepository likeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BoardCacheEvictor boardCacheEvictor;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    // 스케줄러가 돌리는 빈과 섞이지 않도록 테스트 전용 인스턴스를 사용합니다.
+    private LikeCountAggregator aggregator;
+
+    private User writer;
+    private User liker;
+    private Board board;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        aggregator = aggregator(1000);
+        writer = userRepository.save(new User("aggWriter1", "AggWriter", "aBcde123!56",
+                "aggWriter1@email.com", "writer"));
+        liker = userRepository.save(new User("aggLiker11", "AggLiker", "aBcde123!56",
+                "aggLiker11@email.com", "liker"));
+        // 집계기는 JdbcTemplate 으로 반영하므로 미리 INSERT 합니다.
+        board = boardRepository.saveAndFlush(
+                new Board(writer, new BoardRequestDto("Test Title", "Test Content")));
+    }
+
+    @Test
+    @DisplayName("flush - 모인 증감량을 한 번에 반영")
+    void flush_Test() {
+        // Given
+        aggregator.onBoardLikeChanged(new BoardLikeChangedEvent(board.getId(), 1L));
+        aggregator.onBoardLikeChanged(new BoardLikeChangedEvent(board.getId(), 1L));
+        aggregator.onBoardLikeChanged(new BoardLikeChangedEvent(board.getId(), -1L));
+        assertThat(aggregator.getPendingDelta(LikeTypeEnum.BOARD, board.getId())).isEqualTo(1L);
+        assertThat(meterRegistry.get("likes.aggregator.pending").gauge().value()).isEqualTo(3.0);
+
+        // When
+        aggregator.flush();
+
+        // Then
+        assertThat(boardRepository.findLikeCount(board.getId())).isEqualTo(1L);
+        assertThat(aggregator.getPendingDelta(LikeTypeEnum.BOARD, board.getId())).isZero();
+        assertThat(meterRegistry.get("likes.aggregator.pending").gauge().value()).isZero();
+        assertThat(meterRegistry.get("likes.aggregator.lag").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("reconcile - likes 테이블과 다른 좋아요 수 보정")
+    void reconcile_Test() {
+        // Given - 좋아요 내역은 있지만 증감량이 유실된 상태
+        likeRepository.insertBoardLike(TimeSortedIdGenerator.nextId(), liker.getId(),
+                board.getId(), LocalDateTime.now());
+
+        // When
+        aggregator.reconcile();
+
+        // Then
+        assertThat(boardRepository.findLikeCount(board.getId())).isEqualTo(1L);
+        assertThat(meterRegistry.get("likes.aggregator.corrections")
+                .tag("contentType", "board").counter().count()).isGreaterThanOrEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("reconcile - 지난 reconcile 이후 반영한 행은 훑는 구간 밖이어도 보정")
+    void reconcile_Flushed_Rows_Test() {
+        // Given - 구간은 가장 앞의 1 개만 훑고, 뒤에 만든 게시글에 좋아요를 반영한 뒤 좋아요 수가 어긋난 상태
+        aggregator = aggregator(1);
+        Board liked = boardRepository.saveAndFlush(
+                new Board(writer, new BoardRequestDto("Liked Title", "Liked Content")));
+        likeRepository.insertBoardLike(TimeSortedIdGenerator.nextId(), liker.getId(),
+                liked.getId(), LocalDateTime.now());
+        aggregator.onBoardLikeChanged(new BoardLikeChangedEvent(liked.getId(), 1L));
+        aggregator.flush();
+        jdbcTemplate.update("UPDATE boards SET like_count = 5 WHERE id = ?", liked.getId());
+
+        // When
+        aggregator.reconcile();
+        double corrections = meterRegistry.get("likes.aggregator.corrections")
+                .tag("contentType", "board").counter().count();
+        aggregator.reconcile();
+
+        // Then - 한 번 보정한 행은 다음 reconcile 에서 다시 세지 않습니다.
+        assertThat(boardRepository.findLikeCount(liked.getId())).isEqualTo(1L);
+        assertThat(corrections).isEqualTo(1.0);
+        assertThat(meterRegistry.get("likes.aggregator.corrections")
+                .tag("contentType", "board").counter().count()).isEqualTo(corrections);
+    }
+
+    @Test
+    @DisplayName("reconcile - 한 번에 reconcile-batch-size 개씩 돌아가며 보정")
+    void reconcile_Window_Test() {
+        // Given - 두 게시글 모두 좋아요 내역은 있지만 증감량이 유실된 상태
+        aggregator = aggregator(1);
+        Board other = boardRepository.saveAndFlush(
+                new Board(writer, new BoardRequestDto("Other Title", "Other Content")));
+        for (Board target : new Board[]{board, other}) {
+            likeRepository.insertBoardLike(TimeSortedIdGenerator.nextId(), liker.getId(),
+                    target.getId(), LocalDateTime.now());
+        }
+        long rows = boardRepository.count();
+
+        // When
+        aggregator.reconcile();
+        long correctedAtOnce = boardRepository.findLikeCount(board.getId())
+                + boardRepository.findLikeCount(other.getId());
+        for (long i = 1; i < rows; i++) {
+            aggregator.reconcile();
+        }
+
+        // Then
+        assertThat(correctedAtOnce).isLessThanOrEqualTo(1L);
+        assertThat(boardRepository.findLikeCount(board.getId())).isEqualTo(1L);
+        assertThat(boardRepository.findLikeCount(other.getId())).isEqualTo(1L);
+    }
+
+    private LikeCountAggregator aggregator(int reconcileBatchSize) {
+        return new LikeCountAggregator(jdbcTemplate, transactionTemplate, boardCacheEvictor,
+                meterRegistry, reconcileBatchSize);
+    }
+}
@@ -0,0 +1,101 @@
+package com.sparta.areadevelopment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sparta.areadevelopment.dto.BoardRequestDto;
+import com.sparta.areadevelopment.entity.Board;
+import com.sparta.areadevelopment.entity.User;
+import com.sparta.areadevelopment.repository.BoardRepository;
+import com.sparta.areadevelopment.repository.UserRepository;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 같은 사용자, 컨텐츠의 좋아요 토글 동시성 Test
+ * <p>
+ * 토글마다 각자의 트랜잭션이 커밋되어야 하므로 테스트 트랜잭션 없이 실행하고, 저장한 데이터는 테스트가 끝나면 지웁니다. 테스트 DB(H2)는 gap
+ * 잠금이 없어 MySQL(InnoDB, REPEATABLE READ)의 DELETE/INSERT 교착 상태는 재현되지 않으며, 여기서는 동시에 등록한 토글이 유니크 인덱스에
+ * 걸리는 경우와 행 잠금 대기를 확인합니다. 교착 상태의 재시도는 LikeServiceTest 에서 확인합니다.
+ */
+@SpringBootTest
+class LikeServiceConcurrencyTest {
+
+    @Autowired
+    private LikeService likeService;
+
+    @Autowired
+    private LikeCountAggregator likeCountAggregator;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User writer;
+    private User liker;
+    private Board board;
+
+    @BeforeEach
+    void setUp() {
+        writer = userRepository.save(new User("likeConWriter1", "LikeConWriter", "aBcde123!56",
+                "likeConWriter1@email.com", "writer"));
+        liker = userRepository.save(new User("likeConUser11", "LikeConUser", "aBcde123!56",
+                "likeConUser11@email.com", "liker"));
+        board = boardRepository.save(
+                new Board(writer, new BoardRequestDto("Test Title", "Test Content")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM likes WHERE content_id = ?", board.getId());
+        jdbcTemplate.update("DELETE FROM boards WHERE id = ?", board.getId());
+        jdbcTemplate.update("DELETE FROM users WHERE id IN (?, ?)", writer.getId(),
+                liker.getId());
+    }
+
+    @Test
+    @DisplayName("toggleLike - 동시에 토글해도 모두 성공하고 좋아요 수는 좋아요 내역과 같음")
+    void toggleLike_Concurrent_Test() throws Exception {
+        // Given
+        int toggles = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When
+        List<Future<?>> results = IntStream.range(0, toggles)
+                .<Future<?>>mapToObj(i -> executor.submit(() -> {
+                    start.await();
+                    return likeService.toggleLike(liker, "board", board.getId());
+                }))
+                .toList();
+        start.countDown();
+        for (Future<?> result : results) {
+            result.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        likeCountAggregator.flush();
+
+        // Then
+        Long likes = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM likes WHERE content_type = 'BOARD' AND content_id = ?",
+                Long.class, board.getId());
+        assertThat(likes).isBetween(0L, 1L);
+        assertThat(boardRepository.findLikeCount(board.getId())).isEqualTo(likes);
+    }
+}
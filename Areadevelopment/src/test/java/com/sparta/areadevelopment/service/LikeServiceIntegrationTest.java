@@ -0,0 +1,153 @@
+package com.sparta.areadevelopment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.sparta.areadevelopment.dto.BoardRequestDto;
+import com.sparta.areadevelopment.dto.LikeDto;
+import com.sparta.areadevelopment.dto.LikeResponseDto;
+import com.sparta.areadevelopment.dto.LikeStatusResponseDto;
+import com.sparta.areadevelopment.entity.Board;
+import com.sparta.areadevelopment.entity.Comment;
+import com.sparta.areadevelopment.entity.Like;
+import com.sparta.areadevelopment.entity.User;
+import com.sparta.areadevelopment.enums.LikeTypeEnum;
+import com.sparta.areadevelopment.repository.BoardRepository;
+import com.sparta.areadevelopment.repository.CommentRepository;
+import com.sparta.areadevelopment.repository.LikeRepository;
+import com.sparta.areadevelopment.repository.UserRepository;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@Transactional
+class LikeServiceIntegrationTest {
+
+    @Autowired
+    private LikeService likeService;
+
+    @Autowired
+    private LikeRepository likeRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User writer;
+    private User liker;
+    private Board board;
+
+    @BeforeEach
+    void setUp() {
+        writer = userRepository.save(new User("likeWriter1", "LikeWriter", "aBcde123!56",
+                "likeWriter1@email.com", "writer"));
+        liker = userRepository.save(new User("likeUser11", "LikeUser", "aBcde123!56",
+                "likeUser11@email.com", "liker"));
+        // 좋아요 등록은 네이티브 INSERT ... SELECT 로 boards 를 읽으므로 미리 INSERT 합니다.
+        board = boardRepository.saveAndFlush(
+                new Board(writer, new BoardRequestDto("Test Title", "Test Content")));
+    }
+
+    @Test
+    @DisplayName("toggleLike - 등록 후 다시 누르면 취소 Success Test")
+    void toggleLike_Board_Success_Test() {
+        // When
+        LikeResponseDto liked = likeService.toggleLike(liker, "board", board.getId());
+        LikeResponseDto unliked = likeService.toggleLike(liker, "board", board.getId());
+
+        // Then
+        assertThat(liked.isLiked()).isTrue();
+        assertThat(liked.getLikeCount()).isEqualTo(1L);
+        assertThat(unliked.isLiked()).isFalse();
+        assertThat(unliked.getLikeCount()).isEqualTo(0L);
+        assertThat(likeRepository.findByUserIdAndContentIdAndContentType(
+                liker.getId(), board.getId(), LikeTypeEnum.BOARD)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("toggleLike - 댓글 좋아요 Success Test")
+    void toggleLike_Comment_Success_Test() {
+        // Given
+        Comment comment = commentRepository.saveAndFlush(
+                new Comment("Test comment", board, writer));
+
+        // When
+        LikeResponseDto liked = likeService.toggleLike(liker, "comment", comment.getId());
+
+        // Then
+        assertThat(liked.isLiked()).isTrue();
+        assertThat(liked.getLikeCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("toggleLike - 본인 게시글 좋아요 Fail Test")
+    void toggleLike_Own_Content_Fail_Test() {
+        // When
+        Exception exception = assertThrows(IllegalArgumentException.class,
+                () -> likeService.toggleLike(writer, "board", board.getId()));
+
+        // Then
+        assertThat(exception.getMessage()).isEqualTo("본인이 작성한 컨텐츠에는 좋아요를 남길 수 없습니다.");
+        assertThat(boardRepository.findLikeCount(board.getId())).isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("toggleLike - 없는 게시글 좋아요 Fail Test")
+    void toggleLike_Not_Found_Fail_Test() {
+        // When - Then
+        assertThrows(IllegalArgumentException.class,
+                () -> likeService.toggleLike(liker, "board", -1L));
+    }
+
+    @Test
+    @DisplayName("findLikeStatuses - 여러 컨텐츠 좋아요 여부 한 번에 조회 Success Test")
+    void findLikeStatuses_Success_Test() {
+        // Given
+        Board other = boardRepository.save(
+                new Board(writer, new BoardRequestDto("Other Title", "Other Content")));
+        likeService.toggleLike(liker, "board", board.getId());
+
+        // When
+        List<LikeStatusResponseDto> statuses = likeService.findLikeStatuses(liker, List.of(
+                new LikeDto(board.getId(), "BOARD"),
+                new LikeDto(other.getId(), "board"),
+                // 같은 고유번호라도 타입이 다르면 구분합니다.
+                new LikeDto(board.getId(), "comment")));
+
+        // Then
+        assertThat(statuses).extracting(LikeStatusResponseDto::isLiked)
+                .containsExactly(true, false, false);
+        assertThat(statuses.get(0).getContentType()).isEqualTo("board");
+    }
+
+    @Test
+    @DisplayName("findLikeStatuses - 지원하지 않는 타입 Fail Test")
+    void findLikeStatuses_Invalid_Type_Fail_Test() {
+        // When - Then
+        assertThrows(IllegalArgumentException.class, () -> likeService.findLikeStatuses(liker,
+                List.of(new LikeDto(board.getId(), "user"))));
+    }
+
+    @Test
+    @DisplayName("Like - 같은 사용자, 컨텐츠의 좋아요 중복 저장 Fail Test")
+    void like_Unique_Constraint_Fail_Test() {
+        // Given
+        likeService.toggleLike(liker, "board", board.getId());
+
+        // When - Then
+        assertThrows(DataIntegrityViolationException.class,
+                () -> likeRepository.saveAndFlush(
+                        new Like(liker, board.getId(), LikeTypeEnum.BOARD)));
+    }
+}
@@ -0,0 +1,125 @@
+package com.sparta.areadevelopment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.sparta.areadevelopment.dto.LikeResponseDto;
+import com.sparta.areadevelopment.entity.User;
+import com.sparta.areadevelopment.enums.LikeTypeEnum;
+import com.sparta.areadevelopment.repository.BoardRepository;
+import com.sparta.areadevelopment.repository.CommentRepository;
+import com.sparta.areadevelopment.repository.LikeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class LikeServiceTest {
+
+    @Mock
+    private LikeRepository likeRepository;
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private LikeCountAggregator likeCountAggregator;
+
+    private LikeService likeService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        likeService = new LikeService(likeRepository, boardRepository, commentRepository,
+                eventPublisher, likeCountAggregator,
+                new TransactionTemplate(Mockito.mock(PlatformTransactionManager.class)));
+        user = Mockito.mock(User.class);
+        given(user.getId()).willReturn(1L);
+    }
+
+    @Test
+    @DisplayName("toggleLike - 교착 상태로 실패하면 새 트랜잭션으로 다시 시도")
+    void toggleLike_Deadlock_Retry_Test() {
+        // Given - MySQL 에서 동시에 토글한 DELETE 의 gap 잠금 때문에 INSERT 가 교착 상태로 실패한 경우
+        given(likeRepository.deleteLike(1L, 2L, LikeTypeEnum.BOARD)).willReturn(0);
+        given(likeRepository.insertBoardLike(anyLong(), any(), any(), any()))
+                .willThrow(new CannotAcquireLockException("Deadlock found"))
+                .willReturn(1);
+        given(boardRepository.findLikeCount(2L)).willReturn(0L);
+
+        // When
+        LikeResponseDto response = likeService.toggleLike(user, "board", 2L);
+
+        // Then
+        assertThat(response.isLiked()).isTrue();
+        assertThat(response.getLikeCount()).isEqualTo(1L);
+        verify(likeRepository, times(2)).deleteLike(1L, 2L, LikeTypeEnum.BOARD);
+        verify(eventPublisher, times(1)).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("toggleLike - 교착 상태가 계속되면 최대 시도 횟수 후 예외")
+    void toggleLike_Deadlock_Exhausted_Test() {
+        // Given
+        given(likeRepository.deleteLike(1L, 2L, LikeTypeEnum.BOARD))
+                .willThrow(new CannotAcquireLockException("Deadlock found"));
+
+        // When - Then
+        assertThrows(CannotAcquireLockException.class,
+                () -> likeService.toggleLike(user, "board", 2L));
+        verify(likeRepository, times(3)).deleteLike(1L, 2L, LikeTypeEnum.BOARD);
+    }
+
+    @Test
+    @DisplayName("toggleLike - 동시에 들어온 요청이 먼저 등록했으면 좋아요 상태를 돌려줌")
+    void toggleLike_Duplicate_Test() {
+        // Given
+        given(likeRepository.deleteLike(1L, 2L, LikeTypeEnum.BOARD)).willReturn(0);
+        given(likeRepository.insertBoardLike(anyLong(), any(), any(), any()))
+                .willThrow(new DuplicateKeyException("Duplicate entry"));
+        given(boardRepository.findLikeCount(2L)).willReturn(1L);
+
+        // When
+        LikeResponseDto response = likeService.toggleLike(user, "board", 2L);
+
+        // Then
+        assertThat(response.isLiked()).isTrue();
+        assertThat(response.getLikeCount()).isEqualTo(1L);
+        verify(eventPublisher, Mockito.never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("toggleLike - 유니크 인덱스가 아닌 제약 조건 위반은 그대로 예외")
+    void toggleLike_Other_Violation_Test() {
+        // Given
+        given(likeRepository.deleteLike(1L, 2L, LikeTypeEnum.BOARD)).willReturn(0);
+        given(likeRepository.insertBoardLike(anyLong(), any(), any(), any()))
+                .willThrow(new DataIntegrityViolationException("Data truncation"));
+
+        // When - Then
+        assertThrows(DataIntegrityViolationException.class,
+                () -> likeService.toggleLike(user, "board", 2L));
+    }
+}
@@ -0,0 +1,166 @@
+package com.sparta.areadevelopment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.icegreen.greenmail.configuration.GreenMailConfiguration;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.sparta.areadevelopment.entity.MailOutbox;
+import com.sparta.areadevelopment.enums.MailStatusEnum;
+import com.sparta.areadevelopment.repository.MailOutboxRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.mail.Address;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 메일 발송 대기열 Test
+ * <p>
+ * 실제 SMTP 서버 대신 GreenMail 로컬 SMTP 서버로 보냅니다. 발송 주기는 길게 잡고 dispatch 를 직접 호출합니다.
+ */
+@SpringBootTest(properties = {
+        "spring.mail.host=localhost",
+        "spring.mail.port=3025",
+        "spring.mail.properties.mail.smtp.starttls.enable=false",
+        "spring.mail.properties.mail.smtp.starttls.required=false",
+        "mail.outbox.dispatch-interval-ms=3600000",
+        "mail.outbox.max-attempts=2"
+})
+class MailOutboxServiceTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP)
+            .withConfiguration(GreenMailConfiguration.aConfig().withDisabledAuthentication());
+
+    @Autowired
+    private MailOutboxService mailOutboxService;
+
+    @Autowired
+    private MailOutboxRepository mailOutboxRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        mailOutboxRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("dispatch - 대기 메일을 한 번에 보내고 SENT 로 변경 Test")
+    void dispatch_Success_Test() throws MessagingException {
+        // Given
+        mailOutboxService.enqueue("user1@email.com", "인증번호 메일 전송", "인증번호 : 1234567");
+        mailOutboxService.enqueue("user2@email.com", "인증번호 메일 전송", "인증번호 : 2345678");
+        mailOutboxService.enqueue("user3@email.com", "인증번호 메일 전송", "인증번호 : 3456789");
+
+        // When
+        mailOutboxService.dispatch();
+
+        // Then
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertThat(received).hasSize(3);
+        assertThat(received[0].getSubject()).isEqualTo("인증번호 메일 전송");
+        assertThat(Arrays.stream(received)
+                .map(message -> GreenMailUtil.getAddressList(getRecipients(message))))
+                .containsExactlyInAnyOrder("user1@email.com", "user2@email.com", "user3@email.com");
+        assertThat(mailOutboxRepository.findAll()).allSatisfy(mail -> {
+            assertThat(mail.getStatus()).isEqualTo(MailStatusEnum.SENT);
+            assertThat(mail.getAttempts()).isEqualTo(1);
+            assertThat(mail.getSentAt()).isNotNull();
+            assertThat(mail.getContent()).isNull();
+        });
+    }
+
+    @Test
+    @DisplayName("dispatch - SMTP 서버 장애시 나중에 다시 보내고, 최대 시도 횟수를 넘으면 DEAD Test")
+    void dispatch_Retry_And_Dead_Test() {
+        // Given
+        greenMail.stop();
+        mailOutboxService.enqueue("user1@email.com", "인증번호 메일 전송", "인증번호 : 1234567");
+        double deadBefore = meterRegistry.counter("mail.outbox.dead").count();
+
+        // When - Then
+        mailOutboxService.dispatch();
+        MailOutbox retry = mailOutboxRepository.findAll().get(0);
+        assertThat(retry.getStatus()).isEqualTo(MailStatusEnum.PENDING);
+        assertThat(retry.getAttempts()).isEqualTo(1);
+        assertThat(retry.getLastError()).isNotBlank();
+        assertThat(retry.getNextAttemptAt()).isAfter(LocalDateTime.now().plusSeconds(20));
+
+        // 다시 보낼 시간이 되기 전에는 보내지 않습니다.
+        mailOutboxService.dispatch();
+        assertThat(mailOutboxRepository.findAll().get(0).getAttempts()).isEqualTo(1);
+
+        jdbcTemplate.update("UPDATE mail_outbox SET next_attempt_at = ?",
+                LocalDateTime.now().minusSeconds(1));
+        mailOutboxService.dispatch();
+        List<MailOutbox> mails = mailOutboxRepository.findAll();
+        assertThat(mails.get(0).getStatus()).isEqualTo(MailStatusEnum.DEAD);
+        assertThat(mails.get(0).getAttempts()).isEqualTo(2);
+        assertThat(mails.get(0).getContent()).isNull();
+        assertThat(meterRegistry.counter("mail.outbox.dead").count()).isEqualTo(deadBefore + 1);
+    }
+
+    @Test
+    @DisplayName("purge - 보관 기간이 지난 SENT, DEAD 메일만 지움 Test")
+    void purge_Test() {
+        // Given
+        mailOutboxService.enqueue("user1@email.com", "인증번호 메일 전송", "인증번호 : 1234567");
+        mailOutboxService.dispatch();
+        mailOutboxService.enqueue("user2@email.com", "인증번호 메일 전송", "인증번호 : 2345678");
+        mailOutboxService.enqueue("user3@email.com", "인증번호 메일 전송", "인증번호 : 3456789");
+        jdbcTemplate.update("UPDATE mail_outbox SET status = 'DEAD' WHERE recipient = ?",
+                "user3@email.com");
+        jdbcTemplate.update("UPDATE mail_outbox SET next_attempt_at = ?",
+                LocalDateTime.now().minusDays(8));
+
+        // When
+        mailOutboxService.purge();
+
+        // Then
+        assertThat(mailOutboxRepository.findAll())
+                .extracting(MailOutbox::getRecipient)
+                .containsExactly("user2@email.com");
+    }
+
+    @Test
+    @DisplayName("lease - batch 하나의 최대 발송 시간이 lease-seconds 보다 길면 lease 를 늘림 Test")
+    void lease_Test() {
+        // Given
+        Duration leaseSeconds = Duration.ofSeconds(60);
+
+        // When
+        Duration smallBatch = MailOutboxService.lease(leaseSeconds, 2, 5000, 5000, 5000);
+        Duration largeBatch = MailOutboxService.lease(leaseSeconds, 50, 5000, 5000, 5000);
+        Duration noTimeout = MailOutboxService.lease(leaseSeconds, 50, 5000, 0, 5000);
+
+        // Then - 5s + 50 * (5s + 5s)
+        assertThat(smallBatch).isEqualTo(leaseSeconds);
+        assertThat(largeBatch).isEqualTo(Duration.ofSeconds(505));
+        assertThat(noTimeout).isEqualTo(leaseSeconds);
+    }
+
+    private static Address[] getRecipients(MimeMessage message) {
+        try {
+            return message.getAllRecipients();
+        } catch (MessagingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.sparta.areadevelopment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.sparta.areadevelopment.dto.BoardResponseDto;
+import com.sparta.areadevelopment.dto.CursorPageResponseDto;
+import com.sparta.areadevelopment.entity.User;
+import com.sparta.areadevelopment.enums.ContentModeEnum;
+import com.sparta.areadevelopment.event.BoardCreatedEvent;
+import com.sparta.areadevelopment.repository.BoardRepository;
+import com.sparta.areadevelopment.repository.FollowRepository;
+import com.sparta.areadevelopment.repository.InMemoryTimelineStore;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TimelineServiceTest {
+
+    @Mock
+    private FollowRepository followRepository;
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    private TimelineService timelineService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        timelineService = new TimelineService(new InMemoryTimelineStore(100, 100),
+                followRepository, boardRepository);
+        user = Mockito.mock(User.class);
+        given(user.getId()).willReturn(1L);
+    }
+
+    private BoardResponseDto board(Long id) {
+        LocalDateTime now = LocalDateTime.now();
+        return new BoardResponseDto(id, "Test Title", "Test Content", 0L, 0L, 0L, now, now);
+    }
+
+    @Test
+    @DisplayName("getTimeline - 타임라인 순서대로 한 번에 조회 Success Test")
+    void getTimeline_Success_Test() {
+        // Given
+        given(followRepository.findFolloweeIds(1L)).willReturn(List.of(2L));
+        given(boardRepository.findTimelineBoardIds(any(), any()))
+                .willReturn(LongStream.rangeClosed(1, 12).boxed()
+                        .sorted((a, b) -> Long.compare(b, a)).toList());
+        given(boardRepository.findFeedByIds(any(), anyInt())).willAnswer(invocation -> {
+            List<Long> ids = invocation.getArgument(0);
+            // 순서가 섞여서 오고, 11번은 삭제된 게시글이라 조회되지 않음
+            return ids.stream().sorted().filter(id -> id != 11L).map(this::board).toList();
+        });
+
+        // When
+        CursorPageResponseDto<BoardResponseDto> page = timelineService.getTimeline(user, null, ContentModeEnum.FULL);
+
+        // Then
+        assertThat(page.getContent()).extracting(BoardResponseDto::getId)
+                .containsExactly(12L, 10L, 9L, 8L, 7L, 6L, 5L, 4L, 3L);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(page.getNextCursor()).isEqualTo("3");
+    }
+
+    @Test
+    @DisplayName("onBoardCreated - 팔로워의 타임라인에 게시글 추가")
+    void onBoardCreated_Fan_Out_Test() {
+        // Given
+        given(followRepository.findFolloweeIds(1L)).willReturn(List.of(2L));
+        given(boardRepository.findTimelineBoardIds(any(), any())).willReturn(List.of(5L));
+        given(boardRepository.findFeedByIds(any(), anyInt())).willAnswer(invocation -> {
+            List<Long> ids = invocation.getArgument(0);
+            return ids.stream().map(this::board).toList();
+        });
+        timelineService.getTimeline(user, null, ContentModeEnum.FULL);
+        given(followRepository.findFollowerIds(2L)).willReturn(List.of(1L, 3L));
+
+        // When
+        timelineService.onBoardCreated(new BoardCreatedEvent(6L, 2L));
+        CursorPageResponseDto<BoardResponseDto> page = timelineService.getTimeline(user, null, ContentModeEnum.FULL);
+
+        // Then
+        assertThat(page.getContent()).extracting(BoardResponseDto::getId)
+                .containsExactly(6L, 5L);
+        assertThat(page.isHasNext()).isFalse();
+        verify(followRepository, never()).findFolloweeIds(3L);
+    }
+}
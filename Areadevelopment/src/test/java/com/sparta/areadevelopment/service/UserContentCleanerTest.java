@@ -0,0 +1,170 @@
+package com.sparta.areadevelopment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sparta.areadevelopment.dto.BoardRequestDto;
+import com.sparta.areadevelopment.entity.Board;
+import com.sparta.areadevelopment.entity.Comment;
+import com.sparta.areadevelopment.entity.User;
+import com.sparta.areadevelopment.repository.BoardRepository;
+import com.sparta.areadevelopment.repository.CommentRepository;
+import com.sparta.areadevelopment.repository.UserRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+@Transactional
+class UserContentCleanerTest {
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User writer;
+    private User other;
+
+    @BeforeEach
+    void setUp() {
+        writer = userRepository.save(new User("cleanWriter1", "CleanWriter", "aBcde123!56",
+                "cleanWriter1@email.com", "writer"));
+        other = userRepository.save(new User("cleanOther11", "CleanOther", "aBcde123!56",
+                "cleanOther11@email.com", "other"));
+        Board otherBoard = boardRepository.save(
+                new Board(other, new BoardRequestDto("Other Title", "Other Content")));
+        for (int i = 0; i < 5; i++) {
+            Board board = boardRepository.save(
+                    new Board(writer, new BoardRequestDto("Test Title", "Test Content")));
+            commentRepository.save(new Comment("Test Comment", board, writer));
+            commentRepository.save(new Comment("Test Comment", otherBoard, writer));
+        }
+        commentRepository.save(new Comment("Other Comment", otherBoard, other));
+    }
+
+    @Test
+    @DisplayName("deleteContents - 기준 개수 이하면 바로 삭제 Test")
+    void deleteContents_Test() {
+        // Given
+        UserContentCleaner cleaner = cleaner(100, 2);
+
+        // When
+        boolean deleted = cleaner.deleteContents(writer.getId(), LocalDateTime.now());
+
+        // Then
+        assertThat(deleted).isTrue();
+        assertRemaining();
+    }
+
+    @Test
+    @DisplayName("deleteContents - 기준 개수보다 많으면 커밋 이후로 미룸 Test")
+    void deleteContents_Deferred_Test() {
+        // Given
+        UserContentCleaner cleaner = cleaner(10, 2);
+
+        // When
+        boolean deleted = cleaner.deleteContents(writer.getId(), LocalDateTime.now());
+
+        // Then
+        assertThat(deleted).isFalse();
+        assertThat(boardRepository.countByUserIdAndDeletedAtIsNull(writer.getId())).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("deleteInChunks - 나눠서 모두 삭제 Test")
+    void deleteInChunks_Test() {
+        // Given
+        UserContentCleaner cleaner = cleaner(10, 2);
+
+        // When
+        cleaner.deleteInChunks(writer.getId(), LocalDateTime.now());
+
+        // Then
+        assertRemaining();
+    }
+
+    @Test
+    @DisplayName("resumePending - 탈퇴한 지 grace 가 지났는데 남은 게시글/댓글만 이어서 삭제 Test")
+    void resumePending_Test() {
+        // Given - 커밋 이후 삭제가 실행되지 않은 채 한 시간이 지난 사용자와, 방금 탈퇴한 사용자
+        UserContentCleaner cleaner = cleaner(10, 2);
+        writer.softDelete();
+        other.softDelete();
+        userRepository.saveAllAndFlush(List.of(writer, other));
+        jdbcTemplate.update("UPDATE users SET deleted_at = ? WHERE id = ?",
+                LocalDateTime.now().minusHours(1), writer.getId());
+
+        // When
+        cleaner.resumePending();
+
+        // Then
+        assertRemaining();
+    }
+
+    @Test
+    @DisplayName("resumePending - 한 주기에 resume-max-chunks 개의 chunk 까지만 삭제 Test")
+    void resumePending_Max_Chunks_Test() {
+        // Given - 게시글 5개, 댓글 10개를 2개씩, 한 주기에 chunk 3개(빈 chunk 조회 포함)까지만 삭제
+        UserContentCleaner cleaner = cleaner(10, 2, 3);
+        writer.softDelete();
+        userRepository.saveAndFlush(writer);
+        jdbcTemplate.update("UPDATE users SET deleted_at = ? WHERE id = ?",
+                LocalDateTime.now().minusHours(1), writer.getId());
+
+        // When
+        cleaner.resumePending();
+        long boardsAfterFirst = boardRepository.countByUserIdAndDeletedAtIsNull(writer.getId());
+        long commentsAfterFirst = commentRepository.countByUserIdAndDeletedAtIsNull(
+                writer.getId());
+        cleaner.resumePending();
+        long commentsAfterSecond = commentRepository.countByUserIdAndDeletedAtIsNull(
+                writer.getId());
+        cleaner.resumePending();
+        cleaner.resumePending();
+
+        // Then - 두 번째 주기부터는 빈 게시글 chunk 를 확인하고 댓글 chunk 2개를 삭제합니다.
+        assertThat(boardsAfterFirst).isZero();
+        assertThat(commentsAfterFirst).isEqualTo(10L);
+        assertThat(commentsAfterSecond).isEqualTo(6L);
+        assertRemaining();
+    }
+
+    private UserContentCleaner cleaner(long asyncThreshold, int chunkSize) {
+        return cleaner(asyncThreshold, chunkSize, 100);
+    }
+
+    private UserContentCleaner cleaner(long asyncThreshold, int chunkSize, int resumeMaxChunks) {
+        return new UserContentCleaner(boardRepository, commentRepository, userRepository,
+                transactionTemplate, eventPublisher, asyncThreshold, chunkSize, 600,
+                resumeMaxChunks);
+    }
+
+    // 탈퇴한 사용자의 게시글/댓글만 삭제되고 다른 사용자의 것은 남아있어야 합니다.
+    private void assertRemaining() {
+        assertThat(boardRepository.countByUserIdAndDeletedAtIsNull(writer.getId())).isZero();
+        assertThat(commentRepository.countByUserIdAndDeletedAtIsNull(writer.getId())).isZero();
+        assertThat(boardRepository.countByUserIdAndDeletedAtIsNull(other.getId())).isEqualTo(1L);
+        assertThat(commentRepository.countByUserIdAndDeletedAtIsNull(other.getId())).isEqualTo(1L);
+    }
+}
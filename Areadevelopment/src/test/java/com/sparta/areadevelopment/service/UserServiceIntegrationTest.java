@@ -194,8 +194,11 @@ class UserServiceIntegrationTest {
         assertThat(testuser1.getExpired()).isTrue();
 
         assertThat(testuser1.getDeletedAt()).isNotNull();
-        assertThat(board.getDeletedAt()).isNotNull();
-        assertThat(comment.getDeletedAt()).isNotNull();
+        // 게시글/댓글은 UPDATE 문으로 삭제되므로 DB 에서 다시 불러옵니다.
+        assertThat(boardRepository.findById(board.getId()).orElseThrow().getDeletedAt())
+                .isNotNull();
+        assertThat(commentRepository.findById(comment.getId()).orElseThrow().getDeletedAt())
+                .isNotNull();
     }
 
     @Test
@@ -0,0 +1,83 @@
+package com.sparta.areadevelopment.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AsyncCacheLoaderTest {
+
+    @Test
+    @DisplayName("get - 동시에 요청해도 loader 는 키당 한 번만 실행되고, 호출한 스레드에서 실행됨")
+    void get_Concurrent_Load_Once_Test() throws Exception {
+        // Given
+        AsyncCache<Long, String> cache = Caffeine.newBuilder().buildAsync();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When
+        List<Future<String>> results = new ArrayList<>();
+        results.add(executor.submit(() -> AsyncCacheLoader.get(cache, 1L, key -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            await(release);
+            return Thread.currentThread().getName();
+        })));
+        loading.await(5, TimeUnit.SECONDS);
+        for (int i = 0; i < 7; i++) {
+            results.add(executor.submit(() -> AsyncCacheLoader.get(cache, 1L, key -> {
+                loads.incrementAndGet();
+                return "other";
+            })));
+        }
+        release.countDown();
+
+        // Then
+        String loadedBy = results.get(0).get(5, TimeUnit.SECONDS);
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(loadedBy);
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(loadedBy).startsWith("pool-");
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("get - loader 가 null 을 반환하거나 예외가 발생하면 캐시하지 않음")
+    void get_Null_And_Exception_Not_Cached_Test() {
+        // Given
+        AsyncCache<Long, String> cache = Caffeine.newBuilder().buildAsync();
+
+        // When
+        String loaded = AsyncCacheLoader.get(cache, 1L, key -> null);
+        assertThrows(IllegalArgumentException.class, () -> AsyncCacheLoader.get(cache, 2L, key -> {
+            throw new IllegalArgumentException("실패");
+        }));
+
+        // Then
+        assertThat(loaded).isNull();
+        assertThat(cache.synchronous().estimatedSize()).isZero();
+        assertThat(AsyncCacheLoader.get(cache, 2L, key -> "다시 조회")).isEqualTo("다시 조회");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
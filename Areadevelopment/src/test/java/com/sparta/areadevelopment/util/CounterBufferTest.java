@@ -0,0 +1,128 @@
+package com.sparta.areadevelopment.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CounterBufferTest {
+
+    @Test
+    @DisplayName("drain - 모인 증감량을 꺼내고 차감")
+    void drain_Test() {
+        // Given
+        CounterBuffer buffer = new CounterBuffer();
+        buffer.add(2L, 1L);
+        buffer.add(1L, 3L);
+        buffer.add(2L, 1L);
+
+        // When
+        Map<Long, Long> deltas = buffer.drain();
+
+        // Then
+        assertThat(deltas).containsExactly(Map.entry(1L, 3L), Map.entry(2L, 2L));
+        assertThat(buffer.get(1L)).isZero();
+        assertThat(buffer.drain()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("restore - 반영 실패한 증감량 복구")
+    void restore_Test() {
+        // Given
+        CounterBuffer buffer = new CounterBuffer();
+        buffer.add(1L, 5L);
+        Map<Long, Long> deltas = buffer.drain();
+        buffer.add(1L, 1L);
+
+        // When
+        buffer.restore(deltas);
+
+        // Then
+        assertThat(buffer.get(1L)).isEqualTo(6L);
+    }
+
+    @Test
+    @DisplayName("add, drain - 동시에 증가시켜도 누락되지 않음")
+    void concurrent_Add_Drain_Test() throws InterruptedException {
+        // Given
+        CounterBuffer buffer = new CounterBuffer();
+        int threads = 8;
+        int perThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        long[] drained = new long[1];
+
+        // When
+        for (int i = 0; i < threads; i++) {
+            executor.execute(() -> {
+                for (int j = 0; j < perThread; j++) {
+                    buffer.add((long) (j % 4), 1L);
+                }
+            });
+        }
+        executor.shutdown();
+        while (!executor.awaitTermination(1, TimeUnit.MILLISECONDS)) {
+            buffer.drain().values().forEach(delta -> drained[0] += delta);
+        }
+        buffer.drain().values().forEach(delta -> drained[0] += delta);
+
+        // Then
+        assertThat(drained[0]).isEqualTo((long) threads * perThread);
+    }
+
+    @Test
+    @DisplayName("drain - 증감이 없던 카운터는 다음 drain 에서 지워짐")
+    void drain_Removes_Idle_Counters_Test() {
+        // Given
+        CounterBuffer buffer = new CounterBuffer();
+        for (long id = 1; id <= 1000; id++) {
+            buffer.add(id, 1L);
+        }
+        buffer.drain();
+
+        // When
+        buffer.add(1L, 1L);
+        Map<Long, Long> deltas = buffer.drain();
+
+        // Then
+        assertThat(deltas).containsExactly(Map.entry(1L, 1L));
+        assertThat(buffer.size()).isEqualTo(1);
+        assertThat(buffer.drain()).isEmpty();
+        assertThat(buffer.drain()).isEmpty();
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("add, drain - 카운터를 지우는 동안 증가시켜도 누락되거나 두 번 세지 않음")
+    void concurrent_Add_Drain_With_Removal_Test() throws InterruptedException {
+        // Given
+        CounterBuffer buffer = new CounterBuffer();
+        int threads = 8;
+        int perThread = 50_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        long[] drained = new long[1];
+
+        // When - 고유번호를 넓게 흩어 drain 마다 증감이 없던 카운터가 지워지게 합니다.
+        for (int i = 0; i < threads; i++) {
+            int offset = i;
+            executor.execute(() -> {
+                for (int j = 0; j < perThread; j++) {
+                    buffer.add((long) ((j * 7 + offset) % 5_000), 1L);
+                }
+            });
+        }
+        executor.shutdown();
+        while (!executor.awaitTermination(1, TimeUnit.MILLISECONDS)) {
+            buffer.drain().values().forEach(delta -> drained[0] += delta);
+        }
+        buffer.drain().values().forEach(delta -> drained[0] += delta);
+
+        // Then
+        assertThat(drained[0]).isEqualTo((long) threads * perThread);
+        assertThat(buffer.drain()).isEmpty();
+        assertThat(buffer.size()).isZero();
+    }
+}
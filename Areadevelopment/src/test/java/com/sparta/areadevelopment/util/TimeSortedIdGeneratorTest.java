@@ -0,0 +1,89 @@
+package com.sparta.areadevelopment.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TimeSortedIdGeneratorTest {
+
+    @Test
+    @DisplayName("nextId - 생성 순서대로 증가하고 53 비트 이내")
+    void nextId_Test() {
+        // When
+        List<Long> ids = LongStream.range(0, 10_000)
+                .map(i -> TimeSortedIdGenerator.nextId()).boxed().toList();
+
+        // Then
+        assertThat(ids).isSorted().doesNotHaveDuplicates();
+        assertThat(ids).allSatisfy(id -> assertThat(id).isBetween(1L, (1L << 53) - 1));
+    }
+
+    @Test
+    @DisplayName("nextId - 여러 스레드에서 동시에 만들어도 중복 없음")
+    void nextId_Concurrent_Test() throws InterruptedException {
+        // Given
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When
+        for (int i = 0; i < 8; i++) {
+            executor.submit(() -> {
+                for (int j = 0; j < 5_000; j++) {
+                    ids.add(TimeSortedIdGenerator.nextId());
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(ids).hasSize(40_000);
+    }
+
+    @Test
+    @DisplayName("nextId - 시계가 뒤로 가도 기다리지 않고 마지막 시간부터 이어서 증가")
+    void nextId_Clock_Backwards_Test() {
+        // Given
+        long now = System.currentTimeMillis();
+        long last = TimeSortedIdGenerator.nextId(now);
+
+        // When - 1ms 에 만들 수 있는 개수(256)를 넘겨 만듭니다.
+        List<Long> ids = LongStream.range(0, 1_000)
+                .map(i -> TimeSortedIdGenerator.nextId(now - 10_000)).boxed().toList();
+
+        // Then
+        assertThat(ids).isSorted().doesNotHaveDuplicates();
+        assertThat(ids.get(0)).isGreaterThan(last);
+        assertThat(TimeSortedIdGenerator.toInstant(ids.get(ids.size() - 1)))
+                .isBetween(Instant.ofEpochMilli(now), Instant.ofEpochMilli(now + 10));
+    }
+
+    @Test
+    @DisplayName("toInstant - 고유번호에서 생성 시간 복원")
+    void toInstant_Test() {
+        // When
+        Instant createdAt = TimeSortedIdGenerator.toInstant(TimeSortedIdGenerator.nextId());
+
+        // Then
+        assertThat(Duration.between(createdAt, Instant.now()).abs())
+                .isLessThan(Duration.ofSeconds(1));
+    }
+
+    @Test
+    @DisplayName("setNodeId - 범위를 벗어난 노드 번호 Fail Test")
+    void setNodeId_Fail_Test() {
+        // When - Then
+        assertThrows(IllegalArgumentException.class, () -> TimeSortedIdGenerator.setNodeId(16));
+    }
+}